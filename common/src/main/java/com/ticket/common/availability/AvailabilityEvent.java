@@ -0,0 +1,45 @@
+package com.ticket.common.availability;
+
+/**
+ * 공연 매진/재고 복구 알림. concert-service 가 Redis 채널로 보내고 게이트웨이와 reservation-service 가 받는다.
+ * 채널은 유실될 수 있으므로 현재 매진 목록은 SOLD_OUT_SET 에도 함께 유지한다.
+ * 메시지 형식: "SOLD_OUT:{concertId}" / "RESTOCKED:{concertId}"
+ */
+public record AvailabilityEvent(Type type, long concertId) {
+
+    public static final String CHANNEL = "concert:availability";
+    public static final String SOLD_OUT_SET = "concert:sold-out";
+
+    public enum Type {
+        SOLD_OUT, RESTOCKED
+    }
+
+    public static AvailabilityEvent soldOut(long concertId) {
+        return new AvailabilityEvent(Type.SOLD_OUT, concertId);
+    }
+
+    public static AvailabilityEvent restocked(long concertId) {
+        return new AvailabilityEvent(Type.RESTOCKED, concertId);
+    }
+
+    public String encode() {
+        return type.name() + ":" + concertId;
+    }
+
+    // 형식이 맞지 않으면 null
+    public static AvailabilityEvent parse(String message) {
+        if (message == null) {
+            return null;
+        }
+        int separator = message.indexOf(':');
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            Type type = Type.valueOf(message.substring(0, separator));
+            return new AvailabilityEvent(type, Long.parseLong(message.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
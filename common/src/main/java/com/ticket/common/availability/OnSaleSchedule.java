@@ -0,0 +1,13 @@
+package com.ticket.common.availability;
+
+/**
+ * 판매 시작 예정 공연. concert-service 가 Redis sorted set(점수 = 판매 시작 epoch millis)에 올리고,
+ * 각 서비스는 판매 시작 전에 이 목록을 보고 해당 공연을 미리 데운다.
+ */
+public final class OnSaleSchedule {
+
+    public static final String KEY = "concert:on-sale";
+
+    private OnSaleSchedule() {
+    }
+}
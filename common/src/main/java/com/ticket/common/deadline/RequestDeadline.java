@@ -0,0 +1,59 @@
+package com.ticket.common.deadline;
+
+/**
+ * 게이트웨이가 찍어 보낸 요청 마감 시각(epoch millis)을 현재 스레드에 보관한다.
+ * 마감이 지난 요청은 큐 대기, 원격 호출, 락 대기, DB 쓰기 전에 값싸게 버린다.
+ */
+public final class RequestDeadline {
+
+    public static final String HEADER = "X-Request-Deadline";
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void set(Long deadlineMillis) {
+        if (deadlineMillis == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadlineMillis);
+        }
+    }
+
+    public static Long current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isExpired() {
+        return isExpired(CURRENT.get());
+    }
+
+    public static boolean isExpired(Long deadlineMillis) {
+        return deadlineMillis != null && System.currentTimeMillis() >= deadlineMillis;
+    }
+
+    // 마감이 없으면 cap 을, 있으면 cap 과 남은 시간 중 작은 값을 돌려준다.
+    public static long remainingMillis(long capMillis) {
+        Long deadline = CURRENT.get();
+        if (deadline == null) {
+            return capMillis;
+        }
+        return Math.max(0, Math.min(capMillis, deadline - System.currentTimeMillis()));
+    }
+
+    public static Long parse(String headerValue) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(headerValue.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
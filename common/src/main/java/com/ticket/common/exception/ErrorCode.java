@@ -8,12 +8,16 @@ public enum ErrorCode {
     // Common
     INVALID_INPUT_VALUE(400, "C001", "Invalid Input Value"),
     INTERNAL_SERVER_ERROR(500, "C002", "Internal Server Error"),
+    DEADLINE_EXCEEDED(504, "C003", "Request Deadline Exceeded"),
 
     // Event
     EVENT_NOT_FOUND(404, "E001", "Event Not Found"),
 
     // Seat
     SEAT_NOT_AVAILABLE(400, "S001", "Seat Not Available"),
+    SOLD_OUT(409, "S002", "Concert Sold Out"),
+    PURCHASE_LIMIT_EXCEEDED(409, "S003", "Purchase Limit Exceeded"),
+    DRAW_ONLY(409, "S004", "Concert Allocated By Draw"),
 
     // Payment
     PAYMENT_FAILED(400, "P001", "Payment Failed");
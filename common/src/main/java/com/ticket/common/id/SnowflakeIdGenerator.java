@@ -0,0 +1,109 @@
+package com.ticket.common.id;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+
+/**
+ * 시간순으로 정렬되는 64비트 ID 생성기. (Snowflake 방식)
+ * [부호 1][타임스탬프 41 - EPOCH 기준 ms][노드 10][시퀀스 12]
+ * 같은 ms 안에서 4096 개를 넘으면 다음 ms 까지 기다린다.
+ * 노드 번호는 SNOWFLAKE_NODE_ID 환경 변수나 snowflake.node-id 시스템 프로퍼티로 지정하고,
+ * 없으면 호스트명과 pid 로 만든다. (인스턴스가 많으면 반드시 지정할 것)
+ */
+public class SnowflakeIdGenerator {
+
+    public static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_BACKWARD_MILLIS = 5;
+
+    private static final SnowflakeIdGenerator SHARED = new SnowflakeIdGenerator(resolveNodeId());
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public static SnowflakeIdGenerator shared() {
+        return SHARED;
+    }
+
+    public synchronized long nextId() {
+        long now = currentTimeMillis();
+
+        if (now < lastTimestamp) {
+            // 시계가 조금 뒤로 간 경우(NTP 보정 등)는 따라잡을 때까지 기다리고, 크게 어긋나면 중복 위험이 있으므로 실패시킨다.
+            if (lastTimestamp - now > MAX_BACKWARD_MILLIS) {
+                throw new IllegalStateException("Clock moved backwards by " + (lastTimestamp - now) + "ms");
+            }
+            now = waitUntilAfter(lastTimestamp - 1);
+        }
+
+        if (now == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now = waitUntilAfter(lastTimestamp);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = now;
+        return ((now - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public long nodeId() {
+        return nodeId;
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private long waitUntilAfter(long timestamp) {
+        long now = currentTimeMillis();
+        while (now <= timestamp) {
+            Thread.onSpinWait();
+            now = currentTimeMillis();
+        }
+        return now;
+    }
+
+    static long resolveNodeId() {
+        String configured = System.getenv("SNOWFLAKE_NODE_ID");
+        if (configured == null || configured.isBlank()) {
+            configured = System.getProperty("snowflake.node-id");
+        }
+        if (configured != null && !configured.isBlank()) {
+            return Long.parseLong(configured.trim());
+        }
+
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        String identity = host + "/" + ManagementFactory.getRuntimeMXBean().getName();
+        return (identity.hashCode() & 0x7fffffff) % (MAX_NODE_ID + 1);
+    }
+}
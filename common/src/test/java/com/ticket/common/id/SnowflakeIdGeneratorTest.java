@@ -0,0 +1,156 @@
+package com.ticket.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long T = SnowflakeIdGenerator.EPOCH + 1_000L;
+    private static final long SEQUENCE_MASK = (1L << 12) - 1;
+
+    // 정해 둔 시각을 순서대로 돌려주고, 다 쓰면 마지막 시각에 머무는 생성기
+    static class FakeClockGenerator extends SnowflakeIdGenerator {
+        private final Deque<Long> ticks = new ArrayDeque<>();
+        private long last;
+
+        FakeClockGenerator(long nodeId) {
+            super(nodeId);
+        }
+
+        FakeClockGenerator tick(long timestamp, int times) {
+            for (int i = 0; i < times; i++) {
+                ticks.add(timestamp);
+            }
+            return this;
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            if (!ticks.isEmpty()) {
+                last = ticks.poll();
+            }
+            return last;
+        }
+    }
+
+    @Test
+    @DisplayName("연속으로 만든 ID는 중복 없이 증가한다")
+    void nextId_Monotonic() {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        Set<Long> ids = new HashSet<>();
+        long previous = -1L;
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(ids.add(id)).isTrue();
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("같은 ms 안에서는 시퀀스가 증가하고 시각과 노드 번호를 다시 꺼낼 수 있다")
+    void nextId_SameMillisIncrementsSequence() {
+        // given
+        FakeClockGenerator generator = new FakeClockGenerator(7).tick(T, 3);
+
+        // when
+        long first = generator.nextId();
+        long second = generator.nextId();
+        long third = generator.nextId();
+
+        // then
+        assertThat(first & SEQUENCE_MASK).isZero();
+        assertThat(second & SEQUENCE_MASK).isEqualTo(1);
+        assertThat(third & SEQUENCE_MASK).isEqualTo(2);
+        assertThat(SnowflakeIdGenerator.timestampOf(third)).isEqualTo(T);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(third)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("같은 ms 에 4096개를 넘으면 다음 ms 까지 기다렸다가 시퀀스 0부터 만든다")
+    void nextId_SequenceOverflowWaitsForNextMillis() {
+        // given
+        FakeClockGenerator generator = new FakeClockGenerator(1).tick(T, 4097).tick(T + 1, 1);
+        long last = -1L;
+        for (int i = 0; i < 4096; i++) {
+            last = generator.nextId();
+        }
+        assertThat(last & SEQUENCE_MASK).isEqualTo(SEQUENCE_MASK);
+
+        // when
+        long overflowed = generator.nextId();
+
+        // then
+        assertThat(overflowed).isGreaterThan(last);
+        assertThat(overflowed & SEQUENCE_MASK).isZero();
+        assertThat(SnowflakeIdGenerator.timestampOf(overflowed)).isEqualTo(T + 1);
+    }
+
+    @Test
+    @DisplayName("시계가 조금 뒤로 가면 따라잡을 때까지 기다린 뒤 계속 증가하는 ID를 만든다")
+    void nextId_SmallClockRollbackWaits() {
+        // given
+        FakeClockGenerator generator = new FakeClockGenerator(1)
+                .tick(T + 10, 1)
+                .tick(T + 8, 1)
+                .tick(T + 9, 1)
+                .tick(T + 10, 1);
+        long before = generator.nextId();
+
+        // when
+        long after = generator.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+        assertThat(SnowflakeIdGenerator.timestampOf(after)).isEqualTo(T + 10);
+    }
+
+    @Test
+    @DisplayName("시계가 크게 뒤로 가면 중복을 막기 위해 실패한다")
+    void nextId_LargeClockRollbackFails() {
+        // given
+        FakeClockGenerator generator = new FakeClockGenerator(1)
+                .tick(T + 10, 1)
+                .tick(T + 4, 1);
+        generator.nextId();
+
+        // when & then
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Clock moved backwards");
+    }
+
+    @Test
+    @DisplayName("노드 번호는 0 ~ 1023 만 허용한다")
+    void constructor_NodeIdBounds() {
+        // when & then
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new SnowflakeIdGenerator(0)).doesNotThrowAnyException();
+
+        long id = new FakeClockGenerator(1023).tick(T, 1).nextId();
+        assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(1023);
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(T);
+    }
+
+    @Test
+    @DisplayName("지정한 노드 번호가 없으면 범위 안의 노드 번호를 만든다")
+    void resolveNodeId_WithinBounds() {
+        // when & then
+        if (System.getenv("SNOWFLAKE_NODE_ID") == null && System.getProperty("snowflake.node-id") == null) {
+            assertThat(SnowflakeIdGenerator.resolveNodeId()).isBetween(0L, 1023L);
+        }
+    }
+}
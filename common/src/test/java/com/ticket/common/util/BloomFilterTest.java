@@ -0,0 +1,116 @@
+package com.ticket.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    private static final int EXPECTED = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("넣은 값은 모두 있다고 답한다 (false negative 없음)")
+    void mightContain_NoFalseNegatives() {
+        // given
+        BloomFilter filter = new BloomFilter(EXPECTED, FALSE_POSITIVE_RATE);
+
+        // when
+        for (int i = 0; i < EXPECTED; i++) {
+            filter.put("token-" + i);
+        }
+
+        // then
+        for (int i = 0; i < EXPECTED; i++) {
+            assertThat(filter.mightContain("token-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("빈 필터는 어떤 값도 없다고 답한다")
+    void mightContain_EmptyFilter() {
+        // given
+        BloomFilter filter = new BloomFilter(EXPECTED, FALSE_POSITIVE_RATE);
+
+        // when & then
+        assertThat(IntStream.range(0, 1_000).anyMatch(i -> filter.mightContain("token-" + i))).isFalse();
+    }
+
+    @Test
+    @DisplayName("예상 개수와 오탐률로 비트 수와 해시 수를 정한다")
+    void constructor_Sizing() {
+        // given
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-EXPECTED * Math.log(FALSE_POSITIVE_RATE) / (ln2 * ln2));
+
+        // when
+        BloomFilter filter = new BloomFilter(EXPECTED, FALSE_POSITIVE_RATE);
+
+        // then
+        assertThat(filter.bitSize()).isGreaterThanOrEqualTo(optimalBits).isLessThan(optimalBits + 64);
+        assertThat(filter.bitSize() % 64).isZero();
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("예상 개수만큼 넣었을 때 오탐률이 설정값 근처에 머문다")
+    void mightContain_FalsePositiveRateBounded() {
+        // given
+        BloomFilter filter = new BloomFilter(EXPECTED, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        // when
+        int probes = 100_000;
+        long falsePositives = IntStream.range(0, probes).filter(i -> filter.mightContain("other-" + i)).count();
+
+        // then
+        assertThat((double) falsePositives / probes).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 넣어도 값이 빠지지 않는다")
+    void put_Concurrent() {
+        // given
+        BloomFilter filter = new BloomFilter(EXPECTED, FALSE_POSITIVE_RATE);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = thread; i < EXPECTED; i += 8) {
+                        filter.put("token-" + i);
+                    }
+                }, executor));
+            }
+            futures.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(IntStream.range(0, EXPECTED).allMatch(i -> filter.mightContain("token-" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("예상 개수와 오탐률이 범위를 벗어나면 만들지 않는다")
+    void constructor_InvalidArguments() {
+        // when & then
+        assertThatThrownBy(() -> new BloomFilter(0, FALSE_POSITIVE_RATE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(EXPECTED, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(EXPECTED, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ticket.concertservice.catalog;
+
+import com.ticket.concertservice.domain.Concert;
+import com.ticket.concertservice.dto.ConcertResponse;
+import com.ticket.concertservice.repository.ConcertRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 조회 전용 공연 목록. 이 인스턴스의 변경은 커밋 직후 반영되고(ConcertCatalogListener),
+ * 다른 인스턴스의 변경은 refresh-interval 마다 updatedAt 이 워터마크 이후인 공연만 읽어 합친다.
+ * 워터마크는 refresh-overlap 만큼 겹쳐 읽어 늦게 커밋된 변경과 인스턴스 간 시계 차이를 흡수하고,
+ * 같은 공연은 updatedAt 이 더 새로운 쪽만 남긴다. 다른 인스턴스에서 삭제된 공연은 removal-sweep-interval 마다 id 만 읽어 뺀다.
+ * 잔여 좌석은 참고용이며, 실제 예매 가능 여부는 reserveSeats 가 락 안에서 다시 확인한다.
+ */
+@Component
+@Slf4j
+public class ConcertCatalog {
+
+    private final ConcertRepository concertRepository;
+    private final Duration overlap;
+    private final NavigableMap<Long, Entry> concerts = new ConcurrentSkipListMap<>();
+    private volatile LocalDateTime watermark;
+
+    public ConcertCatalog(ConcertRepository concertRepository,
+                          @Value("${concert.catalog.refresh-overlap:10s}") Duration overlap) {
+        this.concertRepository = concertRepository;
+        this.overlap = overlap;
+    }
+
+    // 처음 한 번은 전체를 읽고, 이후에는 바뀐 공연만 읽는다.
+    @Scheduled(fixedDelayString = "${concert.catalog.refresh-interval:PT2S}")
+    public void reload() {
+        LocalDateTime start = LocalDateTime.now();
+        LocalDateTime since = watermark;
+        List<Concert> changed = since == null
+                ? concertRepository.findAll()
+                : concertRepository.findByUpdatedAtGreaterThanEqual(since.minus(overlap));
+        changed.forEach(concert -> put(ConcertResponse.from(concert), concert.getUpdatedAt()));
+        watermark = start;
+        log.debug("공연 목록 갱신 - changed: {}, size: {}", changed.size(), concerts.size());
+    }
+
+    // DB 에 없는 공연을 뺀다. 방금 넣은 공연(overlap 안)은 id 를 읽은 뒤 만들어졌을 수 있으므로 남겨 둔다.
+    @Scheduled(fixedDelayString = "${concert.catalog.removal-sweep-interval:PT1M}")
+    public void sweepRemoved() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(overlap);
+        Set<Long> ids = new HashSet<>(concertRepository.findAllIds());
+        concerts.entrySet().removeIf(entry -> !ids.contains(entry.getKey()) && !entry.getValue().isNewerThan(cutoff));
+    }
+
+    public void put(ConcertResponse concert, LocalDateTime updatedAt) {
+        concerts.compute(concert.getConcertId(), (concertId, existing) ->
+                existing != null && existing.isNewerThan(updatedAt) ? existing : new Entry(concert, updatedAt));
+    }
+
+    public void remove(Long concertId) {
+        concerts.remove(concertId);
+    }
+
+    public List<ConcertResponse> findAll() {
+        return concerts.values().stream().map(Entry::concert).toList();
+    }
+
+    public List<ConcertResponse> findAll(Collection<Long> concertIds) {
+        return concertIds.stream()
+                .distinct()
+                .map(this::find)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public ConcertResponse find(Long concertId) {
+        Entry entry = concerts.get(concertId);
+        return entry != null ? entry.concert() : null;
+    }
+
+    // updatedAt 이 없는 이전 데이터는 가장 오래된 것으로 본다.
+    private record Entry(ConcertResponse concert, LocalDateTime updatedAt) {
+        boolean isNewerThan(LocalDateTime other) {
+            return updatedAt != null && (other == null || updatedAt.isAfter(other));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ticket.concertservice.catalog;
+
+import com.ticket.concertservice.dto.ConcertResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * 공연 조회 API(GET /concerts, /concerts/{id}, /concerts/{id}/availability) 의 논블로킹 버전.
+ * 메모리 목록만 읽으므로 이벤트 루프에서 바로 응답한다. 응답 형식은 ConcertController 와 같다.
+ */
+@Component
+public class ConcertCatalogHandler {
+
+    private final ConcertCatalog catalog;
+
+    public ConcertCatalogHandler(ConcertCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return route(GET("/concerts"), this::getAllConcerts)
+                .andRoute(GET("/concerts/{concertId:[0-9]+}"), this::getConcert)
+                .andRoute(GET("/concerts/{concertId:[0-9]+}/availability"), this::checkAvailability);
+    }
+
+    Mono<ServerResponse> getAllConcerts(ServerRequest request) {
+        List<String> ids = request.queryParams().get("ids");
+        if (ids == null) {
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(catalog.findAll());
+        }
+
+        // ids=1,2 와 ids=1&ids=2 를 모두 받는다. (MVC 의 List 바인딩과 같다)
+        List<Long> concertIds;
+        try {
+            concertIds = ids.stream()
+                    .flatMap(value -> Arrays.stream(value.split(",")))
+                    .filter(value -> !value.isBlank())
+                    .map(value -> Long.valueOf(value.trim()))
+                    .toList();
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(catalog.findAll(concertIds));
+    }
+
+    Mono<ServerResponse> getConcert(ServerRequest request) {
+        ConcertResponse concert = catalog.find(Long.valueOf(request.pathVariable("concertId")));
+        if (concert == null) {
+            return ServerResponse.notFound().build();
+        }
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(concert);
+    }
+
+    Mono<ServerResponse> checkAvailability(ServerRequest request) {
+        Long quantity = request.queryParam("quantity").map(Long::valueOf).orElse(null);
+        if (quantity == null || quantity <= 0) {
+            return ServerResponse.badRequest().build();
+        }
+
+        ConcertResponse concert = catalog.find(Long.valueOf(request.pathVariable("concertId")));
+        if (concert == null) {
+            return ServerResponse.notFound().build();
+        }
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(concert.getQuantity() >= quantity);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ticket.concertservice.catalog;
+
+import com.ticket.concertservice.domain.Concert;
+import com.ticket.concertservice.dto.ConcertResponse;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+// 공연 저장/삭제를 조회용 목록에 반영한다. 롤백된 변경이 보이지 않도록 커밋 이후에 넣는다.
+public class ConcertCatalogListener {
+
+    private final ConcertCatalog catalog;
+
+    public ConcertCatalogListener(ConcertCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Concert concert) {
+        ConcertResponse snapshot = ConcertResponse.from(concert);
+        LocalDateTime updatedAt = concert.getUpdatedAt();
+        afterCommit(() -> catalog.put(snapshot, updatedAt));
+    }
+
+    @PostRemove
+    public void onRemoved(Concert concert) {
+        Long concertId = concert.getConcertId();
+        afterCommit(() -> catalog.remove(concertId));
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package com.ticket.concertservice.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * 공연 조회 전용 Reactor Netty 서버. Tomcat 과 다른 포트, 다른 이벤트 루프에서 돌기 때문에
+ * 조회가 몰려도 예약/롤백을 처리하는 Tomcat 스레드와 DB 커넥션을 점유하지 않는다.
+ * 게이트웨이는 GET 조회 경로만 이 포트로 보낸다.
+ */
+@Component
+@Slf4j
+public class ConcertCatalogServer implements SmartLifecycle {
+
+    private final ConcertCatalog catalog;
+    private final ConcertCatalogHandler handler;
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final int eventLoopThreads;
+
+    private LoopResources loops;
+    private volatile DisposableServer server;
+
+    public ConcertCatalogServer(ConcertCatalog catalog,
+                                ConcertCatalogHandler handler,
+                                ObjectMapper objectMapper,
+                                @Value("${concert.catalog.port:8092}") int port,
+                                @Value("${concert.catalog.event-loop-threads:2}") int eventLoopThreads) {
+        this.catalog = catalog;
+        this.handler = handler;
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads;
+    }
+
+    @Override
+    public void start() {
+        // 빈 목록으로 응답하지 않도록 포트를 열기 전에 한 번 읽어 둔다.
+        catalog.reload();
+
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper)))
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(handler.routes(), strategies);
+
+        loops = LoopResources.create("concert-catalog", 1, eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loops)
+                .metrics(true, ConcertCatalogServer::uriTag)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("공연 조회 서버 시작 - port: {}, eventLoopThreads: {}", server.port(), eventLoopThreads);
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+        if (loops != null) {
+            loops.disposeLater().block();
+            loops = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    // 공연 id 마다 지표가 따로 생기지 않도록 묶는다.
+    static String uriTag(String uri) {
+        return uri.replaceAll("/[0-9]+", "/{concertId}");
+    }
+}
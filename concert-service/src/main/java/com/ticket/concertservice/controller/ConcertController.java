@@ -2,7 +2,10 @@ package com.ticket.concertservice.controller;
 
 import com.ticket.concertservice.domain.Concert;
 import com.ticket.concertservice.dto.ConcertCreateRequest;
+import com.ticket.concertservice.dto.ConcertInventory;
 import com.ticket.concertservice.dto.ConcertResponse;
+import com.ticket.concertservice.dto.SeatReservationItem;
+import com.ticket.concertservice.dto.SeatReservationResult;
 import com.ticket.concertservice.service.ConcertService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -40,9 +43,13 @@ public class ConcertController {
         return ResponseEntity.ok(ConcertResponse.from(concert));
     }
 
+    // ids 가 있으면 해당 공연만 한 번에 조회한다. (예매 목록에 공연 정보를 붙일 때 사용)
     @GetMapping
-    public ResponseEntity<List<ConcertResponse>> getAllConcerts() {
-        List<Concert> concerts = concertService.findAllConcerts();
+    public ResponseEntity<List<ConcertResponse>> getAllConcerts(
+            @RequestParam(required = false) List<Long> ids) {
+        List<Concert> concerts = ids == null
+                ? concertService.findAllConcerts()
+                : concertService.findConcertsByIds(ids);
         List<ConcertResponse> responses = concerts.stream()
                 .map(ConcertResponse::from)
                 .collect(Collectors.toList());
@@ -100,4 +107,31 @@ public class ConcertController {
         boolean result = concertService.rollbackReserveSeats(concertId, quantity);
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/inventory")
+    public ResponseEntity<List<ConcertInventory>> getInventories(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(concertService.findInventories(ids));
+    }
+
+    @PutMapping("/{concertId}/adjust")
+    public ResponseEntity<Boolean> adjustSeats(
+            @PathVariable Long concertId,
+            @RequestParam Long delta) {
+        log.info("좌석 보정 요청 - concertId: {}, delta: {}", concertId, delta);
+        return ResponseEntity.ok(concertService.adjustSeats(concertId, delta));
+    }
+
+    @PutMapping("/batch/reserve")
+    public ResponseEntity<List<SeatReservationResult>> reserveSeatsBatch(
+            @RequestBody List<SeatReservationItem> items) {
+        log.info("묶음 좌석 예약 요청 - count: {}", items.size());
+        return ResponseEntity.ok(concertService.reserveSeatsBatch(items));
+    }
+
+    @PutMapping("/batch/rollback")
+    public ResponseEntity<List<SeatReservationResult>> rollbackSeatsBatch(
+            @RequestBody List<SeatReservationItem> items) {
+        log.info("묶음 좌석 롤백 요청 - count: {}", items.size());
+        return ResponseEntity.ok(concertService.rollbackSeatsBatch(items));
+    }
+}
@@ -0,0 +1,28 @@
+package com.ticket.concertservice.deadline;
+
+import com.ticket.common.deadline.RequestDeadline;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class DeadlineGuard {
+
+    public static final String DROPPED_METRIC = "concert.deadline.dropped";
+
+    private final MeterRegistry meterRegistry;
+
+    public DeadlineGuard(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isExpired(String stage) {
+        if (!RequestDeadline.isExpired()) {
+            return false;
+        }
+        log.debug("마감 시각이 지난 요청 폐기 - stage: {}, deadline: {}", stage, RequestDeadline.current());
+        meterRegistry.counter(DROPPED_METRIC, "stage", stage).increment();
+        return true;
+    }
+}
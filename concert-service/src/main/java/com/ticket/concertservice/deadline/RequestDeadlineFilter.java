@@ -0,0 +1,27 @@
+package com.ticket.concertservice.deadline;
+
+import com.ticket.common.deadline.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 마감 시각만 스레드에 보관하고, 폐기 여부는 서비스의 각 단계에서 판단한다. (롤백 요청은 마감과 무관하게 처리)
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestDeadline.set(RequestDeadline.parse(request.getHeader(RequestDeadline.HEADER)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+}
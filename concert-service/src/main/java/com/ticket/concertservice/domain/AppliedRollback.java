@@ -0,0 +1,31 @@
+package com.ticket.concertservice.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반영한 보상 롤백 기록. 응답을 받지 못한 reservation-service 가 같은 보상을 다시 보내도 좌석을 두 번 돌려주지 않는다.
+ * 좌석 변경과 같은 트랜잭션에서 저장되고, retention 이 지나면 지운다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_applied_rollback_applied_at", columnList = "appliedAt"))
+@Getter
+public class AppliedRollback {
+    @Id
+    private String compensationKey;
+
+    private Long concertId;
+    private Long quantity;
+    private LocalDateTime appliedAt;
+
+    protected AppliedRollback() {}
+
+    public AppliedRollback(String compensationKey, Long concertId, Long quantity) {
+        this.compensationKey = compensationKey;
+        this.concertId = concertId;
+        this.quantity = quantity;
+        this.appliedAt = LocalDateTime.now();
+    }
+}
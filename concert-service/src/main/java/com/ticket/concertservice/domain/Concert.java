@@ -1,5 +1,7 @@
 package com.ticket.concertservice.domain;
 
+import com.ticket.common.id.SnowflakeId;
+import com.ticket.concertservice.catalog.ConcertCatalogListener;
 import com.ticket.concertservice.dto.ConcertCreateRequest;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
@@ -9,10 +11,15 @@ import lombok.Builder;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(ConcertCatalogListener.class)
+@Table(indexes = {
+        @Index(name = "idx_concert_on_sale_at", columnList = "onSaleAt"),
+        @Index(name = "idx_concert_updated_at", columnList = "updatedAt")
+})
 @Getter
 public class Concert {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long concertId;
 
     @Column(nullable = false)
@@ -31,16 +38,28 @@ public class Concert {
     @Min(value = 0, message = "좌석 수는 0 이상이어야 합니다.")
     private Long quantity;
 
+    // 전체 좌석 수. quantity(잔여 좌석)와 예매 합계를 대조할 때 기준이 된다. (이전 데이터는 null)
+    private Long capacity;
+
+    // 판매 시작 시각. 이전에는 좌석을 예약할 수 없다. (null 이면 등록 즉시 판매)
+    private LocalDateTime onSaleAt;
+
+    // 마지막 변경 시각. 다른 인스턴스의 조회용 목록이 바뀐 공연만 다시 읽는 기준이다. (좌석 변경 포함)
+    private LocalDateTime updatedAt;
+
     protected Concert() {}
 
     @Builder
-    public Concert(Long concertId, String title, String description, LocalDateTime dateTime, String userEmail, Long quantity) {
+    public Concert(Long concertId, String title, String description, LocalDateTime dateTime, String userEmail, Long quantity,
+                   Long capacity, LocalDateTime onSaleAt) {
         this.concertId = concertId;
         this.title = title;
         this.description = description;
         this.dateTime = dateTime;
         this.userEmail = userEmail;
         this.quantity = quantity;
+        this.capacity = capacity != null ? capacity : quantity;
+        this.onSaleAt = onSaleAt;
     }
 
     public static Concert of(String title, String description, LocalDateTime dateTime, String userEmail, Long capacity) {
@@ -57,9 +76,24 @@ public class Concert {
         this.title = request.getTitle();
         this.description = request.getDescription();
         this.dateTime = request.getDateTime();
+        this.onSaleAt = request.getOnSaleAt();
+        // 수정 요청의 수량은 잔여 좌석이다. 이미 팔린 좌석 수는 유지되도록 전체 좌석 수를 맞춘다.
+        if (this.capacity != null && request.getQuantity() != null) {
+            this.capacity = request.getQuantity() + (this.capacity - this.quantity);
+        }
         this.quantity = request.getQuantity();
     }
 
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isOnSale(LocalDateTime now) {
+        return onSaleAt == null || !now.isBefore(onSaleAt);
+    }
+
     public boolean hasEnoughSeats(Long requestedQuantity) {
         return this.quantity >= requestedQuantity;
     }
@@ -79,4 +113,12 @@ public class Concert {
         this.quantity += quantity;
     }
 
+    // 정합성 점검에서 확인된 차이를 잔여 좌석에 반영한다. (음수면 차감)
+    public void adjustSeats(long delta) {
+        if (this.quantity + delta < 0) {
+            throw new IllegalStateException("잔여 좌석은 0 보다 작을 수 없습니다.");
+        }
+        this.quantity += delta;
+    }
+
 }
\ No newline at end of file
@@ -10,11 +10,18 @@ public class ConcertCreateRequest {
     private String description;
     private LocalDateTime dateTime;
     private Long quantity;
+    private LocalDateTime onSaleAt;
 
     public ConcertCreateRequest(String title, String description, LocalDateTime dateTime, Long quantity) {
+        this(title, description, dateTime, quantity, null);
+    }
+
+    public ConcertCreateRequest(String title, String description, LocalDateTime dateTime, Long quantity,
+                                LocalDateTime onSaleAt) {
         this.title = title;
         this.description = description;
         this.dateTime = dateTime;
         this.quantity = quantity;
+        this.onSaleAt = onSaleAt;
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.ticket.concertservice.dto;
+
+import com.ticket.concertservice.domain.Concert;
+import lombok.Getter;
+
+@Getter
+public class ConcertInventory {
+    private Long concertId;
+    private Long capacity;
+    private Long remaining;
+
+    public ConcertInventory(Long concertId, Long capacity, Long remaining) {
+        this.concertId = concertId;
+        this.capacity = capacity;
+        this.remaining = remaining;
+    }
+
+    public static ConcertInventory from(Concert concert) {
+        return new ConcertInventory(concert.getConcertId(), concert.getCapacity(), concert.getQuantity());
+    }
+}
@@ -1,5 +1,7 @@
 package com.ticket.concertservice.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.ticket.concertservice.domain.Concert;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,20 +11,24 @@ import java.time.LocalDateTime;
 @Getter
 @Builder
 public class ConcertResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
     private Long concertId;
     private String title;
     private String description;
     private LocalDateTime dateTime;
     private String userEmail;
     private Long quantity;
+    private LocalDateTime onSaleAt;
 
-    private ConcertResponse(Long concertId, String title, String description, LocalDateTime dateTime, String userEmail, Long quantity) {
+    private ConcertResponse(Long concertId, String title, String description, LocalDateTime dateTime, String userEmail, Long quantity,
+                            LocalDateTime onSaleAt) {
         this.concertId = concertId;
         this.title = title;
         this.description = description;
         this.dateTime = dateTime;
         this.userEmail = userEmail;
         this.quantity = quantity;
+        this.onSaleAt = onSaleAt;
     }
 
     public static ConcertResponse from(Concert concert) {
@@ -32,7 +38,8 @@ public class ConcertResponse {
                 concert.getDescription(),
                 concert.getDateTime(),
                 concert.getUserEmail(),
-                concert.getQuantity()
+                concert.getQuantity(),
+                concert.getOnSaleAt()
         );
     }
 }
\ No newline at end of file
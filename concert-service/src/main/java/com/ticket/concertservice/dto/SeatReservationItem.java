@@ -0,0 +1,34 @@
+package com.ticket.concertservice.dto;
+
+import lombok.Getter;
+
+@Getter
+public class SeatReservationItem {
+    private String requestId;
+    private Long concertId;
+    private Long quantity;
+    // reservation-service 보상 롤백에만 온다. 같은 키의 롤백은 한 번만 반영한다.
+    private String compensationKey;
+    // reservation-service 판매 시작 전 예열 요청. 락/조회까지 같은 경로로 처리하고 좌석은 바꾸지 않는다.
+    private boolean probe;
+
+    public SeatReservationItem() {
+    }
+
+    public SeatReservationItem(String requestId, Long concertId, Long quantity) {
+        this(requestId, concertId, quantity, null);
+    }
+
+    public SeatReservationItem(String requestId, Long concertId, Long quantity, String compensationKey) {
+        this.requestId = requestId;
+        this.concertId = concertId;
+        this.quantity = quantity;
+        this.compensationKey = compensationKey;
+    }
+
+    public static SeatReservationItem probe(String requestId, Long concertId, Long quantity) {
+        SeatReservationItem item = new SeatReservationItem(requestId, concertId, quantity);
+        item.probe = true;
+        return item;
+    }
+}
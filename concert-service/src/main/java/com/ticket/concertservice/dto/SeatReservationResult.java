@@ -0,0 +1,14 @@
+package com.ticket.concertservice.dto;
+
+import lombok.Getter;
+
+@Getter
+public class SeatReservationResult {
+    private String requestId;
+    private boolean success;
+
+    public SeatReservationResult(String requestId, boolean success) {
+        this.requestId = requestId;
+        this.success = success;
+    }
+}
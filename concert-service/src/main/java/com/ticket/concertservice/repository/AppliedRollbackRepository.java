@@ -0,0 +1,16 @@
+package com.ticket.concertservice.repository;
+
+import com.ticket.concertservice.domain.AppliedRollback;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface AppliedRollbackRepository extends JpaRepository<AppliedRollback, String> {
+
+    @Modifying
+    @Query("delete from AppliedRollback r where r.appliedAt < :before")
+    int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
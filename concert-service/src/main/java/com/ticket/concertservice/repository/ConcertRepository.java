@@ -2,9 +2,24 @@ package com.ticket.concertservice.repository;
 
 import com.ticket.concertservice.domain.Concert;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ConcertRepository extends JpaRepository<Concert, Long> {
     List<Concert> findByUserEmailOrderByDateTimeDesc(String userEmail);
+
+    List<Concert> findByOnSaleAtBetween(LocalDateTime from, LocalDateTime to);
+
+    // 조회용 목록의 증분 갱신. updatedAt 인덱스
+    List<Concert> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    @Query("select c.concertId from Concert c")
+    List<Long> findAllIds();
+
+    // 영속성 컨텍스트를 거치지 않고 커밋된 잔여 좌석만 읽는다. 공연이 없으면 null
+    @Query("select c.quantity from Concert c where c.concertId = :concertId")
+    Long findQuantityById(@Param("concertId") Long concertId);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.ticket.concertservice.service;
+
+import com.ticket.concertservice.repository.AppliedRollbackRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 보상 재시도 기간(reservation-service 의 max-attempts x max-delay)보다 오래된 롤백 기록은 지운다.
+@Component
+@Slf4j
+public class AppliedRollbackPurger {
+
+    private final AppliedRollbackRepository appliedRollbackRepository;
+    private final Duration retention;
+
+    public AppliedRollbackPurger(AppliedRollbackRepository appliedRollbackRepository,
+                                 @Value("${concert.rollback-dedup.retention:7d}") Duration retention) {
+        this.appliedRollbackRepository = appliedRollbackRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${concert.rollback-dedup.purge-interval:PT1H}")
+    @Transactional
+    public void purge() {
+        int deleted = appliedRollbackRepository.deleteAppliedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("지난 보상 롤백 기록 삭제 - {}건", deleted);
+        }
+    }
+}
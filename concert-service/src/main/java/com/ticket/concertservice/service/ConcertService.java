@@ -1,29 +1,61 @@
 package com.ticket.concertservice.service;
 
+import com.ticket.common.deadline.RequestDeadline;
+import com.ticket.concertservice.deadline.DeadlineGuard;
+import com.ticket.concertservice.domain.AppliedRollback;
 import com.ticket.concertservice.domain.Concert;
 import com.ticket.concertservice.dto.ConcertCreateRequest;
+import com.ticket.concertservice.dto.ConcertInventory;
 import com.ticket.concertservice.dto.ConcertResponse;
+import com.ticket.concertservice.dto.SeatReservationItem;
+import com.ticket.concertservice.dto.SeatReservationResult;
+import com.ticket.concertservice.repository.AppliedRollbackRepository;
 import com.ticket.concertservice.repository.ConcertRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Service
 @Transactional
 @Slf4j
 public class ConcertService {
+    private static final long LOCK_WAIT_MILLIS = 5000;
+
     private final ConcertRepository concertRepository;
     private final RedissonClient redissonClient;
+    private final DeadlineGuard deadlineGuard;
+    private final SoldOutPublisher soldOutPublisher;
+    private final AppliedRollbackRepository appliedRollbackRepository;
+    // 좌석 변경은 락을 쥔 채로 커밋한다. 락을 푼 뒤에 커밋하면 다음 락 보유자가 이전 잔여 좌석을 읽는다.
+    private final TransactionTemplate seatTransaction;
 
-    public ConcertService(ConcertRepository concertRepository, RedissonClient redissonClient) {
+    public ConcertService(ConcertRepository concertRepository, RedissonClient redissonClient, DeadlineGuard deadlineGuard,
+                          SoldOutPublisher soldOutPublisher, AppliedRollbackRepository appliedRollbackRepository,
+                          PlatformTransactionManager transactionManager) {
         this.concertRepository = concertRepository;
         this.redissonClient = redissonClient;
+        this.deadlineGuard = deadlineGuard;
+        this.soldOutPublisher = soldOutPublisher;
+        this.appliedRollbackRepository = appliedRollbackRepository;
+        this.seatTransaction = new TransactionTemplate(transactionManager);
+        this.seatTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     public ConcertResponse createConcert(String userEmail, ConcertCreateRequest request) {
@@ -33,9 +65,13 @@ public class ConcertService {
                 .dateTime(request.getDateTime())
                 .userEmail(userEmail)
                 .quantity(request.getQuantity())
+                .capacity(request.getQuantity())
+                .onSaleAt(request.getOnSaleAt())
                 .build();
 
         concert = concertRepository.save(concert);
+        // 좌석 0 으로 등록한 공연은 처음부터 매진이다.
+        soldOutPublisher.onSeatsChanged(concert.getConcertId(), 1, concert.getQuantity());
         return ConcertResponse.from(concert);
     }
 
@@ -48,6 +84,14 @@ public class ConcertService {
         return concertRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<Concert> findConcertsByIds(List<Long> concertIds) {
+        if (concertIds.isEmpty()) {
+            return List.of();
+        }
+        return concertRepository.findAllById(concertIds);
+    }
+
     public List<Concert> findConcertsByUserEmail(String userEmail) {
         return concertRepository.findByUserEmailOrderByDateTimeDesc(userEmail);
     }
@@ -58,7 +102,9 @@ public class ConcertService {
             throw new IllegalArgumentException("User not authorized to update this concert");
         }
 
+        long before = concert.getQuantity();
         concert.update(request);
+        soldOutPublisher.onSeatsChanged(concertId, before, concert.getQuantity());
         return ConcertResponse.from(concert);
     }
 
@@ -69,6 +115,7 @@ public class ConcertService {
         }
 
         concertRepository.delete(concert);
+        soldOutPublisher.onRemoved(concertId);
     }
 
     public boolean checkAvailability(Long concertId, Long quantity) {
@@ -80,28 +127,24 @@ public class ConcertService {
         return concert.getQuantity() >= quantity;
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean reserveSeats(Long concertId, Long quantity) {
+        if (deadlineGuard.isExpired("lock")) {
+            return false;
+        }
+
         String lockKey = "concert:" + concertId;
         RLock lock = redissonClient.getLock(lockKey);
 
         try {
-            if (!lock.tryLock(5, 10, TimeUnit.SECONDS)) {
+            // 락 대기 시간은 요청의 남은 시간을 넘지 않는다.
+            long waitMillis = RequestDeadline.remainingMillis(LOCK_WAIT_MILLIS);
+            if (!lock.tryLock(waitMillis, 10000, TimeUnit.MILLISECONDS)) {
                 log.error("락 획득 실패 - concertId: {}", concertId);
                 return false;
             }
 
-            Concert concert = concertRepository.findById(concertId)
-                    .orElseThrow(() -> new IllegalArgumentException("콘서트가 존재하지 않습니다."));
-
-            if (!concert.hasEnoughSeats(quantity)) {
-                log.warn("예매 가능한 좌석 수 부족 - concertId: {}, 요청: {}, 가용: {}",
-                        concertId, quantity, concert.getRemainingSeats());
-                return false;
-            }
-
-            concert.reserveSeats(quantity);
-            concertRepository.save(concert);
-            return true;
+            return Boolean.TRUE.equals(seatTransaction.execute(status -> reserveLocked(concertId, quantity)));
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -114,7 +157,33 @@ public class ConcertService {
         }
     }
 
-    @Transactional
+    private boolean reserveLocked(Long concertId, Long quantity) {
+        Concert concert = concertRepository.findById(concertId)
+                .orElseThrow(() -> new IllegalArgumentException("콘서트가 존재하지 않습니다."));
+
+        if (!concert.isOnSale(LocalDateTime.now())) {
+            log.warn("판매 시작 전 예약 요청 - concertId: {}, onSaleAt: {}", concertId, concert.getOnSaleAt());
+            return false;
+        }
+
+        if (!concert.hasEnoughSeats(quantity)) {
+            log.warn("예매 가능한 좌석 수 부족 - concertId: {}, 요청: {}, 가용: {}",
+                    concertId, quantity, concert.getRemainingSeats());
+            return false;
+        }
+
+        if (deadlineGuard.isExpired("db-write")) {
+            return false;
+        }
+
+        long before = concert.getQuantity();
+        concert.reserveSeats(quantity);
+        concertRepository.save(concert);
+        soldOutPublisher.onSeatsChanged(concertId, before, concert.getQuantity());
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean rollbackReserveSeats(Long concertId, Long quantity) {
         String lockKey = "concert:" + concertId;
         RLock lock = redissonClient.getLock(lockKey);
@@ -125,9 +194,13 @@ public class ConcertService {
                 return false;
             }
 
-            Concert concert = findConcertById(concertId);
-            concert.addSeats(quantity);
-            concertRepository.save(concert);
+            seatTransaction.executeWithoutResult(status -> {
+                Concert concert = findConcertById(concertId);
+                long before = concert.getQuantity();
+                concert.addSeats(quantity);
+                concertRepository.save(concert);
+                soldOutPublisher.onSeatsChanged(concertId, before, concert.getQuantity());
+            });
             return true;
 
         } catch (InterruptedException e) {
@@ -141,4 +214,206 @@ public class ConcertService {
         }
     }
 
-}
\ No newline at end of file
+    @Transactional(readOnly = true)
+    public List<ConcertInventory> findInventories(List<Long> concertIds) {
+        return concertRepository.findAllById(concertIds).stream()
+                .map(ConcertInventory::from)
+                .toList();
+    }
+
+    // 예매 정합성 점검에서 확정된 차이만큼 잔여 좌석을 보정한다. 예약/롤백과 같은 락을 쓴다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean adjustSeats(Long concertId, long delta) {
+        RLock lock = redissonClient.getLock("concert:" + concertId);
+        try {
+            if (!lock.tryLock(5, 10, TimeUnit.SECONDS)) {
+                log.error("좌석 보정 락 획득 실패 - concertId: {}", concertId);
+                return false;
+            }
+
+            Concert concert = seatTransaction.execute(status -> {
+                Concert current = findConcertById(concertId);
+                long before = current.getQuantity();
+                current.adjustSeats(delta);
+                concertRepository.save(current);
+                soldOutPublisher.onSeatsChanged(concertId, before, current.getQuantity());
+                return current;
+            });
+            log.warn("좌석 보정 - concertId: {}, delta: {}, 잔여: {}", concertId, delta, concert.getRemainingSeats());
+            return true;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("좌석 보정 중 인터럽트 발생 - concertId: {}", concertId, e);
+            return false;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 공연마다 락을 한 번만 잡고 요청 순서대로 배정한다. 결과는 요청 항목 순서 그대로 돌려준다.
+    // 묶음 전체를 한 트랜잭션으로 묶지 않고 공연별로 락 안에서 커밋한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SeatReservationResult> reserveSeatsBatch(List<SeatReservationItem> items) {
+        Map<String, Boolean> outcomes = new HashMap<>();
+        if (!deadlineGuard.isExpired("lock")) {
+            groupByConcert(items).forEach((concertId, group) -> reserveGroup(concertId, group, outcomes));
+        }
+        return toResults(items, outcomes);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SeatReservationResult> rollbackSeatsBatch(List<SeatReservationItem> items) {
+        Map<String, Boolean> outcomes = new HashMap<>();
+        groupByConcert(items).forEach((concertId, group) -> rollbackGroup(concertId, group, outcomes));
+        return toResults(items, outcomes);
+    }
+
+    private void reserveGroup(Long concertId, List<SeatReservationItem> group, Map<String, Boolean> outcomes) {
+        RLock lock = redissonClient.getLock("concert:" + concertId);
+        try {
+            long waitMillis = RequestDeadline.remainingMillis(LOCK_WAIT_MILLIS);
+            if (!lock.tryLock(waitMillis, 10000, TimeUnit.MILLISECONDS)) {
+                log.error("묶음 예약 락 획득 실패 - concertId: {}", concertId);
+                return;
+            }
+
+            // 커밋된 뒤에만 결과를 반영한다. 커밋이 실패하면 이 공연의 항목은 모두 실패다.
+            List<String> reserved = seatTransaction.execute(status -> reserveGroupLocked(concertId, group));
+            if (reserved != null) {
+                reserved.forEach(requestId -> outcomes.put(requestId, true));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("묶음 예약 처리 중 인터럽트 발생 - concertId: {}", concertId, e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void rollbackGroup(Long concertId, List<SeatReservationItem> group, Map<String, Boolean> outcomes) {
+        RLock lock = redissonClient.getLock("concert:" + concertId);
+        try {
+            if (!lock.tryLock(5, 10, TimeUnit.SECONDS)) {
+                log.error("묶음 롤백 락 획득 실패 - concertId: {}", concertId);
+                return;
+            }
+
+            List<String> rolledBack = seatTransaction.execute(status -> rollbackGroupLocked(concertId, group));
+            if (rolledBack != null) {
+                rolledBack.forEach(requestId -> outcomes.put(requestId, true));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("묶음 롤백 처리 중 인터럽트 발생 - concertId: {}", concertId, e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private List<String> reserveGroupLocked(Long concertId, List<SeatReservationItem> group) {
+        Concert concert = concertRepository.findById(concertId).orElse(null);
+        if (concert == null) {
+            return List.of();
+        }
+
+        // 예열 요청은 판매 시작 전에도 락과 조회까지만 타고 성공으로 돌려준다.
+        List<String> reserved = new ArrayList<>();
+        group.stream().filter(SeatReservationItem::isProbe).forEach(item -> reserved.add(item.getRequestId()));
+        if (!concert.isOnSale(LocalDateTime.now()) || deadlineGuard.isExpired("db-write")) {
+            return reserved;
+        }
+
+        long before = concert.getQuantity();
+        int probes = reserved.size();
+        for (SeatReservationItem item : group) {
+            if (!item.isProbe() && item.getQuantity() != null && item.getQuantity() > 0
+                    && concert.hasEnoughSeats(item.getQuantity())) {
+                concert.reserveSeats(item.getQuantity());
+                reserved.add(item.getRequestId());
+            }
+        }
+        if (reserved.size() > probes) {
+            concertRepository.save(concert);
+            soldOutPublisher.onSeatsChanged(concertId, before, concert.getQuantity());
+        }
+        return reserved;
+    }
+
+    // 보상 키가 있는 항목은 이미 반영한 키면 좌석을 더하지 않고 성공으로 돌려준다. 기록은 좌석 변경과 함께 커밋된다.
+    private List<String> rollbackGroupLocked(Long concertId, List<SeatReservationItem> group) {
+        Concert concert = concertRepository.findById(concertId).orElse(null);
+        if (concert == null) {
+            return List.of();
+        }
+
+        Set<String> applied = appliedKeys(group);
+        long total = 0;
+        List<String> rolledBack = new ArrayList<>();
+        List<AppliedRollback> newlyApplied = new ArrayList<>();
+        for (SeatReservationItem item : group) {
+            if (item.getQuantity() == null || item.getQuantity() <= 0) {
+                continue;
+            }
+            rolledBack.add(item.getRequestId());
+            // 예열 요청은 좌석을 잡지 않았으므로 되돌릴 것도 없다.
+            if (item.isProbe()) {
+                continue;
+            }
+            String key = item.getCompensationKey();
+            if (key != null && !applied.add(key)) {
+                log.info("이미 반영된 보상 롤백 - key: {}, concertId: {}", key, concertId);
+                continue;
+            }
+            total += item.getQuantity();
+            if (key != null) {
+                newlyApplied.add(new AppliedRollback(key, concertId, item.getQuantity()));
+            }
+        }
+        if (total == 0) {
+            return rolledBack;
+        }
+        appliedRollbackRepository.saveAll(newlyApplied);
+        long before = concert.getQuantity();
+        concert.addSeats(total);
+        concertRepository.save(concert);
+        soldOutPublisher.onSeatsChanged(concertId, before, concert.getQuantity());
+        return rolledBack;
+    }
+
+    private Set<String> appliedKeys(List<SeatReservationItem> group) {
+        List<String> keys = new ArrayList<>();
+        for (SeatReservationItem item : group) {
+            if (item.getCompensationKey() != null) {
+                keys.add(item.getCompensationKey());
+            }
+        }
+        Set<String> applied = new HashSet<>();
+        if (!keys.isEmpty()) {
+            appliedRollbackRepository.findAllById(keys).forEach(rollback -> applied.add(rollback.getCompensationKey()));
+        }
+        return applied;
+    }
+
+    private static Map<Long, List<SeatReservationItem>> groupByConcert(List<SeatReservationItem> items) {
+        Map<Long, List<SeatReservationItem>> byConcert = new LinkedHashMap<>();
+        for (SeatReservationItem item : items) {
+            byConcert.computeIfAbsent(item.getConcertId(), id -> new ArrayList<>()).add(item);
+        }
+        return byConcert;
+    }
+
+    private static List<SeatReservationResult> toResults(List<SeatReservationItem> items, Map<String, Boolean> outcomes) {
+        List<SeatReservationResult> results = new ArrayList<>(items.size());
+        for (SeatReservationItem item : items) {
+            results.add(new SeatReservationResult(item.getRequestId(), outcomes.getOrDefault(item.getRequestId(), false)));
+        }
+        return results;
+    }
+}
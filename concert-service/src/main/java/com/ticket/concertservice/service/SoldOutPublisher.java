@@ -0,0 +1,104 @@
+package com.ticket.concertservice.service;
+
+import com.ticket.common.availability.AvailabilityEvent;
+import com.ticket.concertservice.repository.ConcertRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔여 좌석이 0 이 되거나 0 에서 다시 생기면 매진 목록(Redis set)을 갱신하고 채널로 알린다.
+ * 좌석 변경이 롤백되면 알리지 않도록 커밋 이후에 보낸다. 실패해도 좌석 처리에는 영향을 주지 않는다.
+ * 커밋 이후 콜백끼리는 순서가 없으므로, 보낼 때 좌석 변경과 같은 락 안에서 커밋된 잔여 좌석을 다시 읽어 매진 여부를 정한다.
+ * (늦게 도착한 매진 알림이 그 뒤의 재고 복구를 덮어쓰지 않는다)
+ */
+@Component
+@Slf4j
+public class SoldOutPublisher {
+
+    private static final long LOCK_WAIT_MILLIS = 5000;
+
+    private final RedissonClient redissonClient;
+    private final ConcertRepository concertRepository;
+    // 커밋 이후 콜백에서는 끝난 트랜잭션의 영속성 컨텍스트가 아니라 새 트랜잭션으로 읽는다.
+    private final TransactionTemplate readTransaction;
+
+    public SoldOutPublisher(RedissonClient redissonClient, ConcertRepository concertRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.redissonClient = redissonClient;
+        this.concertRepository = concertRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    // 변경 전후 잔여 좌석을 보고 상태가 바뀐 경우에만 보낸다.
+    public void onSeatsChanged(Long concertId, long before, long after) {
+        if ((before > 0 && after <= 0) || (before <= 0 && after > 0)) {
+            publishAfterCommit(concertId);
+        }
+    }
+
+    // 삭제된 공연은 매진 목록에서도 뺀다.
+    public void onRemoved(Long concertId) {
+        publishAfterCommit(concertId);
+    }
+
+    private void publishAfterCommit(Long concertId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(concertId);
+                }
+            });
+        } else {
+            publish(concertId);
+        }
+    }
+
+    void publish(Long concertId) {
+        RLock lock = redissonClient.getLock("concert:" + concertId);
+        try {
+            if (!lock.tryLock(LOCK_WAIT_MILLIS, 10000, TimeUnit.MILLISECONDS)) {
+                log.warn("매진 상태 확인 락 획득 실패 - concertId: {}", concertId);
+                return;
+            }
+
+            Long remaining = readTransaction.execute(status -> concertRepository.findQuantityById(concertId));
+            // 삭제된 공연은 매진 목록에서 뺀다.
+            AvailabilityEvent event = remaining != null && remaining <= 0
+                    ? AvailabilityEvent.soldOut(concertId)
+                    : AvailabilityEvent.restocked(concertId);
+
+            RSet<String> soldOut = redissonClient.getSet(AvailabilityEvent.SOLD_OUT_SET, StringCodec.INSTANCE);
+            if (event.type() == AvailabilityEvent.Type.SOLD_OUT) {
+                soldOut.add(String.valueOf(concertId));
+            } else {
+                soldOut.remove(String.valueOf(concertId));
+            }
+            // 락 안에서 보내므로 같은 공연의 알림은 상태가 바뀐 순서대로 나간다.
+            redissonClient.getTopic(AvailabilityEvent.CHANNEL, StringCodec.INSTANCE).publish(event.encode());
+            log.info("매진 상태 변경 알림 - {}", event.encode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("매진 상태 변경 알림 중 인터럽트 - concertId: {}", concertId);
+        } catch (Exception e) {
+            log.warn("매진 상태 변경 알림 실패 - concertId: {}: {}", concertId, e.getMessage());
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
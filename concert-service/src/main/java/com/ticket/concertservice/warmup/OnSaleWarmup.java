@@ -0,0 +1,120 @@
+package com.ticket.concertservice.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.common.availability.OnSaleSchedule;
+import com.ticket.concertservice.catalog.ConcertCatalog;
+import com.ticket.concertservice.domain.Concert;
+import com.ticket.concertservice.dto.ConcertResponse;
+import com.ticket.concertservice.repository.ConcertRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 판매 시작 직후의 첫 요청이 차가운 상태로 들어오지 않게 미리 데운다.
+ * 기동 시에는 DB 커넥션 풀/JPA, Redis 연결, 조회 목록을 채우고 예약/응답 변환 경로를 synthetic-requests 번 돌린 뒤에야 warm 으로 알린다.
+ * (ApplicationReadyEvent 에서 동기로 돌기 때문에 끝나기 전까지 readiness 는 트래픽을 받지 않는다)
+ * 판매 시작 warmup-lead 전부터는 해당 공연을 조회 목록과 판매 일정(Redis)에 올리고 좌석 락 객체를 만들어 둔다.
+ */
+@Component
+@Slf4j
+public class OnSaleWarmup {
+
+    private final ConcertRepository concertRepository;
+    private final ConcertCatalog concertCatalog;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final Duration lead;
+    private final int syntheticRequests;
+    private final Set<Long> warmed = ConcurrentHashMap.newKeySet();
+    private volatile boolean warm;
+
+    public OnSaleWarmup(ConcertRepository concertRepository,
+                        ConcertCatalog concertCatalog,
+                        RedissonClient redissonClient,
+                        ObjectMapper objectMapper,
+                        @Value("${concert.on-sale.warmup-lead:5m}") Duration lead,
+                        @Value("${concert.on-sale.synthetic-requests:5000}") int syntheticRequests) {
+        this.concertRepository = concertRepository;
+        this.concertCatalog = concertCatalog;
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.lead = lead;
+        this.syntheticRequests = syntheticRequests;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        try {
+            concertCatalog.reload();
+            redissonClient.getScoredSortedSet(OnSaleSchedule.KEY, StringCodec.INSTANCE).size();
+            runSynthetic();
+            prewarmUpcoming();
+        } catch (Exception e) {
+            // 데우지 못했다고 트래픽을 계속 막지는 않는다. 첫 요청이 느릴 뿐이다.
+            log.warn("기동 예열 실패 - 예열 없이 시작: {}", e.getMessage());
+        } finally {
+            warm = true;
+            log.info("기동 예열 완료 - {}ms", System.currentTimeMillis() - start);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${concert.on-sale.warmup-interval:PT10S}")
+    public void prewarmUpcoming() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Concert> upcoming = concertRepository.findByOnSaleAtBetween(now, now.plus(lead));
+        RScoredSortedSet<String> schedule = redissonClient.getScoredSortedSet(OnSaleSchedule.KEY, StringCodec.INSTANCE);
+        for (Concert concert : upcoming) {
+            if (!warmed.add(concert.getConcertId())) {
+                continue;
+            }
+            concertCatalog.put(ConcertResponse.from(concert), concert.getUpdatedAt());
+            redissonClient.getLock("concert:" + concert.getConcertId()).isLocked();
+            schedule.add(epochMillis(concert.getOnSaleAt()), String.valueOf(concert.getConcertId()));
+            log.info("판매 시작 전 예열 - concertId: {}, onSaleAt: {}", concert.getConcertId(), concert.getOnSaleAt());
+        }
+        // 판매가 시작된 지 lead 가 지난 공연은 일정에서 뺀다.
+        schedule.removeRangeByScore(0, true, epochMillis(now.minus(lead)), true);
+        warmed.retainAll(upcoming.stream().map(Concert::getConcertId).toList());
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    // 저장하지 않는 가짜 공연으로 좌석 차감과 응답 변환/직렬화 경로를 돌려 JIT 컴파일을 유도한다.
+    private void runSynthetic() throws JsonProcessingException {
+        Concert probe = Concert.builder()
+                .concertId(0L)
+                .title("warmup")
+                .dateTime(LocalDateTime.now())
+                .quantity((long) syntheticRequests)
+                .build();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < syntheticRequests; i++) {
+            if (probe.isOnSale(now) && probe.hasEnoughSeats(1L)) {
+                probe.reserveSeats(1L);
+            }
+            objectMapper.writeValueAsString(ConcertResponse.from(probe));
+        }
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
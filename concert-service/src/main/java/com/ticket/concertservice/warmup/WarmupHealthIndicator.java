@@ -0,0 +1,23 @@
+package com.ticket.concertservice.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// readiness 그룹에 포함된다. 기동 예열이 끝나기 전에는 OUT_OF_SERVICE.
+@Component("warmup")
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final OnSaleWarmup onSaleWarmup;
+
+    public WarmupHealthIndicator(OnSaleWarmup onSaleWarmup) {
+        this.onSaleWarmup = onSaleWarmup;
+    }
+
+    @Override
+    public Health health() {
+        return onSaleWarmup.isWarm()
+                ? Health.up().withDetail("state", "warm").build()
+                : Health.outOfService().withDetail("state", "warming").build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ticket.concertservice.catalog;
+
+import com.ticket.concertservice.domain.Concert;
+import com.ticket.concertservice.repository.ConcertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ConcertCatalogHandlerTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    private ConcertCatalog catalog;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ConcertCatalog(concertRepository, Duration.ofSeconds(10));
+        client = WebTestClient.bindToRouterFunction(new ConcertCatalogHandler(catalog).routes()).build();
+    }
+
+    @Test
+    @DisplayName("갱신된 목록으로 전체/단건 조회에 응답한다")
+    void getConcerts_FromCatalog() {
+        // given
+        given(concertRepository.findAll()).willReturn(List.of(concert(2L, 10L), concert(1L, 0L)));
+        catalog.reload();
+
+        // when & then
+        client.get().uri("/concerts").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].concertId").isEqualTo("1");
+
+        client.get().uri("/concerts/2").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.quantity").isEqualTo(10);
+
+        client.get().uri("/concerts/3").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("ids 로 요청한 공연만 중복 없이 돌려준다")
+    void getConcerts_ByIds() {
+        // given
+        given(concertRepository.findAll()).willReturn(List.of(concert(1L, 5L), concert(2L, 5L), concert(3L, 5L)));
+        catalog.reload();
+
+        // when & then
+        client.get().uri("/concerts?ids=3,1&ids=3&ids=9").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].concertId").isEqualTo("3")
+                .jsonPath("$[1].concertId").isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("잔여 좌석과 요청 수량을 비교해 예매 가능 여부를 돌려준다")
+    void checkAvailability() {
+        // given
+        given(concertRepository.findAll()).willReturn(List.of(concert(1L, 5L)));
+        catalog.reload();
+
+        // when & then
+        client.get().uri("/concerts/1/availability?quantity=5").exchange()
+                .expectStatus().isOk()
+                .expectBody(Boolean.class).isEqualTo(true);
+
+        client.get().uri("/concerts/1/availability?quantity=6").exchange()
+                .expectStatus().isOk()
+                .expectBody(Boolean.class).isEqualTo(false);
+
+        client.get().uri("/concerts/1/availability?quantity=0").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("삭제 확인 주기에 다른 인스턴스에서 삭제된 공연은 목록에서 빠진다")
+    void sweepRemoved_DropsRemovedConcerts() {
+        // given
+        given(concertRepository.findAll()).willReturn(List.of(concert(1L, 5L), concert(2L, 5L)));
+        catalog.reload();
+        given(concertRepository.findAllIds()).willReturn(List.of(2L));
+
+        // when
+        catalog.sweepRemoved();
+
+        // then
+        client.get().uri("/concerts/1").exchange()
+                .expectStatus().isNotFound();
+        client.get().uri("/concerts/2").exchange()
+                .expectStatus().isOk();
+    }
+
+    private Concert concert(Long id, Long quantity) {
+        return Concert.builder()
+                .concertId(id)
+                .title("콘서트 " + id)
+                .description("설명")
+                .dateTime(LocalDateTime.now().plusDays(7))
+                .userEmail("test@test.com")
+                .quantity(quantity)
+                .build();
+    }
+}
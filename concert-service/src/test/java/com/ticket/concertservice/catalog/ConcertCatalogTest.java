@@ -0,0 +1,102 @@
+package com.ticket.concertservice.catalog;
+
+import com.ticket.concertservice.domain.Concert;
+import com.ticket.concertservice.dto.ConcertResponse;
+import com.ticket.concertservice.repository.ConcertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConcertCatalogTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    private ConcertCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ConcertCatalog(concertRepository, Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("처음에만 전체를 읽고, 이후에는 바뀐 공연만 읽어 기존 목록에 합친다")
+    void reload_IncrementalAfterFirstLoad() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(concertRepository.findAll()).willReturn(List.of(concert(1L, 5L, now), concert(2L, 5L, now)));
+        given(concertRepository.findByUpdatedAtGreaterThanEqual(any()))
+                .willReturn(List.of(concert(2L, 3L, now.plusSeconds(1))));
+
+        // when
+        catalog.reload();
+        catalog.reload();
+
+        // then
+        verify(concertRepository, times(1)).findAll();
+        assertThat(catalog.find(1L).getQuantity()).isEqualTo(5L);
+        assertThat(catalog.find(2L).getQuantity()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("갱신 중 읽은 예전 값은 커밋 직후 반영된 더 새로운 값을 덮어쓰지 않는다")
+    void reload_KeepsNewerListenerPut() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(concertRepository.findAll()).willReturn(List.of(concert(1L, 5L, now)));
+        catalog.reload();
+        catalog.put(ConcertResponse.from(concert(1L, 4L, now.plusSeconds(2))), now.plusSeconds(2));
+        given(concertRepository.findByUpdatedAtGreaterThanEqual(any()))
+                .willReturn(List.of(concert(1L, 5L, now)));
+
+        // when
+        catalog.reload();
+
+        // then
+        assertThat(catalog.find(1L).getQuantity()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("방금 추가된 공연은 id 목록에 없어도 삭제 확인에서 빼지 않는다")
+    void sweepRemoved_KeepsRecentlyAdded() {
+        // given
+        catalog.put(ConcertResponse.from(concert(1L, 5L, LocalDateTime.now())), LocalDateTime.now());
+        given(concertRepository.findAllIds()).willReturn(List.of());
+
+        // when
+        catalog.sweepRemoved();
+
+        // then
+        assertThat(catalog.find(1L)).isNotNull();
+        verify(concertRepository, never()).findAll();
+    }
+
+    private Concert concert(Long id, Long quantity, LocalDateTime updatedAt) {
+        Concert concert = Concert.builder()
+                .concertId(id)
+                .title("콘서트 " + id)
+                .description("설명")
+                .dateTime(LocalDateTime.now().plusDays(7))
+                .userEmail("test@test.com")
+                .quantity(quantity)
+                .build();
+        ReflectionTestUtils.setField(concert, "updatedAt", updatedAt);
+        return concert;
+    }
+}
@@ -71,7 +71,7 @@ class ConcertControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.concertId").value(concertResponse.getConcertId()))
+                .andExpect(jsonPath("$.concertId").value(String.valueOf(concertResponse.getConcertId())))
                 .andExpect(jsonPath("$.title").value(concertResponse.getTitle()))
                 .andExpect(jsonPath("$.description").value(concertResponse.getDescription()))
                 .andExpect(jsonPath("$.userEmail").value(concertResponse.getUserEmail()))
@@ -84,7 +84,7 @@ class ConcertControllerTest {
 
         mockMvc.perform(get("/concerts/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.concertId").value(concertResponse.getConcertId()))
+                .andExpect(jsonPath("$.concertId").value(String.valueOf(concertResponse.getConcertId())))
                 .andExpect(jsonPath("$.title").value(concertResponse.getTitle()));
     }
 
@@ -95,10 +95,19 @@ class ConcertControllerTest {
 
         mockMvc.perform(get("/concerts"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].concertId").value(concertResponse.getConcertId()))
+                .andExpect(jsonPath("$[0].concertId").value(String.valueOf(concertResponse.getConcertId())))
                 .andExpect(jsonPath("$[0].title").value(concertResponse.getTitle()));
     }
 
+    @Test
+    void testGetConcertsByIds() throws Exception {
+        when(concertService.findConcertsByIds(List.of(1L, 2L))).thenReturn(List.of(concert));
+
+        mockMvc.perform(get("/concerts").param("ids", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].concertId").value(String.valueOf(concertResponse.getConcertId())));
+    }
+
     @Test
     void testUpdateConcert() throws Exception {
         ConcertCreateRequest request = new ConcertCreateRequest(
@@ -123,7 +132,7 @@ class ConcertControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.concertId").value(updatedResponse.getConcertId()))
+                .andExpect(jsonPath("$.concertId").value(String.valueOf(updatedResponse.getConcertId())))
                 .andExpect(jsonPath("$.title").value(updatedResponse.getTitle()));
     }
 
@@ -142,7 +151,7 @@ class ConcertControllerTest {
         mockMvc.perform(get("/concerts/my")
                         .header("X-User", "test@test.com"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].concertId").value(concertResponse.getConcertId()))
+                .andExpect(jsonPath("$[0].concertId").value(String.valueOf(concertResponse.getConcertId())))
                 .andExpect(jsonPath("$[0].title").value(concertResponse.getTitle()));
     }
 
@@ -114,4 +114,59 @@ class ConcertTest {
         // then
         assertEquals(100L, concert.getRemainingSeats());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("수정 시 이미 팔린 좌석 수는 전체 좌석 수에 유지된다")
+    void updateKeepsSoldSeatsInCapacity() {
+        // given
+        Concert concert = Concert.builder()
+                .concertId(1L)
+                .quantity(100L)
+                .build();
+        concert.reserveSeats(30L);
+        ConcertCreateRequest updateRequest = new ConcertCreateRequest(
+                "수정된 제목",
+                "수정된 설명",
+                LocalDateTime.now().plusDays(14),
+                120L
+        );
+
+        // when
+        concert.update(updateRequest);
+
+        // then
+        assertEquals(120L, concert.getRemainingSeats());
+        assertEquals(150L, concert.getCapacity());
+    }
+
+    @Test
+    @DisplayName("좌석 보정은 잔여 좌석을 음수로 만들 수 없다")
+    void adjustSeats() {
+        // given
+        Concert concert = Concert.builder()
+                .concertId(1L)
+                .quantity(10L)
+                .build();
+
+        // when
+        concert.adjustSeats(-4L);
+
+        // then
+        assertEquals(6L, concert.getRemainingSeats());
+        assertThrows(IllegalStateException.class, () -> concert.adjustSeats(-7L));
+    }
+
+    @Test
+    @DisplayName("판매 시작 시각 이전에는 판매 중이 아니다")
+    void isOnSale() {
+        // given
+        LocalDateTime onSaleAt = LocalDateTime.now().plusHours(1);
+        Concert scheduled = Concert.builder().quantity(10L).onSaleAt(onSaleAt).build();
+        Concert immediate = Concert.builder().quantity(10L).build();
+
+        // when & then
+        assertFalse(scheduled.isOnSale(onSaleAt.minusSeconds(1)));
+        assertTrue(scheduled.isOnSale(onSaleAt));
+        assertTrue(immediate.isOnSale(LocalDateTime.now()));
+    }
+}
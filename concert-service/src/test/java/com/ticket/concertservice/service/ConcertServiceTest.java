@@ -1,18 +1,25 @@
 package com.ticket.concertservice.service;
 
+import com.ticket.concertservice.deadline.DeadlineGuard;
+import com.ticket.concertservice.domain.AppliedRollback;
 import com.ticket.concertservice.domain.Concert;
 import com.ticket.concertservice.dto.ConcertCreateRequest;
 import com.ticket.concertservice.dto.ConcertResponse;
+import com.ticket.concertservice.dto.SeatReservationItem;
+import com.ticket.concertservice.dto.SeatReservationResult;
+import com.ticket.concertservice.repository.AppliedRollbackRepository;
 import com.ticket.concertservice.repository.ConcertRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -39,6 +46,18 @@ class ConcertServiceTest {
     @Mock
     private RedissonClient redissonClient;
 
+    @Mock
+    private DeadlineGuard deadlineGuard;
+
+    @Mock
+    private SoldOutPublisher soldOutPublisher;
+
+    @Mock
+    private AppliedRollbackRepository appliedRollbackRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     // [기존 테스트 코드 시작]
     @Test
     @DisplayName("콘서트 생성이 성공적으로 이루어져야 한다")
@@ -364,6 +383,30 @@ class ConcertServiceTest {
         verify(mockLock).unlock();
     }
 
+    @Test
+    @DisplayName("좌석 예약 - 마지막 좌석이 팔리면 매진을 알린다")
+    void reserveSeats_LastSeatsPublishesSoldOut() throws InterruptedException {
+        // given
+        Long concertId = 1L;
+        Concert concert = Concert.builder()
+                .concertId(concertId)
+                .quantity(2L)
+                .build();
+
+        RLock mockLock = mock(RLock.class);
+        given(mockLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(mockLock.isHeldByCurrentThread()).willReturn(true);
+        given(redissonClient.getLock(anyString())).willReturn(mockLock);
+        given(concertRepository.findById(concertId)).willReturn(Optional.of(concert));
+
+        // when
+        boolean result = concertService.reserveSeats(concertId, 2L);
+
+        // then
+        assertTrue(result);
+        verify(soldOutPublisher).onSeatsChanged(concertId, 2L, 0L);
+    }
+
     @Test
     @DisplayName("좌석 예약 - 락 획득 실패")
     void reserveSeats_LockFailure() throws InterruptedException {
@@ -382,6 +425,32 @@ class ConcertServiceTest {
     }
 
 
+    @Test
+    @DisplayName("좌석 예약 - 판매 시작 전이면 예약하지 않는다")
+    void reserveSeats_BeforeOnSale() throws InterruptedException {
+        // given
+        Long concertId = 1L;
+        Concert concert = Concert.builder()
+                .concertId(concertId)
+                .quantity(10L)
+                .onSaleAt(LocalDateTime.now().plusMinutes(10))
+                .build();
+
+        RLock mockLock = mock(RLock.class);
+        given(mockLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(mockLock.isHeldByCurrentThread()).willReturn(true);
+        given(redissonClient.getLock(anyString())).willReturn(mockLock);
+        given(concertRepository.findById(concertId)).willReturn(Optional.of(concert));
+
+        // when
+        boolean result = concertService.reserveSeats(concertId, 2L);
+
+        // then
+        assertFalse(result);
+        assertEquals(10L, concert.getRemainingSeats());
+        verify(concertRepository, never()).save(any(Concert.class));
+    }
+
     @Test
     @DisplayName("좌석 예약 - 수량 부족")
     void reserveSeats_InsufficientSeats() throws InterruptedException {
@@ -407,6 +476,22 @@ class ConcertServiceTest {
         verify(mockLock).unlock();
     }
 
+    @Test
+    @DisplayName("좌석 예약 - 마감 시각이 지난 요청은 락을 잡지 않고 폐기")
+    void reserveSeats_DeadlineExpired() {
+        // given
+        Long concertId = 1L;
+        given(deadlineGuard.isExpired("lock")).willReturn(true);
+
+        // when
+        boolean result = concertService.reserveSeats(concertId, 2L);
+
+        // then
+        assertFalse(result);
+        verify(redissonClient, never()).getLock(anyString());
+        verify(concertRepository, never()).save(any(Concert.class));
+    }
+
     @Test
     @DisplayName("좌석 롤백 - 성공")
     void rollbackReserveSeats_Success() throws InterruptedException {
@@ -449,4 +534,159 @@ class ConcertServiceTest {
         assertFalse(result);
         verify(mockLock, never()).unlock();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("묶음 좌석 예약 - 공연당 락 한 번, 남은 좌석만큼 요청 순서대로 배정")
+    void reserveSeatsBatch_PartialAllocation() throws InterruptedException {
+        // given
+        Long concertId = 1L;
+        Concert concert = Concert.builder()
+                .concertId(concertId)
+                .quantity(3L)
+                .build();
+        List<SeatReservationItem> items = List.of(
+                new SeatReservationItem("a", concertId, 2L),
+                new SeatReservationItem("b", concertId, 2L),
+                new SeatReservationItem("c", concertId, 1L));
+
+        RLock mockLock = mock(RLock.class);
+        given(mockLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(mockLock.isHeldByCurrentThread()).willReturn(true);
+        given(redissonClient.getLock(anyString())).willReturn(mockLock);
+        given(concertRepository.findById(concertId)).willReturn(Optional.of(concert));
+
+        // when
+        List<SeatReservationResult> results = concertService.reserveSeatsBatch(items);
+
+        // then
+        assertEquals(List.of(true, false, true), results.stream().map(SeatReservationResult::isSuccess).toList());
+        assertEquals(0L, concert.getRemainingSeats());
+        verify(redissonClient, times(1)).getLock("concert:" + concertId);
+        verify(concertRepository, times(1)).save(concert);
+        verify(mockLock).unlock();
+    }
+
+    @Test
+    @DisplayName("묶음 좌석 예약 - 예열 요청은 판매 시작 전에도 락과 조회를 거쳐 성공하고 좌석은 바꾸지 않는다")
+    void reserveSeatsBatch_ProbeDoesNotChangeSeats() throws InterruptedException {
+        // given
+        Long concertId = 1L;
+        Concert concert = Concert.builder()
+                .concertId(concertId)
+                .quantity(3L)
+                .onSaleAt(LocalDateTime.now().plusMinutes(5))
+                .build();
+        List<SeatReservationItem> items = List.of(
+                SeatReservationItem.probe("a", concertId, 1L),
+                new SeatReservationItem("b", concertId, 1L));
+
+        RLock mockLock = mock(RLock.class);
+        given(mockLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(mockLock.isHeldByCurrentThread()).willReturn(true);
+        given(redissonClient.getLock(anyString())).willReturn(mockLock);
+        given(concertRepository.findById(concertId)).willReturn(Optional.of(concert));
+
+        // when
+        List<SeatReservationResult> results = concertService.reserveSeatsBatch(items);
+
+        // then
+        assertEquals(List.of(true, false), results.stream().map(SeatReservationResult::isSuccess).toList());
+        assertEquals(3L, concert.getRemainingSeats());
+        verify(concertRepository, never()).save(any());
+        verify(mockLock).unlock();
+    }
+
+    @Test
+    @DisplayName("묶음 좌석 롤백 - 공연별 수량 합계를 한 번에 되돌림")
+    void rollbackSeatsBatch_Success() throws InterruptedException {
+        // given
+        Long concertId = 1L;
+        Concert concert = Concert.builder()
+                .concertId(concertId)
+                .quantity(0L)
+                .build();
+        List<SeatReservationItem> items = List.of(
+                new SeatReservationItem("a", concertId, 2L),
+                new SeatReservationItem("b", concertId, 1L));
+
+        RLock mockLock = mock(RLock.class);
+        given(mockLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(mockLock.isHeldByCurrentThread()).willReturn(true);
+        given(redissonClient.getLock(anyString())).willReturn(mockLock);
+        given(concertRepository.findById(concertId)).willReturn(Optional.of(concert));
+
+        // when
+        List<SeatReservationResult> results = concertService.rollbackSeatsBatch(items);
+
+        // then
+        assertTrue(results.stream().allMatch(SeatReservationResult::isSuccess));
+        assertEquals(3L, concert.getRemainingSeats());
+        verify(concertRepository, times(1)).save(concert);
+    }
+
+    @Test
+    @DisplayName("묶음 좌석 예약 - 공연별 좌석 변경은 락을 풀기 전에 커밋된다")
+    void reserveSeatsBatch_CommitsBeforeUnlock() throws InterruptedException {
+        // given
+        Concert first = Concert.builder().concertId(1L).quantity(5L).build();
+        Concert second = Concert.builder().concertId(2L).quantity(5L).build();
+        List<SeatReservationItem> items = List.of(
+                new SeatReservationItem("a", 1L, 2L),
+                new SeatReservationItem("b", 2L, 2L));
+
+        RLock firstLock = mock(RLock.class);
+        RLock secondLock = mock(RLock.class);
+        given(firstLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(firstLock.isHeldByCurrentThread()).willReturn(true);
+        given(secondLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(secondLock.isHeldByCurrentThread()).willReturn(true);
+        given(redissonClient.getLock("concert:1")).willReturn(firstLock);
+        given(redissonClient.getLock("concert:2")).willReturn(secondLock);
+        given(concertRepository.findById(1L)).willReturn(Optional.of(first));
+        given(concertRepository.findById(2L)).willReturn(Optional.of(second));
+
+        // when
+        List<SeatReservationResult> results = concertService.reserveSeatsBatch(items);
+
+        // then
+        assertTrue(results.stream().allMatch(SeatReservationResult::isSuccess));
+        InOrder inOrder = inOrder(firstLock, secondLock, transactionManager);
+        inOrder.verify(firstLock).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(firstLock).unlock();
+        inOrder.verify(secondLock).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(secondLock).unlock();
+    }
+
+    @Test
+    @DisplayName("묶음 좌석 롤백 - 이미 반영한 보상 키는 좌석을 다시 더하지 않고 성공으로 돌려준다")
+    void rollbackSeatsBatch_SkipsAppliedCompensation() throws InterruptedException {
+        // given
+        Long concertId = 1L;
+        Concert concert = Concert.builder()
+                .concertId(concertId)
+                .quantity(0L)
+                .build();
+        List<SeatReservationItem> items = List.of(
+                new SeatReservationItem("1", concertId, 2L, "cancel:1"),
+                new SeatReservationItem("2", concertId, 1L, "cancel:2"));
+
+        RLock mockLock = mock(RLock.class);
+        given(mockLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(mockLock.isHeldByCurrentThread()).willReturn(true);
+        given(redissonClient.getLock(anyString())).willReturn(mockLock);
+        given(concertRepository.findById(concertId)).willReturn(Optional.of(concert));
+        given(appliedRollbackRepository.findAllById(List.of("cancel:1", "cancel:2")))
+                .willReturn(List.of(new AppliedRollback("cancel:1", concertId, 2L)));
+
+        // when
+        List<SeatReservationResult> results = concertService.rollbackSeatsBatch(items);
+
+        // then
+        assertTrue(results.stream().allMatch(SeatReservationResult::isSuccess));
+        assertEquals(1L, concert.getRemainingSeats());
+        verify(appliedRollbackRepository).saveAll(argThat((List<AppliedRollback> applied) ->
+                applied.size() == 1 && applied.get(0).getCompensationKey().equals("cancel:2")));
+    }
+}
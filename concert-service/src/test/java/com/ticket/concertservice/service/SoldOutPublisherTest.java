@@ -0,0 +1,99 @@
+package com.ticket.concertservice.service;
+
+import com.ticket.common.availability.AvailabilityEvent;
+import com.ticket.concertservice.repository.ConcertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RSet;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SoldOutPublisherTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private ConcertRepository concertRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private RLock lock;
+    @Mock
+    private RSet<String> soldOutSet;
+    @Mock
+    private RTopic topic;
+
+    private SoldOutPublisher soldOutPublisher;
+
+    @BeforeEach
+    void setUp() {
+        soldOutPublisher = new SoldOutPublisher(redissonClient, concertRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("매진 알림이 늦게 처리돼도 커밋된 잔여 좌석이 있으면 매진 목록에서 뺀다")
+    void onSeatsChanged_StaleSoldOutUsesCommittedQuantity() throws InterruptedException {
+        // given
+        givenLockAndRedis();
+        given(concertRepository.findQuantityById(1L)).willReturn(3L);
+
+        // when
+        soldOutPublisher.onSeatsChanged(1L, 2L, 0L);
+
+        // then
+        verify(soldOutSet).remove("1");
+        verify(soldOutSet, never()).add(any());
+        verify(topic).publish("RESTOCKED:1");
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("커밋된 잔여 좌석이 0 이면 매진 목록에 넣고 알린다")
+    void onSeatsChanged_SoldOut() throws InterruptedException {
+        // given
+        givenLockAndRedis();
+        given(concertRepository.findQuantityById(1L)).willReturn(0L);
+
+        // when
+        soldOutPublisher.onSeatsChanged(1L, 2L, 0L);
+
+        // then
+        verify(soldOutSet).add("1");
+        verify(topic).publish("SOLD_OUT:1");
+    }
+
+    @Test
+    @DisplayName("0 을 넘나들지 않는 좌석 변경은 알리지 않는다")
+    void onSeatsChanged_NoCrossing() {
+        // when
+        soldOutPublisher.onSeatsChanged(1L, 5L, 3L);
+
+        // then
+        verifyNoInteractions(redissonClient, concertRepository);
+    }
+
+    private void givenLockAndRedis() throws InterruptedException {
+        given(redissonClient.getLock("concert:1")).willReturn(lock);
+        given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(redissonClient.<String>getSet(AvailabilityEvent.SOLD_OUT_SET, StringCodec.INSTANCE)).willReturn(soldOutSet);
+        given(redissonClient.getTopic(AvailabilityEvent.CHANNEL, StringCodec.INSTANCE)).willReturn(topic);
+    }
+}
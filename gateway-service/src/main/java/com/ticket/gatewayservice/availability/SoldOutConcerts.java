@@ -0,0 +1,98 @@
+package com.ticket.gatewayservice.availability;
+
+import com.ticket.common.availability.AvailabilityEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * concert-service 가 알려 주는 매진 공연 목록의 로컬 사본.
+ * 채널 구독으로 바로 반영하고, 유실된 알림은 주기적으로 Redis 매진 목록을 읽어 복구한다.
+ */
+@Component
+@Slf4j
+public class SoldOutConcerts {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final Duration resyncInterval;
+    private final Set<Long> soldOut = ConcurrentHashMap.newKeySet();
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    public SoldOutConcerts(
+            ReactiveStringRedisTemplate redisTemplate,
+            ReactiveRedisMessageListenerContainer listenerContainer,
+            @Value("${gateway.sold-out.resync-interval:30s}") Duration resyncInterval) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.resyncInterval = resyncInterval;
+    }
+
+    @PostConstruct
+    void start() {
+        subscriptions.add(listenerContainer.receive(ChannelTopic.of(AvailabilityEvent.CHANNEL))
+                .map(ReactiveSubscription.Message::getMessage)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(message -> apply(AvailabilityEvent.parse(message)),
+                        e -> log.error("매진 채널 구독 종료", e)));
+
+        subscriptions.add(Flux.interval(Duration.ZERO, resyncInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> resync())
+                .subscribe());
+    }
+
+    @PreDestroy
+    void stop() {
+        subscriptions.dispose();
+    }
+
+    public boolean isEmpty() {
+        return soldOut.isEmpty();
+    }
+
+    public boolean isSoldOut(long concertId) {
+        return soldOut.contains(concertId);
+    }
+
+    void apply(AvailabilityEvent event) {
+        if (event == null) {
+            return;
+        }
+        if (event.type() == AvailabilityEvent.Type.SOLD_OUT) {
+            soldOut.add(event.concertId());
+        } else {
+            soldOut.remove(event.concertId());
+        }
+    }
+
+    private Mono<Void> resync() {
+        return redisTemplate.opsForSet().members(AvailabilityEvent.SOLD_OUT_SET)
+                .map(Long::parseLong)
+                .collectList()
+                .doOnNext(latest -> {
+                    soldOut.retainAll(latest);
+                    soldOut.addAll(latest);
+                })
+                .onErrorResume(e -> {
+                    log.warn("매진 목록 동기화 실패 - 기존 목록 유지: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -0,0 +1,106 @@
+package com.ticket.gatewayservice.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+
+/**
+ * 게이트웨이 -> 백엔드 구간 HttpClient 설정.
+ * 라우트마다 백엔드 호스트가 다르므로 라우트별 풀 설정을 원격 호스트 단위 풀(forRemoteHost)로 매핑한다.
+ * 풀 점유/대기 지표는 reactor.netty.connection.provider.* 로 remote.address 태그와 함께 노출된다.
+ */
+@Configuration
+@EnableConfigurationProperties(BackendHttpClientProperties.class)
+@Slf4j
+public class BackendHttpClientConfig {
+
+    private static final String POOL_NAME = "gateway-backend";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider backendConnectionProvider(BackendHttpClientProperties properties,
+                                                        GatewayProperties gatewayProperties) {
+        BackendHttpClientProperties.Pool defaults = properties.getPool();
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(POOL_NAME);
+        applyPool(builder, defaults);
+
+        for (RouteDefinition route : gatewayProperties.getRoutes()) {
+            BackendHttpClientProperties.Pool override = properties.getRoutes().get(route.getId());
+            if (override == null) {
+                continue;
+            }
+
+            InetSocketAddress remoteHost = remoteHostOf(route.getUri());
+            if (remoteHost == null) {
+                log.warn("라우트별 풀 설정을 적용할 수 없는 URI - routeId: {}, uri: {}", route.getId(), route.getUri());
+                continue;
+            }
+
+            BackendHttpClientProperties.Pool pool = override.withDefaults(defaults);
+            builder.forRemoteHost(remoteHost, spec -> applyPool(spec, pool));
+            log.info("라우트별 커넥션 풀 적용 - routeId: {}, host: {}, maxConnections: {}",
+                    route.getId(), remoteHost, pool.getMaxConnections());
+        }
+
+        return builder.build();
+    }
+
+    @Bean
+    public HttpClient gatewayHttpClient(ConnectionProvider backendConnectionProvider,
+                                        BackendHttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(backendConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .metrics(true, BackendHttpClientConfig::uriTag);
+
+        if (properties.isH2c()) {
+            httpClient = httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C);
+        }
+        return httpClient;
+    }
+
+    private static <S extends ConnectionProvider.ConnectionPoolSpec<S>> void applyPool(
+            S spec, BackendHttpClientProperties.Pool pool) {
+        spec.maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictionInterval())
+                .metrics(true);
+    }
+
+    // HttpClient 는 요청 시 호스트 주소를 unresolved 상태로 풀에 넘기므로 동일한 형태로 키를 만든다.
+    private static InetSocketAddress remoteHostOf(URI uri) {
+        if (uri == null || uri.getHost() == null) {
+            return null;
+        }
+        String scheme = uri.getScheme();
+        int port = uri.getPort();
+        if ("http".equalsIgnoreCase(scheme)) {
+            return InetSocketAddress.createUnresolved(uri.getHost(), port != -1 ? port : 80);
+        }
+        if ("https".equalsIgnoreCase(scheme)) {
+            return InetSocketAddress.createUnresolved(uri.getHost(), port != -1 ? port : 443);
+        }
+        return null;
+    }
+
+    // uri 태그 카디널리티를 줄이기 위해 첫 번째 경로 세그먼트만 남긴다. (/concerts/1/reserve -> /concerts)
+    private static String uriTag(String uri) {
+        int next = uri.indexOf('/', 1);
+        int query = uri.indexOf('?');
+        int end = next == -1 ? query : (query == -1 ? next : Math.min(next, query));
+        return end == -1 ? uri : uri.substring(0, end);
+    }
+}
@@ -0,0 +1,59 @@
+package com.ticket.gatewayservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gateway.backend")
+public class BackendHttpClientProperties {
+
+    // 백엔드 구간 h2c(평문 HTTP/2) 사용 여부. 백엔드가 h2c 를 지원하지 않으면 HTTP/1.1 로 동작한다.
+    private boolean h2c = false;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    // 모든 라우트에 적용되는 기본 커넥션 풀 설정
+    private Pool pool = Pool.defaults();
+
+    // 라우트 ID 별 커넥션 풀 설정. 지정하지 않은 값은 기본 설정을 따른다.
+    private Map<String, Pool> routes = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private Integer maxConnections;
+        private Integer pendingAcquireMaxCount;
+        private Duration pendingAcquireTimeout;
+        private Duration maxIdleTime;
+        private Duration maxLifeTime;
+        private Duration evictionInterval;
+
+        static Pool defaults() {
+            Pool pool = new Pool();
+            pool.maxConnections = 500;
+            pool.pendingAcquireMaxCount = 1000;
+            pool.pendingAcquireTimeout = Duration.ofSeconds(3);
+            pool.maxIdleTime = Duration.ofSeconds(30);
+            pool.maxLifeTime = Duration.ofMinutes(5);
+            pool.evictionInterval = Duration.ofSeconds(30);
+            return pool;
+        }
+
+        public Pool withDefaults(Pool defaults) {
+            Pool merged = new Pool();
+            merged.maxConnections = maxConnections != null ? maxConnections : defaults.maxConnections;
+            merged.pendingAcquireMaxCount = pendingAcquireMaxCount != null ? pendingAcquireMaxCount : defaults.pendingAcquireMaxCount;
+            merged.pendingAcquireTimeout = pendingAcquireTimeout != null ? pendingAcquireTimeout : defaults.pendingAcquireTimeout;
+            merged.maxIdleTime = maxIdleTime != null ? maxIdleTime : defaults.maxIdleTime;
+            merged.maxLifeTime = maxLifeTime != null ? maxLifeTime : defaults.maxLifeTime;
+            merged.evictionInterval = evictionInterval != null ? evictionInterval : defaults.evictionInterval;
+            return merged;
+        }
+    }
+}
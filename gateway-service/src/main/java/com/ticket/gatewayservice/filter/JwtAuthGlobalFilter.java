@@ -1,6 +1,8 @@
 package com.ticket.gatewayservice.filter;
 
 import com.ticket.gatewayservice.security.JwtProvider;
+import com.ticket.gatewayservice.security.TokenRevocationChecker;
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
@@ -9,6 +11,7 @@ import org.springframework.core.Ordered;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
@@ -19,19 +22,41 @@ public class JwtAuthGlobalFilter implements GlobalFilter, Ordered {
     @Autowired
     private JwtProvider jwtProvider;
 
+    @Autowired
+    private TokenRevocationChecker tokenRevocationChecker;
+
     private static final String[] PUBLIC_ROUTES = {
             "/user-service/users/login",
             "/user-service/users/signup",
+            "/user-service/users/refresh",
             "/concert-service/concerts/all",
             "/reservation-service/concerts/all",
             "/eureka/**"
     };
 
+    // 서비스 간 호출 전용(좌석 예약/롤백/보정, 재고 조회). 게이트웨이로는 인증 여부와 관계없이 막는다.
+    private static final String[] INTERNAL_ROUTES = {
+            "/concert-service/concerts/*/reserve",
+            "/concert-service/concerts/*/rollback",
+            "/concert-service/concerts/*/adjust",
+            "/concert-service/concerts/batch/**",
+            "/concert-service/concerts/inventory"
+    };
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         String path = exchange.getRequest().getPath().value();
         log.info("Request path: {}", path);
 
+        for (String internalRoute : INTERNAL_ROUTES) {
+            if (pathMatcher.match(internalRoute, path)) {
+                log.warn("Internal route blocked: {}", path);
+                return notFound(exchange);
+            }
+        }
+
         for (String publicRoute : PUBLIC_ROUTES) {
             if (path.startsWith(publicRoute)) {
                 log.info("Public route accessed: {}", path);
@@ -50,19 +75,27 @@ public class JwtAuthGlobalFilter implements GlobalFilter, Ordered {
         String token = authHeader.substring(7);
         log.info("Token: {}", token);
 
-        if (!jwtProvider.validateToken(token)) {
+        Claims claims = jwtProvider.parseClaims(token);
+        if (claims == null) {
             log.error("Invalid token");
             return unauthorized(exchange);
         }
 
-        String username = jwtProvider.getUsername(token);
+        String username = claims.getSubject();
         log.info("Username from token: {}", username);
 
-        exchange = exchange.mutate()
-                .request(r -> r.headers(headers -> headers.add("X-User", username)))
-                .build();
+        return tokenRevocationChecker.isRevoked(JwtProvider.tokenId(claims, token))
+                .flatMap(revoked -> {
+                    if (revoked) {
+                        log.error("Revoked token");
+                        return unauthorized(exchange);
+                    }
 
-        return chain.filter(exchange);
+                    ServerWebExchange authenticated = exchange.mutate()
+                            .request(r -> r.headers(headers -> headers.add("X-User", username)))
+                            .build();
+                    return chain.filter(authenticated);
+                });
     }
 
     private Mono<Void> unauthorized(ServerWebExchange exchange) {
@@ -71,6 +104,12 @@ public class JwtAuthGlobalFilter implements GlobalFilter, Ordered {
         return response.setComplete();
     }
 
+    private Mono<Void> notFound(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.NOT_FOUND);
+        return response.setComplete();
+    }
+
     @Override
     public int getOrder() {
         return -1;
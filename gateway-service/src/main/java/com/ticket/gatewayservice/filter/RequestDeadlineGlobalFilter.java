@@ -0,0 +1,67 @@
+package com.ticket.gatewayservice.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 모든 백엔드 요청에 마감 시각(X-Request-Deadline, epoch millis)을 찍는다.
+ * 클라이언트가 X-Request-Timeout(ms) 으로 대기 한도를 알려주면 그 값을 쓰되 max-timeout 을 넘지 않게 한다.
+ */
+@Component
+@Slf4j
+public class RequestDeadlineGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String DEADLINE_HEADER = "X-Request-Deadline";
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private final long defaultTimeoutMillis;
+    private final long maxTimeoutMillis;
+
+    public RequestDeadlineGlobalFilter(
+            @Value("${gateway.deadline.default-timeout:3s}") Duration defaultTimeout,
+            @Value("${gateway.deadline.max-timeout:10s}") Duration maxTimeout) {
+        this.defaultTimeoutMillis = defaultTimeout.toMillis();
+        this.maxTimeoutMillis = maxTimeout.toMillis();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long timeoutMillis = resolveTimeout(exchange.getRequest().getHeaders().getFirst(TIMEOUT_HEADER));
+        String deadline = String.valueOf(System.currentTimeMillis() + timeoutMillis);
+
+        // 외부에서 들어온 마감 헤더는 신뢰하지 않고 게이트웨이 기준으로 다시 찍는다.
+        ServerWebExchange stamped = exchange.mutate()
+                .request(r -> r.headers(headers -> headers.set(DEADLINE_HEADER, deadline)))
+                .build();
+        return chain.filter(stamped);
+    }
+
+    private long resolveTimeout(String requested) {
+        if (requested == null) {
+            return defaultTimeoutMillis;
+        }
+        try {
+            long millis = Long.parseLong(requested.trim());
+            if (millis <= 0) {
+                return defaultTimeoutMillis;
+            }
+            return Math.min(millis, maxTimeoutMillis);
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 타임아웃 헤더 무시: {}", requested);
+            return defaultTimeoutMillis;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return -2;
+    }
+}
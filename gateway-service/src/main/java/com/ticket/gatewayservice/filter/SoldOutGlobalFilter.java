@@ -0,0 +1,106 @@
+package com.ticket.gatewayservice.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.gatewayservice.availability.SoldOutConcerts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 매진 공연 예매 요청은 reservation-service 로 넘기지 않고 게이트웨이에서 409 로 끝낸다.
+ * 매진 공연이 하나도 없으면 본문을 읽지 않고 그대로 통과시킨다.
+ */
+@Component
+@Slf4j
+public class SoldOutGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final Set<String> RESERVE_PATHS = Set.of(
+            "/reservation-service/reservations",
+            "/reservation-service/reservations/intake"
+    );
+
+    private final SoldOutConcerts soldOutConcerts;
+    private final ObjectMapper objectMapper;
+    private final Counter rejectedCounter;
+
+    public SoldOutGlobalFilter(SoldOutConcerts soldOutConcerts, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.soldOutConcerts = soldOutConcerts;
+        this.objectMapper = objectMapper;
+        this.rejectedCounter = meterRegistry.counter("gateway.sold-out.rejected");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (soldOutConcerts.isEmpty()
+                || !HttpMethod.POST.equals(request.getMethod())
+                || !RESERVE_PATHS.contains(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        // 본문을 캐시해 두고 읽으므로 백엔드에는 그대로 전달된다.
+        return ServerWebExchangeUtils.cacheRequestBodyAndRequest(exchange, cached -> {
+            DataBuffer body = exchange.getAttribute(ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR);
+            Long concertId = concertIdOf(body);
+            if (concertId != null && soldOutConcerts.isSoldOut(concertId)) {
+                rejectedCounter.increment();
+                exchange.getResponse().setStatusCode(HttpStatus.CONFLICT);
+                return exchange.getResponse().setComplete();
+            }
+            return chain.filter(exchange.mutate().request(cached).build());
+        });
+    }
+
+    private Long concertIdOf(DataBuffer body) {
+        if (body == null || body.readableByteCount() == 0) {
+            return null;
+        }
+        try {
+            String json = body.toString(body.readPosition(), body.readableByteCount(), StandardCharsets.UTF_8);
+            return toLong(objectMapper.readTree(json).get("concertId"));
+        } catch (IOException e) {
+            // 잘못된 본문은 백엔드가 판단하게 둔다.
+            return null;
+        }
+    }
+
+    // 공연 id 는 응답에서 문자열로 내려가므로(2^53 초과) 숫자와 문자열을 모두 받는다.
+    private static Long toLong(JsonNode concertId) {
+        if (concertId == null) {
+            return null;
+        }
+        if (concertId.canConvertToLong()) {
+            return concertId.asLong();
+        }
+        if (concertId.isTextual()) {
+            try {
+                return Long.parseLong(concertId.asText().trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    // 인증(-1) 이후에 확인한다.
+    @Override
+    public int getOrder() {
+        return 0;
+    }
+}
@@ -34,6 +34,27 @@ public class JwtProvider {
         }
     }
 
+    public Claims parseClaims(String token) {
+        try {
+            return Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Token validation error: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // jti 가 없는 이전 토큰은 서명 부분을 식별자로 쓴다. (user-service 와 같은 규칙)
+    public static String tokenId(Claims claims, String token) {
+        if (claims.getId() != null) {
+            return claims.getId();
+        }
+        return token.substring(token.lastIndexOf('.') + 1);
+    }
+
     public String getUsername(String token) {
         Claims claims = Jwts.parserBuilder()
                 .setSigningKey(key)
@@ -0,0 +1,123 @@
+package com.ticket.gatewayservice.security;
+
+import com.ticket.common.util.BloomFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * 로그아웃된 토큰(jti)을 게이트웨이에서 거른다.
+ * 요청 경로에서는 로컬 Bloom filter 만 확인하고, 필터에 걸린 경우에만 Redis 에 정확히 조회한다.
+ * 필터는 주기적으로 Redis 의 살아있는 폐기 키로 새로 만들어 교체하므로 메모리가 로그아웃 누적량과 무관하다.
+ */
+@Component
+@Slf4j
+public class TokenRevocationChecker {
+
+    public static final String REVOKED_KEY_PREFIX = "token:revoked:";
+    public static final String REVOCATION_CHANNEL = "token:revocations";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final Duration rebuildInterval;
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    public TokenRevocationChecker(
+            ReactiveStringRedisTemplate redisTemplate,
+            ReactiveRedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${gateway.revocation.expected-revocations:100000}") long expectedRevocations,
+            @Value("${gateway.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${gateway.revocation.rebuild-interval:10m}") Duration rebuildInterval) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildInterval = rebuildInterval;
+        this.current = newFilter();
+    }
+
+    @PostConstruct
+    void start() {
+        subscriptions.add(listenerContainer.receive(ChannelTopic.of(REVOCATION_CHANNEL))
+                .map(ReactiveSubscription.Message::getMessage)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(this::remember, e -> log.error("토큰 폐기 채널 구독 종료", e)));
+
+        // 기동 직후 한 번, 이후 주기적으로 Redis 기준으로 필터를 다시 만든다. (구독이 끊긴 동안 놓친 폐기도 복구된다)
+        subscriptions.add(Flux.interval(Duration.ZERO, rebuildInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> rebuild())
+                .subscribe());
+    }
+
+    @PreDestroy
+    void stop() {
+        subscriptions.dispose();
+    }
+
+    public Mono<Boolean> isRevoked(String tokenId) {
+        if (!current.mightContain(tokenId)) {
+            return Mono.just(false);
+        }
+
+        return redisTemplate.hasKey(REVOKED_KEY_PREFIX + tokenId)
+                // 필터에 걸렸는데 확인할 수 없으면 통과시키지 않는다.
+                .onErrorReturn(true)
+                .doOnNext(revoked -> meterRegistry.counter("gateway.token.revocation.exact-check",
+                        "revoked", String.valueOf(revoked)).increment());
+    }
+
+    void remember(String tokenId) {
+        current.put(tokenId);
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+
+    Mono<Void> rebuild() {
+        BloomFilter next = newFilter();
+        building = next;
+
+        ScanOptions options = ScanOptions.scanOptions().match(REVOKED_KEY_PREFIX + "*").count(1000).build();
+        return redisTemplate.scan(options)
+                .doOnNext(key -> next.put(key.substring(REVOKED_KEY_PREFIX.length())))
+                .then(Mono.fromRunnable(() -> {
+                    current = next;
+                    building = null;
+                }))
+                .onErrorResume(e -> {
+                    building = null;
+                    log.warn("토큰 폐기 필터 재구성 실패 - 기존 필터 유지: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+}
@@ -0,0 +1,117 @@
+package com.ticket.gatewayservice.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.gatewayservice.availability.SoldOutConcerts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SoldOutGlobalFilterTest {
+
+    // 2^53 보다 큰 Snowflake id
+    private static final long CONCERT_ID = 300_000_000_000_000_001L;
+
+    @Mock
+    private SoldOutConcerts soldOutConcerts;
+    @Mock
+    private GatewayFilterChain chain;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SoldOutGlobalFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SoldOutGlobalFilter(soldOutConcerts, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("문자열로 보낸 매진 공연 id 도 게이트웨이에서 409 로 끝낸다")
+    void filter_StringConcertIdSoldOut() {
+        // given
+        given(soldOutConcerts.isEmpty()).willReturn(false);
+        given(soldOutConcerts.isSoldOut(CONCERT_ID)).willReturn(true);
+        MockServerWebExchange exchange = reserve("{\"concertId\":\"" + CONCERT_ID + "\",\"quantity\":2}");
+
+        // when
+        filter.filter(exchange, chain).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(meterRegistry.counter("gateway.sold-out.rejected").count()).isEqualTo(1);
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("숫자로 보낸 매진 공연 id 는 409 로 끝낸다")
+    void filter_NumericConcertIdSoldOut() {
+        // given
+        given(soldOutConcerts.isEmpty()).willReturn(false);
+        given(soldOutConcerts.isSoldOut(CONCERT_ID)).willReturn(true);
+        MockServerWebExchange exchange = reserve("{\"concertId\":" + CONCERT_ID + ",\"quantity\":2}");
+
+        // when
+        filter.filter(exchange, chain).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("매진이 아닌 공연은 그대로 통과시킨다")
+    void filter_NotSoldOutPasses() {
+        // given
+        given(soldOutConcerts.isEmpty()).willReturn(false);
+        given(soldOutConcerts.isSoldOut(CONCERT_ID)).willReturn(false);
+        given(chain.filter(any())).willReturn(Mono.empty());
+        MockServerWebExchange exchange = reserve("{\"concertId\":\"" + CONCERT_ID + "\",\"quantity\":2}");
+
+        // when
+        filter.filter(exchange, chain).block();
+
+        // then
+        assertThat(exchange.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.CONFLICT);
+        verify(chain).filter(any());
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 공연 id 는 백엔드가 판단하도록 통과시킨다")
+    void filter_InvalidConcertIdPasses() {
+        // given
+        given(soldOutConcerts.isEmpty()).willReturn(false);
+        given(chain.filter(any())).willReturn(Mono.empty());
+        MockServerWebExchange exchange = reserve("{\"concertId\":\"abc\",\"quantity\":2}");
+
+        // when
+        filter.filter(exchange, chain).block();
+
+        // then
+        verify(soldOutConcerts, never()).isSoldOut(anyLong());
+        verify(chain).filter(any());
+    }
+
+    private MockServerWebExchange reserve(String body) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/reservation-service/reservations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body));
+    }
+}
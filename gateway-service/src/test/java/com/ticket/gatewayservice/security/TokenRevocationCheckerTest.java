@@ -0,0 +1,130 @@
+package com.ticket.gatewayservice.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationCheckerTest {
+
+    @Mock
+    private ReactiveStringRedisTemplate redisTemplate;
+    @Mock
+    private ReactiveRedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationChecker checker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        checker = new TokenRevocationChecker(redisTemplate, listenerContainer, meterRegistry,
+                1_000, 0.01, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("필터에 없는 토큰은 Redis 를 조회하지 않고 통과시킨다")
+    void isRevoked_NotInFilterSkipsRedis() {
+        // when
+        Boolean revoked = checker.isRevoked("jti-1").block();
+
+        // then
+        assertThat(revoked).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("필터에 걸린 토큰은 Redis 로 정확히 확인한다")
+    void isRevoked_FilterHitChecksRedis() {
+        // given
+        checker.remember("jti-1");
+        given(redisTemplate.hasKey(TokenRevocationChecker.REVOKED_KEY_PREFIX + "jti-1")).willReturn(Mono.just(true));
+
+        // when
+        Boolean revoked = checker.isRevoked("jti-1").block();
+
+        // then
+        assertThat(revoked).isTrue();
+        assertThat(meterRegistry.counter("gateway.token.revocation.exact-check", "revoked", "true").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터 오탐은 Redis 확인 결과대로 통과시킨다")
+    void isRevoked_FalsePositivePasses() {
+        // given
+        checker.remember("jti-1");
+        given(redisTemplate.hasKey(TokenRevocationChecker.REVOKED_KEY_PREFIX + "jti-1")).willReturn(Mono.just(false));
+
+        // when
+        Boolean revoked = checker.isRevoked("jti-1").block();
+
+        // then
+        assertThat(revoked).isFalse();
+    }
+
+    @Test
+    @DisplayName("필터에 걸렸는데 Redis 를 조회할 수 없으면 폐기된 것으로 본다")
+    void isRevoked_RedisFailureFailsClosed() {
+        // given
+        checker.remember("jti-1");
+        given(redisTemplate.hasKey(anyString())).willReturn(Mono.error(new IllegalStateException("연결 실패")));
+
+        // when
+        Boolean revoked = checker.isRevoked("jti-1").block();
+
+        // then
+        assertThat(revoked).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성한 필터는 Redis 에 남은 폐기 키만 담는다")
+    void rebuild_ReplacesFilterWithRedisKeys() {
+        // given
+        checker.remember("expired");
+        given(redisTemplate.scan(any(ScanOptions.class)))
+                .willReturn(Flux.just(TokenRevocationChecker.REVOKED_KEY_PREFIX + "jti-2"));
+        given(redisTemplate.hasKey(TokenRevocationChecker.REVOKED_KEY_PREFIX + "jti-2")).willReturn(Mono.just(true));
+
+        // when
+        checker.rebuild().block();
+
+        // then
+        assertThat(checker.isRevoked("jti-2").block()).isTrue();
+        assertThat(checker.isRevoked("expired").block()).isFalse();
+        verify(redisTemplate, never()).hasKey(TokenRevocationChecker.REVOKED_KEY_PREFIX + "expired");
+    }
+
+    @Test
+    @DisplayName("재구성에 실패하면 기존 필터를 그대로 쓴다")
+    void rebuild_FailureKeepsFilter() {
+        // given
+        checker.remember("jti-1");
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(Flux.error(new IllegalStateException("연결 실패")));
+        given(redisTemplate.hasKey(TokenRevocationChecker.REVOKED_KEY_PREFIX + "jti-1")).willReturn(Mono.just(true));
+
+        // when
+        checker.rebuild().block();
+
+        // then
+        assertThat(checker.isRevoked("jti-1").block()).isTrue();
+    }
+}
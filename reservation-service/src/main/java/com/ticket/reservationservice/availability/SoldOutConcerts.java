@@ -0,0 +1,88 @@
+package com.ticket.reservationservice.availability;
+
+import com.ticket.common.availability.AvailabilityEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * concert-service 가 알려 주는 매진 공연 목록의 로컬 사본.
+ * 매진 공연 예매는 concert-service 호출 없이 바로 거절한다.
+ * 채널 메시지는 유실될 수 있으므로 주기적으로 Redis 의 매진 목록으로 다시 맞춘다.
+ */
+@Component
+@Slf4j
+public class SoldOutConcerts {
+
+    private final RedissonClient redissonClient;
+    private final Counter rejectedCounter;
+    private final Set<Long> soldOut = ConcurrentHashMap.newKeySet();
+    private RTopic topic;
+    private int listenerId;
+
+    public SoldOutConcerts(RedissonClient redissonClient, MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.rejectedCounter = meterRegistry.counter("reservation.sold-out.rejected");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        topic = redissonClient.getTopic(AvailabilityEvent.CHANNEL, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> apply(AvailabilityEvent.parse(message)));
+        resync();
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        topic.removeListener(listenerId);
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.sold-out.resync-interval:PT30S}")
+    public void resync() {
+        try {
+            Set<Long> latest = ConcurrentHashMap.newKeySet();
+            Set<String> stored = redissonClient.<String>getSet(AvailabilityEvent.SOLD_OUT_SET, StringCodec.INSTANCE).readAll();
+            for (String concertId : stored) {
+                latest.add(Long.parseLong(concertId));
+            }
+            soldOut.retainAll(latest);
+            soldOut.addAll(latest);
+        } catch (Exception e) {
+            log.warn("매진 목록 동기화 실패 - 기존 목록 유지: {}", e.getMessage());
+        }
+    }
+
+    public boolean isSoldOut(Long concertId) {
+        return concertId != null && soldOut.contains(concertId);
+    }
+
+    // 매진이면 거절 건수를 세고 true
+    public boolean reject(Long concertId) {
+        if (!isSoldOut(concertId)) {
+            return false;
+        }
+        rejectedCounter.increment();
+        return true;
+    }
+
+    void apply(AvailabilityEvent event) {
+        if (event == null) {
+            return;
+        }
+        if (event.type() == AvailabilityEvent.Type.SOLD_OUT) {
+            soldOut.add(event.concertId());
+        } else {
+            soldOut.remove(event.concertId());
+        }
+    }
+}
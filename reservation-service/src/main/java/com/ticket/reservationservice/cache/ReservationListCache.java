@@ -0,0 +1,323 @@
+package com.ticket.reservationservice.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 예매 목록(GET /reservations/user) 캐시. L1 은 인스턴스 메모리, L2 는 Redis 해시(예매 id -> JSON)다.
+ * 예매/취소는 목록을 지우지 않고 해당 항목만 바꿔 넣으므로, 구매 직후 조회도 캐시에서 바로 나간다.
+ * 쓰기마다 사용자 버전을 올려, 그 사이 DB 에서 읽어 온 오래된 목록이 L2 에 채워지지 않게 한다.
+ * 다른 인스턴스의 L1 은 토픽으로 알려 비우고, 다음 조회 때 갱신된 L2 에서 다시 채운다.
+ */
+@Component
+@Slf4j
+public class ReservationListCache {
+
+    public static final String METRIC = "reservation.user-cache";
+
+    private static final String LIST_KEY_PREFIX = "reservation:user:";
+    private static final String VERSION_KEY_PREFIX = "reservation:user-version:";
+    private static final String INVALIDATION_TOPIC = "reservation:user-cache";
+    private static final String LOADED_FIELD = "_loaded";
+
+    // KEYS: 목록, 버전 / ARGV: 예매 id, JSON, ttl(ms). 목록이 있을 때만 항목을 바꾸고 버전은 항상 올린다.
+    static final String UPSERT_SCRIPT = """
+            local version = redis.call('incr', KEYS[2])
+            redis.call('pexpire', KEYS[2], ARGV[3])
+            if redis.call('exists', KEYS[1]) == 1 then
+                redis.call('hset', KEYS[1], ARGV[1], ARGV[2])
+                redis.call('pexpire', KEYS[1], ARGV[3])
+            end
+            return version
+            """;
+
+    // KEYS: 목록, 버전 / ARGV: 읽기 전 버전, ttl(ms), (예매 id, JSON)... 버전이 그대로일 때만 채운다.
+    static final String FILL_SCRIPT = """
+            if tonumber(redis.call('get', KEYS[2]) or '0') ~= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('del', KEYS[1])
+            redis.call('hset', KEYS[1], '_loaded', '1')
+            for i = 3, #ARGV, 2 do
+                redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('pexpire', KEYS[1], ARGV[2])
+            return 1
+            """;
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final Duration localTtl;
+    private final Duration remoteTtl;
+    private final int maxLocalEntries;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, CachedList> local = new ConcurrentHashMap<>();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final DistributionSummary entryBytes;
+
+    private RTopic topic;
+    private int listenerId;
+
+    public ReservationListCache(RedissonClient redissonClient,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${reservation.user-cache.local-ttl:30s}") Duration localTtl,
+                                @Value("${reservation.user-cache.remote-ttl:10m}") Duration remoteTtl,
+                                @Value("${reservation.user-cache.max-local-entries:10000}") int maxLocalEntries) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.localTtl = localTtl;
+        this.remoteTtl = remoteTtl;
+        this.maxLocalEntries = maxLocalEntries;
+
+        // 적중률은 requests{level, result} 로 본다. 사용자당 메모리는 entry.bytes(직렬화 크기 기준 추정치) 분포로 본다.
+        this.localHits = meterRegistry.counter(METRIC + ".requests", "level", "l1", "result", "hit");
+        this.localMisses = meterRegistry.counter(METRIC + ".requests", "level", "l1", "result", "miss");
+        this.remoteHits = meterRegistry.counter(METRIC + ".requests", "level", "l2", "result", "hit");
+        this.remoteMisses = meterRegistry.counter(METRIC + ".requests", "level", "l2", "result", "miss");
+        this.entryBytes = DistributionSummary.builder(METRIC + ".entry.bytes")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder(METRIC + ".local.size", local, Map::size).register(meterRegistry);
+        Gauge.builder(METRIC + ".local.bytes", local,
+                entries -> entries.values().stream().mapToLong(CachedList::bytes).sum())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        topic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> onInvalidation(message));
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        topic.removeListener(listenerId);
+    }
+
+    public Optional<List<ReservationResponse>> find(String userEmail) {
+        CachedList cached = local.get(userEmail);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            localHits.increment();
+            return Optional.of(cached.reservations());
+        }
+        localMisses.increment();
+
+        Map<String, String> entries;
+        try {
+            entries = redissonClient.<String, String>getMap(listKey(userEmail), StringCodec.INSTANCE).readAllMap();
+        } catch (Exception e) {
+            log.warn("예매 목록 캐시 조회 실패 - DB 에서 조회: {}", e.getMessage());
+            return Optional.empty();
+        }
+        if (entries == null || !entries.containsKey(LOADED_FIELD)) {
+            remoteMisses.increment();
+            return Optional.empty();
+        }
+        remoteHits.increment();
+
+        List<ReservationResponse> reservations = new ArrayList<>(entries.size());
+        long bytes = 0;
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            if (!LOADED_FIELD.equals(entry.getKey())) {
+                reservations.add(read(entry.getValue()));
+                bytes += entry.getValue().getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        List<ReservationResponse> sortedReservations = sorted(reservations);
+        putLocal(userEmail, sortedReservations, bytes);
+        return Optional.of(sortedReservations);
+    }
+
+    // DB 에서 읽기 전에 가져 둔다. fill 때 이 값이 바뀌어 있으면 그 사이 쓰기가 있었던 것이다.
+    public long version(String userEmail) {
+        try {
+            String version = redissonClient.<String>getBucket(versionKey(userEmail), StringCodec.INSTANCE).get();
+            return version == null ? 0 : Long.parseLong(version);
+        } catch (Exception e) {
+            log.warn("예매 목록 캐시 버전 조회 실패: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    public void fill(String userEmail, long version, List<ReservationResponse> reservations) {
+        if (version < 0) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(2 + reservations.size() * 2);
+        args.add(String.valueOf(version));
+        args.add(String.valueOf(remoteTtl.toMillis()));
+        long bytes = 0;
+        for (ReservationResponse reservation : reservations) {
+            String json = write(reservation);
+            args.add(String.valueOf(reservation.getReservationId()));
+            args.add(json);
+            bytes += json.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        try {
+            Long filled = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, FILL_SCRIPT,
+                    RScript.ReturnType.INTEGER, keys(userEmail), args.toArray());
+            if (filled != null && filled == 1) {
+                putLocal(userEmail, sorted(reservations), bytes);
+            }
+        } catch (Exception e) {
+            log.warn("예매 목록 캐시 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    // 예매 생성/취소가 커밋된 뒤 해당 항목만 바꿔 넣는다.
+    public void onSaved(ReservationResponse reservation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(reservation);
+                }
+            });
+        } else {
+            apply(reservation);
+        }
+    }
+
+    private void apply(ReservationResponse reservation) {
+        String userEmail = reservation.getUserEmail();
+        String json = write(reservation);
+        local.computeIfPresent(userEmail, (email, cached) -> cached.upsert(reservation, json));
+
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, UPSERT_SCRIPT,
+                    RScript.ReturnType.INTEGER, keys(userEmail),
+                    String.valueOf(reservation.getReservationId()), json, String.valueOf(remoteTtl.toMillis()));
+            topic.publish(instanceId + ":" + userEmail);
+        } catch (Exception e) {
+            // 바꿔 넣지 못한 목록이 남지 않도록 지운다. 이마저 실패하면 remote-ttl 이 지나야 맞춰진다.
+            log.warn("예매 목록 캐시 갱신 실패 - 목록 삭제: {}", e.getMessage());
+            local.remove(userEmail);
+            try {
+                redissonClient.getKeys().delete(listKey(userEmail));
+            } catch (Exception deleteFailure) {
+                log.error("예매 목록 캐시 삭제 실패 - userEmail: {}, {}", userEmail, deleteFailure.getMessage());
+            }
+        }
+    }
+
+    // 다른 인스턴스가 바꾼 사용자는 L1 에서만 지운다. L2 는 이미 갱신되어 있다.
+    private void onInvalidation(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0 || message.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        local.remove(message.substring(separator + 1));
+    }
+
+    private void putLocal(String userEmail, List<ReservationResponse> reservations, long bytes) {
+        if (local.size() >= maxLocalEntries && !local.containsKey(userEmail)) {
+            evictExpired();
+            if (local.size() >= maxLocalEntries) {
+                // 살아있는 항목만으로 가득 찼다면 비운다. L2 에 남아 있으므로 다시 채우는 비용은 크지 않다.
+                local.clear();
+            }
+        }
+        local.put(userEmail, new CachedList(reservations, bytes, expiresAt()));
+        entryBytes.record(bytes);
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        local.values().removeIf(cached -> cached.expiresAt() <= now);
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + localTtl.toMillis();
+    }
+
+    private static List<ReservationResponse> sorted(List<ReservationResponse> reservations) {
+        return reservations.stream()
+                .sorted(Comparator.comparing(ReservationResponse::getReservationId))
+                .toList();
+    }
+
+    // 같은 사용자의 두 키가 같은 슬롯에 놓이도록 해시 태그를 쓴다.
+    private static String listKey(String userEmail) {
+        return LIST_KEY_PREFIX + "{" + userEmail + "}";
+    }
+
+    private static List<Object> keys(String userEmail) {
+        return List.of(listKey(userEmail), versionKey(userEmail));
+    }
+
+    private static String versionKey(String userEmail) {
+        return VERSION_KEY_PREFIX + "{" + userEmail + "}";
+    }
+
+    private String write(ReservationResponse reservation) {
+        try {
+            return objectMapper.writeValueAsString(reservation);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예매 목록 직렬화 실패", e);
+        }
+    }
+
+    private ReservationResponse read(String json) {
+        try {
+            return objectMapper.readValue(json, ReservationResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예매 목록 역직렬화 실패", e);
+        }
+    }
+
+    private record CachedList(List<ReservationResponse> reservations, long bytes, long expiresAt) {
+
+        CachedList upsert(ReservationResponse reservation, String json) {
+            List<ReservationResponse> updated = new ArrayList<>(reservations.size() + 1);
+            boolean replaced = false;
+            for (ReservationResponse existing : reservations) {
+                if (existing.getReservationId().equals(reservation.getReservationId())) {
+                    updated.add(reservation);
+                    replaced = true;
+                } else {
+                    updated.add(existing);
+                }
+            }
+            if (!replaced) {
+                updated.add(reservation);
+            }
+            // 크기는 추정치다. 바꾼 항목은 기존 크기를 그대로 두고, 새 항목만 더한다.
+            long newBytes = replaced ? bytes : bytes + json.getBytes(StandardCharsets.UTF_8).length;
+            return new CachedList(sorted(updated), newBytes, expiresAt);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.ticket.reservationservice.client;
+
+import com.ticket.reservationservice.config.ConcertClientProperties;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * concert-service 호출을 작업(reserve / rollback / read)별 bulkhead 로 나누고, 공통 circuit breaker 로 감싼다.
+ * concert-service 가 느려지면 해당 작업의 슬롯만 차고, 실패/지연 비율이 높아지면 호출 없이 바로 실패한다.
+ * Feign Capability 로 등록되어 모든 ConcertServiceClient 호출에 적용된다.
+ * 지표: resilience4j.bulkhead.* / resilience4j.circuitbreaker.* (name 태그: concert-reserve 등, concert-service)
+ */
+@Component
+public class ConcertCallGuard implements Capability {
+
+    private static final String CIRCUIT_BREAKER_NAME = "concert-service";
+
+    enum Operation {
+        RESERVE, ROLLBACK, READ;
+
+        String bulkheadName() {
+            return "concert-" + name().toLowerCase();
+        }
+    }
+
+    private final Map<Operation, Bulkhead> bulkheads = new EnumMap<>(Operation.class);
+    private final CircuitBreaker circuitBreaker;
+
+    public ConcertCallGuard(ConcertClientProperties properties, MeterRegistry meterRegistry) {
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        bulkheads.put(Operation.RESERVE, bulkhead(bulkheadRegistry, Operation.RESERVE, properties.getReserve()));
+        bulkheads.put(Operation.ROLLBACK, bulkhead(bulkheadRegistry, Operation.ROLLBACK, properties.getRollback()));
+        bulkheads.put(Operation.READ, bulkhead(bulkheadRegistry, Operation.READ, properties.getRead()));
+
+        ConcertClientProperties.CircuitBreaker cb = properties.getCircuitBreaker();
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(cb.getFailureRateThreshold())
+                .slowCallDurationThreshold(cb.getSlowCallDuration())
+                .slowCallRateThreshold(cb.getSlowCallRateThreshold())
+                .slidingWindowSize(cb.getSlidingWindowSize())
+                .minimumNumberOfCalls(cb.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(cb.getWaitInOpen())
+                .permittedNumberOfCallsInHalfOpenState(cb.getPermittedCallsInHalfOpen())
+                .build());
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> execute(client, request, options);
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private Response execute(Client delegate, Request request, Request.Options options) throws IOException {
+        // 열려 있으면 슬롯을 기다리지 않고 바로 실패한다. (CallNotPermittedException)
+        circuitBreaker.acquirePermission();
+
+        Bulkhead bulkhead = bulkheads.get(classify(request));
+        try {
+            bulkhead.acquirePermission();
+        } catch (RuntimeException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+
+        long start = System.nanoTime();
+        try {
+            Response response = delegate.execute(request, options);
+            long elapsed = System.nanoTime() - start;
+            if (response.status() >= 500) {
+                circuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS,
+                        new IOException("concert-service 응답 오류: " + response.status()));
+            } else {
+                circuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    // 좌석을 잡는 호출, 잡은 좌석을 돌려주는 호출, 나머지 조회를 나눈다.
+    static Operation classify(Request request) {
+        if (request.httpMethod() == Request.HttpMethod.GET) {
+            return Operation.READ;
+        }
+        String path = request.url();
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        return path.endsWith("/reserve") ? Operation.RESERVE : Operation.ROLLBACK;
+    }
+
+    private static Bulkhead bulkhead(BulkheadRegistry registry, Operation operation,
+                                     ConcertClientProperties.Bulkhead properties) {
+        return registry.bulkhead(operation.bulkheadName(), BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(properties.getMaxWait())
+                .build());
+    }
+}
@@ -0,0 +1,19 @@
+package com.ticket.reservationservice.client;
+
+import lombok.Getter;
+
+@Getter
+public class ConcertInventory {
+    private Long concertId;
+    private Long capacity;
+    private Long remaining;
+
+    public ConcertInventory() {
+    }
+
+    public ConcertInventory(Long concertId, Long capacity, Long remaining) {
+        this.concertId = concertId;
+        this.capacity = capacity;
+        this.remaining = remaining;
+    }
+}
@@ -0,0 +1,94 @@
+package com.ticket.reservationservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 하나 동안 공연 조회를 모아 한 번에 보내는 로더 (DataLoader 방식).
+ * load 는 요청만 쌓아 두고, dispatch 때 중복을 뺀 id 를 GET /concerts?ids= 로 조회한다. (max-batch-size 단위)
+ * 같은 요청 안에서 다시 찾는 공연은 이미 받은 결과를 돌려준다.
+ * 조회에 실패하면 null 로 채워 공연 정보 없이 응답하게 한다.
+ */
+@Component
+@RequestScope
+@Profile("!reactive")
+@Slf4j
+public class ConcertLoader {
+
+    private final ConcertServiceClient concertServiceClient;
+    private final int maxBatchSize;
+
+    private final Map<Long, CompletableFuture<ConcertResponse>> loaded = new HashMap<>();
+    private final Map<Long, CompletableFuture<ConcertResponse>> pending = new LinkedHashMap<>();
+
+    public ConcertLoader(ConcertServiceClient concertServiceClient,
+                         @Value("${reservation.concert-loader.max-batch-size:200}") int maxBatchSize) {
+        this.concertServiceClient = concertServiceClient;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public CompletableFuture<ConcertResponse> load(Long concertId) {
+        return loaded.computeIfAbsent(concertId, id -> {
+            CompletableFuture<ConcertResponse> future = new CompletableFuture<>();
+            pending.put(id, future);
+            return future;
+        });
+    }
+
+    public void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(pending.keySet());
+        Map<Long, CompletableFuture<ConcertResponse>> batch = new HashMap<>(pending);
+        pending.clear();
+
+        for (int from = 0; from < ids.size(); from += maxBatchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + maxBatchSize, ids.size()));
+            Map<Long, ConcertResponse> found = fetch(chunk);
+            chunk.forEach(id -> batch.get(id).complete(found.get(id)));
+        }
+    }
+
+    // 여러 공연을 한 번에 찾는다. 결과에는 찾은 공연만 담긴다.
+    public Map<Long, ConcertResponse> loadAll(Collection<Long> concertIds) {
+        Map<Long, CompletableFuture<ConcertResponse>> futures = new LinkedHashMap<>();
+        concertIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(id -> futures.computeIfAbsent(id, this::load));
+        dispatch();
+
+        Map<Long, ConcertResponse> concerts = new HashMap<>();
+        futures.forEach((id, future) -> {
+            ConcertResponse concert = future.join();
+            if (concert != null) {
+                concerts.put(id, concert);
+            }
+        });
+        return concerts;
+    }
+
+    private Map<Long, ConcertResponse> fetch(List<Long> ids) {
+        try {
+            return concertServiceClient.getConcerts(ids).stream()
+                    .collect(Collectors.toMap(ConcertResponse::getConcertId, Function.identity(), (a, b) -> a));
+        } catch (Exception e) {
+            log.warn("공연 정보 일괄 조회 실패 - 공연 정보 없이 응답: ids: {}, {}", ids.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+}
@@ -8,5 +8,16 @@ public class ConcertResponse {
     private Long concertId;
     private String title;
     private LocalDateTime dateTime;
+    private String userEmail;
     private Long quantity;
+
+    public ConcertResponse() {
+    }
+
+    public ConcertResponse(Long concertId, String title, LocalDateTime dateTime, Long quantity) {
+        this.concertId = concertId;
+        this.title = title;
+        this.dateTime = dateTime;
+        this.quantity = quantity;
+    }
 }
\ No newline at end of file
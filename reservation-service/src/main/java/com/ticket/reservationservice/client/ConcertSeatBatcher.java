@@ -0,0 +1,157 @@
+package com.ticket.reservationservice.client;
+
+import com.ticket.common.deadline.RequestDeadline;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 동시에 들어온 단건 좌석 예약/롤백 호출을 짧은 시간 창(window) 동안 모아 묶음 API 한 번으로 보낸다.
+ * 창이 끝나거나 max-size 만큼 모이면 바로 보낸다. 호출자는 자기 항목의 결과만 받는다.
+ */
+@Component
+@Slf4j
+public class ConcertSeatBatcher {
+
+    private final long windowMicros;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService sender;
+    private final Lane reserveLane;
+    private final Lane rollbackLane;
+
+    public ConcertSeatBatcher(ConcertServiceClient concertServiceClient,
+                              @Value("${reservation.seat-batch.window:2ms}") Duration window,
+                              @Value("${reservation.seat-batch.max-size:100}") int maxBatchSize,
+                              @Value("${reservation.seat-batch.sender-threads:4}") int senderThreads) {
+        this.windowMicros = TimeUnit.NANOSECONDS.toMicros(window.toNanos());
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("seat-batch-timer-"));
+        this.sender = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("seat-batch-sender-"));
+        this.reserveLane = new Lane("reserve", concertServiceClient::reserveSeatsBatch);
+        this.rollbackLane = new Lane("rollback", concertServiceClient::rollbackSeatsBatch);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdown();
+        sender.shutdown();
+    }
+
+    public boolean reserveSeats(Long concertId, Long quantity) {
+        return await(reserveLane.submit(concertId, quantity, null));
+    }
+
+    // compensationKey 를 실으면 같은 키의 롤백은 concert-service 에서 한 번만 반영된다.
+    public boolean rollbackReserveSeats(Long concertId, Long quantity, String compensationKey) {
+        return await(rollbackLane.submit(concertId, quantity, compensationKey));
+    }
+
+    // 단건 Feign 호출과 같은 예외가 호출자에게 보이도록 CompletionException 을 벗긴다.
+    private static boolean await(CompletableFuture<Boolean> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Pending(SeatReservationItem item, Long deadline, CompletableFuture<Boolean> future) {
+    }
+
+    private class Lane {
+        private final String name;
+        private final Function<List<SeatReservationItem>, List<SeatReservationResult>> call;
+        private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicLong requestIds = new AtomicLong();
+
+        Lane(String name, Function<List<SeatReservationItem>, List<SeatReservationResult>> call) {
+            this.name = name;
+            this.call = call;
+        }
+
+        CompletableFuture<Boolean> submit(Long concertId, Long quantity, String compensationKey) {
+            String requestId = String.valueOf(requestIds.incrementAndGet());
+            CompletableFuture<Boolean> future = new CompletableFuture<>();
+            queue.add(new Pending(new SeatReservationItem(requestId, concertId, quantity, compensationKey),
+                    RequestDeadline.current(), future));
+
+            if (size.incrementAndGet() >= maxBatchSize) {
+                sender.execute(this::flush);
+            } else if (scheduled.compareAndSet(false, true)) {
+                scheduler.schedule(() -> {
+                    scheduled.set(false);
+                    sender.execute(this::flush);
+                }, windowMicros, TimeUnit.MICROSECONDS);
+            }
+            return future;
+        }
+
+        private void flush() {
+            List<Pending> batch = new ArrayList<>(maxBatchSize);
+            while (true) {
+                Pending pending;
+                while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+                    batch.add(pending);
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                size.addAndGet(-batch.size());
+                send(batch);
+                batch.clear();
+            }
+        }
+
+        private void send(List<Pending> batch) {
+            List<SeatReservationItem> items = new ArrayList<>(batch.size());
+            Long deadline = batch.get(0).deadline();
+            for (Pending pending : batch) {
+                items.add(pending.item());
+                deadline = (deadline == null || pending.deadline() == null) ? null : Math.max(deadline, pending.deadline());
+            }
+
+            // 묶음에서 가장 늦은 마감 시각을 싣는다. 이미 지난 항목은 호출자 쪽 단계에서 걸러진다.
+            RequestDeadline.set(deadline);
+            try {
+                Map<String, Boolean> outcomes = new HashMap<>();
+                for (SeatReservationResult result : call.apply(items)) {
+                    outcomes.put(result.getRequestId(), result.isSuccess());
+                }
+                for (Pending pending : batch) {
+                    pending.future().complete(outcomes.getOrDefault(pending.item().getRequestId(), false));
+                }
+            } catch (Exception e) {
+                log.error("묶음 좌석 {} 호출 실패 - count: {}", name, batch.size(), e);
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+            } finally {
+                RequestDeadline.clear();
+            }
+        }
+    }
+}
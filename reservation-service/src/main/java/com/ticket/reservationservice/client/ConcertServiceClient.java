@@ -4,13 +4,19 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+
 @FeignClient(name = "concert-service")
 public interface ConcertServiceClient {
     @GetMapping("/concerts/{concertId}")
     ConcertResponse getConcert(@PathVariable("concertId") Long concertId);
 
+    @GetMapping("/concerts")
+    List<ConcertResponse> getConcerts(@RequestParam("ids") List<Long> ids);
+
     @GetMapping("/concerts/{concertId}/availability")
     boolean checkAvailability(@PathVariable("concertId") Long concertId,
                               @RequestParam("quantity") Long quantity);
@@ -20,4 +26,16 @@ public interface ConcertServiceClient {
 
     @PutMapping("/concerts/{concertId}/rollback")
     boolean rollbackReserveSeats(@PathVariable Long concertId, @RequestParam Long quantity);
+
+    @GetMapping("/concerts/inventory")
+    List<ConcertInventory> getInventories(@RequestParam("ids") List<Long> ids);
+
+    @PutMapping("/concerts/{concertId}/adjust")
+    boolean adjustSeats(@PathVariable Long concertId, @RequestParam Long delta);
+
+    @PutMapping("/concerts/batch/reserve")
+    List<SeatReservationResult> reserveSeatsBatch(@RequestBody List<SeatReservationItem> items);
+
+    @PutMapping("/concerts/batch/rollback")
+    List<SeatReservationResult> rollbackSeatsBatch(@RequestBody List<SeatReservationItem> items);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.ticket.reservationservice.client;
+
+import lombok.Getter;
+
+@Getter
+public class SeatReservationResult {
+    private String requestId;
+    private boolean success;
+
+    public SeatReservationResult() {
+    }
+
+    public SeatReservationResult(String requestId, boolean success) {
+        this.requestId = requestId;
+        this.success = success;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ticket.reservationservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reservation.concert-client")
+public class ConcertClientProperties {
+
+    // 작업별 동시 호출 한도. 한쪽이 느려져도 다른 작업의 호출 슬롯은 남는다.
+    private Bulkhead reserve = Bulkhead.of(64, Duration.ofMillis(50));
+    private Bulkhead rollback = Bulkhead.of(16, Duration.ofMillis(500));
+    private Bulkhead read = Bulkhead.of(32, Duration.ofMillis(20));
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+        private int maxConcurrentCalls;
+        private Duration maxWait;
+
+        static Bulkhead of(int maxConcurrentCalls, Duration maxWait) {
+            Bulkhead bulkhead = new Bulkhead();
+            bulkhead.maxConcurrentCalls = maxConcurrentCalls;
+            bulkhead.maxWait = maxWait;
+            return bulkhead;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private Duration slowCallDuration = Duration.ofSeconds(1);
+        private float slowCallRateThreshold = 80;
+        private int slidingWindowSize = 50;
+        private int minimumNumberOfCalls = 20;
+        private Duration waitInOpen = Duration.ofSeconds(5);
+        private int permittedCallsInHalfOpen = 5;
+    }
+}
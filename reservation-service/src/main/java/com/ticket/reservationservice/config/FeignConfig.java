@@ -0,0 +1,43 @@
+package com.ticket.reservationservice.config;
+
+import com.ticket.common.deadline.RequestDeadline;
+import feign.RequestInterceptor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * concert-service Feign 클라이언트 설정.
+ * 커넥션 풀과 타임아웃은 spring.cloud.openfeign.* 로, 작업별 bulkhead 와 circuit breaker 는
+ * reservation.concert-client.* 로 설정한다. (ConcertCallGuard)
+ */
+@Configuration
+@EnableConfigurationProperties(ConcertClientProperties.class)
+public class FeignConfig {
+
+    // concert-service 로 마감 시각을 그대로 전달한다.
+    @Bean
+    public RequestInterceptor requestDeadlineInterceptor() {
+        return template -> {
+            Long deadline = RequestDeadline.current();
+            if (deadline != null) {
+                template.header(RequestDeadline.HEADER, String.valueOf(deadline));
+            }
+        };
+    }
+
+    // 풀 점유/대기 지표: httpcomponents.httpclient.pool.*
+    @Bean
+    public MeterBinder concertClientPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        return registry -> {
+            if (connectionManager.getIfAvailable() instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "concert-service").bindTo(registry);
+            }
+        };
+    }
+}
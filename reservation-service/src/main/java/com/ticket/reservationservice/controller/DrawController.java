@@ -0,0 +1,49 @@
+package com.ticket.reservationservice.controller;
+
+import com.ticket.reservationservice.dto.DrawEntryRequest;
+import com.ticket.reservationservice.dto.DrawRequest;
+import com.ticket.reservationservice.dto.DrawResponse;
+import com.ticket.reservationservice.dto.DrawResultResponse;
+import com.ticket.reservationservice.draw.DrawService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/draws")
+@Profile("!reactive")
+public class DrawController {
+
+    private final DrawService drawService;
+
+    public DrawController(DrawService drawService) {
+        this.drawService = drawService;
+    }
+
+    @PostMapping
+    public ResponseEntity<DrawResponse> openDraw(
+            @RequestBody DrawRequest request,
+            @RequestHeader("X-User") String userEmail) {
+        DrawResponse response = new DrawResponse(
+                drawService.open(request.getConcertId(), userEmail, request.getSeats(), request.getClosesAt()));
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // 응모는 접수만 하고 바로 반환한다. 결과는 마감 후 /result 로 확인한다.
+    @PostMapping("/{concertId}/entries")
+    public ResponseEntity<Void> enter(
+            @PathVariable Long concertId,
+            @RequestBody DrawEntryRequest request,
+            @RequestHeader("X-User") String userEmail) {
+        drawService.enter(concertId, userEmail, request.getQuantity());
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/{concertId}/result")
+    public ResponseEntity<DrawResultResponse> getResult(
+            @PathVariable Long concertId,
+            @RequestHeader("X-User") String userEmail) {
+        return ResponseEntity.ok(drawService.result(concertId, userEmail));
+    }
+}
@@ -1,23 +1,40 @@
 package com.ticket.reservationservice.controller;
 
+import com.ticket.reservationservice.client.ConcertLoader;
+import com.ticket.reservationservice.client.ConcertResponse;
 import com.ticket.reservationservice.dto.ReservationRequest;
 import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.export.ExportFormat;
+import com.ticket.reservationservice.export.ReservationExporter;
 import com.ticket.reservationservice.service.ReservationService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/reservations")
+@Profile("!reactive")
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ConcertLoader concertLoader;
+    private final ReservationExporter reservationExporter;
 
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService, ConcertLoader concertLoader,
+                                 ReservationExporter reservationExporter) {
         this.reservationService = reservationService;
+        this.concertLoader = concertLoader;
+        this.reservationExporter = reservationExporter;
     }
 
     @PostMapping
@@ -44,7 +61,13 @@ public class ReservationController {
     public ResponseEntity<List<ReservationResponse>> getReservationsByUser(
             @RequestHeader("X-User") String userEmail) {
         List<ReservationResponse> reservations = reservationService.findReservationsByUserEmail(userEmail);
-        return ResponseEntity.ok(reservations);
+
+        // 목록 길이와 관계없이 공연 정보는 한 번에 조회해 붙인다.
+        Map<Long, ConcertResponse> concerts = concertLoader.loadAll(
+                reservations.stream().map(ReservationResponse::getConcertId).toList());
+        return ResponseEntity.ok(reservations.stream()
+                .map(reservation -> reservation.withConcert(concerts.get(reservation.getConcertId())))
+                .toList());
     }
 
     @GetMapping("/concert/{concertId}")
@@ -53,4 +76,32 @@ public class ReservationController {
         List<ReservationResponse> reservations = reservationService.findReservationsByConcertId(concertId);
         return ResponseEntity.ok(reservations);
     }
-}
\ No newline at end of file
+
+    // 대형 공연도 목록을 메모리에 올리지 않고 응답에 바로 쓴다. Accept-Encoding 에 gzip 이 있으면 압축한다.
+    @GetMapping("/concert/{concertId}/export")
+    public void exportReservationsByConcert(
+            @PathVariable Long concertId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader("X-User") String userEmail,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        reservationExporter.authorize(concertId, userEmail);
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"reservations-" + concertId + "." + exportFormat.getExtension() + "\"");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), 8192);
+            reservationExporter.export(concertId, exportFormat, out);
+            out.finish();
+        } else {
+            OutputStream out = response.getOutputStream();
+            reservationExporter.export(concertId, exportFormat, out);
+        }
+        response.flushBuffer();
+    }
+}
@@ -0,0 +1,46 @@
+package com.ticket.reservationservice.controller;
+
+import com.ticket.reservationservice.dto.WaitlistRequest;
+import com.ticket.reservationservice.dto.WaitlistResponse;
+import com.ticket.reservationservice.waitlist.WaitlistService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/waitlist")
+@Profile("!reactive")
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    public WaitlistController(WaitlistService waitlistService) {
+        this.waitlistService = waitlistService;
+    }
+
+    @PostMapping("/{concertId}")
+    public ResponseEntity<WaitlistResponse> join(
+            @PathVariable Long concertId,
+            @RequestBody WaitlistRequest request,
+            @RequestHeader("X-User") String userEmail) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(waitlistService.join(concertId, userEmail, request.getQuantity()));
+    }
+
+    @DeleteMapping("/{concertId}")
+    public ResponseEntity<Void> leave(
+            @PathVariable Long concertId,
+            @RequestHeader("X-User") String userEmail) {
+        waitlistService.leave(concertId, userEmail);
+        return ResponseEntity.ok().build();
+    }
+
+    // 대기 순번은 인스턴스 메모리에서 짧게 캐시되므로 자주 조회해도 된다.
+    @GetMapping("/{concertId}")
+    public ResponseEntity<WaitlistResponse> getStatus(
+            @PathVariable Long concertId,
+            @RequestHeader("X-User") String userEmail) {
+        return ResponseEntity.ok(waitlistService.status(concertId, userEmail));
+    }
+}
@@ -0,0 +1,40 @@
+package com.ticket.reservationservice.deadline;
+
+import com.ticket.common.deadline.RequestDeadline;
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class DeadlineGuard {
+
+    public static final String DROPPED_METRIC = "reservation.deadline.dropped";
+
+    private final MeterRegistry meterRegistry;
+
+    public DeadlineGuard(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void check(String stage) {
+        check(RequestDeadline.current(), stage);
+    }
+
+    public void check(Long deadline, String stage) {
+        if (isExpired(deadline, stage)) {
+            throw new BusinessException(ErrorCode.DEADLINE_EXCEEDED);
+        }
+    }
+
+    public boolean isExpired(Long deadline, String stage) {
+        if (!RequestDeadline.isExpired(deadline)) {
+            return false;
+        }
+        log.debug("마감 시각이 지난 요청 폐기 - stage: {}, deadline: {}", stage, deadline);
+        meterRegistry.counter(DROPPED_METRIC, "stage", stage).increment();
+        return true;
+    }
+}
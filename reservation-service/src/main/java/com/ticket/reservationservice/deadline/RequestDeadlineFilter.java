@@ -0,0 +1,42 @@
+package com.ticket.reservationservice.deadline;
+
+import com.ticket.common.deadline.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final DeadlineGuard deadlineGuard;
+
+    public RequestDeadlineFilter(DeadlineGuard deadlineGuard) {
+        this.deadlineGuard = deadlineGuard;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long deadline = RequestDeadline.parse(request.getHeader(RequestDeadline.HEADER));
+
+        // 예매 생성(POST)은 작업 큐에 넣기 전에 마감 여부를 확인한다. 취소/조회는 끝까지 처리한다.
+        if (HttpMethod.POST.matches(request.getMethod()) && deadlineGuard.isExpired(deadline, "enqueue")) {
+            response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+            return;
+        }
+
+        RequestDeadline.set(deadline);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.ticket.reservationservice.domain;
+
+public enum CompensationStatus {
+    PENDING, DONE, GAVE_UP,
+    // 취소 대기열에 넘기려고 잡아 둔 좌석. 배정되면 REALLOCATED, 남으면 새 PENDING 보상으로 돌려준다.
+    HELD, REALLOCATED
+}
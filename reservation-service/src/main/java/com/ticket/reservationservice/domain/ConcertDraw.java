@@ -0,0 +1,72 @@
+package com.ticket.reservationservice.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추첨 방식으로 판매하는 공연. 응모 기간에는 좌석을 건드리지 않고, 마감 후 한 번에 당첨자를 뽑는다.
+ * seed 로 당첨 순서가 정해지므로 추첨이 중간에 끊겨도 같은 당첨자로 이어서 진행한다.
+ */
+@Getter
+@Entity
+@Table(indexes = @Index(name = "idx_concert_draw_status", columnList = "status, closesAt"))
+public class ConcertDraw {
+    @Id
+    private Long concertId;
+
+    private String ownerEmail;
+    // 추첨할 좌석 수. null 이면 마감 시점의 잔여 좌석 전부
+    private Long seats;
+    private LocalDateTime closesAt;
+
+    @Enumerated(EnumType.STRING)
+    private DrawStatus status;
+
+    private long seed;
+    // 마감 시점에 정한 실제 추첨 좌석 수
+    private Long seatBudget;
+    // concert-service 에서 확보한 좌석 수 (당첨 수량 합계)
+    private Long heldSeats;
+    // 예매를 만든 당첨자 수. 당첨 순서상 여기까지는 이미 저장되었다.
+    private int allocatedWinners;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    protected ConcertDraw() {}
+
+    public ConcertDraw(Long concertId, String ownerEmail, Long seats, LocalDateTime closesAt, long seed) {
+        this.concertId = concertId;
+        this.ownerEmail = ownerEmail;
+        this.seats = seats;
+        this.closesAt = closesAt;
+        this.seed = seed;
+        this.status = DrawStatus.OPEN;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void startDrawing(long seatBudget) {
+        this.status = DrawStatus.DRAWING;
+        this.seatBudget = seatBudget;
+    }
+
+    public void hold(long heldSeats) {
+        this.heldSeats = heldSeats;
+    }
+
+    public void advance(int allocatedWinners) {
+        this.allocatedWinners = allocatedWinners;
+    }
+
+    public void finish() {
+        this.status = DrawStatus.DONE;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ticket.reservationservice.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공연별 예매 좌석 누계. 정합성 점검이 체크포인트 이후 변경분만 더하고 빼서 유지한다.
+ * driftRuns 는 같은 차이가 연속으로 관측된 횟수로, 일시적인 차이(진행 중인 예매)와 실제 누수를 구분한다.
+ */
+@Getter
+@Entity
+public class ConcertSeatLedger {
+    @Id
+    private Long concertId;
+
+    private long reservedQuantity;
+    private Long lastDrift;
+    private int driftRuns;
+    private LocalDateTime checkedAt;
+
+    protected ConcertSeatLedger() {}
+
+    public ConcertSeatLedger(Long concertId) {
+        this.concertId = concertId;
+    }
+
+    public void apply(long delta) {
+        this.reservedQuantity += delta;
+    }
+
+    public int recordDrift(long drift) {
+        this.checkedAt = LocalDateTime.now();
+        if (drift == 0) {
+            this.lastDrift = null;
+            this.driftRuns = 0;
+        } else if (this.lastDrift != null && this.lastDrift == drift) {
+            this.driftRuns++;
+        } else {
+            this.lastDrift = drift;
+            this.driftRuns = 1;
+        }
+        return this.driftRuns;
+    }
+
+    public void clearDrift() {
+        this.lastDrift = null;
+        this.driftRuns = 0;
+    }
+}
@@ -0,0 +1,7 @@
+package com.ticket.reservationservice.domain;
+
+public enum DrawStatus {
+    OPEN,
+    DRAWING,
+    DONE
+}
@@ -0,0 +1,31 @@
+package com.ticket.reservationservice.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 정합성 점검이 어디까지(reservedAt/cancelledAt 기준) 반영했는지 기록한다.
+@Getter
+@Entity
+public class ReconciliationCheckpoint {
+    @Id
+    private String name;
+
+    private LocalDateTime watermark;
+    private LocalDateTime updatedAt;
+
+    protected ReconciliationCheckpoint() {}
+
+    public ReconciliationCheckpoint(String name, LocalDateTime watermark) {
+        this.name = name;
+        this.watermark = watermark;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advance(LocalDateTime watermark) {
+        this.watermark = watermark;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
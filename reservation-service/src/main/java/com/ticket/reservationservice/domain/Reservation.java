@@ -1,5 +1,6 @@
 package com.ticket.reservationservice.domain;
 
+import com.ticket.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,9 +9,15 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_reserved_at", columnList = "reservedAt"),
+        @Index(name = "idx_reservation_cancelled_at", columnList = "cancelledAt"),
+        @Index(name = "idx_reservation_user_concert", columnList = "userEmail, concertId"),
+        @Index(name = "idx_reservation_concert", columnList = "concertId, reservationId")
+})
 public class Reservation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long reservationId;
     private Long concertId;
     private String userEmail;
@@ -0,0 +1,86 @@
+package com.ticket.reservationservice.domain;
+
+import com.ticket.common.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * concert-service 에 되돌려야 할 좌석. 롤백 호출이 성공할 때까지 남아 재시도된다.
+ * compensationKey 는 같은 보상이 두 번 쌓이지 않게 하는 키 (예: cancel:{reservationId})
+ */
+@Getter
+@Entity
+@Table(indexes = @Index(name = "idx_seat_compensation_due", columnList = "status, nextAttemptAt"))
+public class SeatCompensation {
+    @Id
+    @SnowflakeId
+    private Long compensationId;
+
+    @Column(nullable = false, unique = true)
+    private String compensationKey;
+
+    private Long concertId;
+    private Long quantity;
+
+    @Enumerated(EnumType.STRING)
+    private CompensationStatus status;
+
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private String lastError;
+
+    protected SeatCompensation() {}
+
+    public SeatCompensation(String compensationKey, Long concertId, Long quantity) {
+        this.compensationKey = compensationKey;
+        this.concertId = concertId;
+        this.quantity = quantity;
+        this.status = CompensationStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    // 좌석을 풀에 돌려주지 않고 취소 대기자에게 넘기려고 잡아 둔다.
+    public static SeatCompensation held(String compensationKey, Long concertId, Long quantity) {
+        SeatCompensation compensation = new SeatCompensation(compensationKey, concertId, quantity);
+        compensation.status = CompensationStatus.HELD;
+        return compensation;
+    }
+
+    public void reallocate() {
+        this.status = CompensationStatus.REALLOCATED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    // 처리 중인 보상. lease 가 끝나기 전에는 다른 인스턴스가 다시 집어 가지 않는다.
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void complete() {
+        this.status = CompensationStatus.DONE;
+        this.completedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    public void retryAfter(Duration delay, String error) {
+        this.attempts++;
+        this.nextAttemptAt = LocalDateTime.now().plus(delay);
+        this.lastError = truncate(error);
+    }
+
+    public void giveUp(String error) {
+        this.attempts++;
+        this.status = CompensationStatus.GAVE_UP;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 255 ? error.substring(0, 255) : error;
+    }
+}
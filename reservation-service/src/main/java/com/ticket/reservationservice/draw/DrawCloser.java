@@ -0,0 +1,135 @@
+package com.ticket.reservationservice.draw;
+
+import com.ticket.reservationservice.cache.ReservationListCache;
+import com.ticket.reservationservice.client.ConcertResponse;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.domain.ConcertDraw;
+import com.ticket.reservationservice.domain.Reservation;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 응모가 마감된 추첨을 진행한다.
+ * 1. 응모를 막고 추첨 좌석 수(seatBudget)를 정한다.
+ * 2. 응모 목록을 페이지 단위로 훑어 당첨자를 뽑고, 당첨 수량 합계만큼 좌석을 한 번에 잡는다.
+ * 3. 당첨 예매를 batch-size 씩 저장한다. 진행 위치가 함께 저장되므로 중간에 끊겨도 다음 실행에서 이어서 한다.
+ * 당첨 순서는 seed 로 정해져 있어 다시 뽑아도 같은 당첨자가 나온다.
+ */
+@Component
+@Slf4j
+public class DrawCloser {
+
+    private final DrawLedger drawLedger;
+    private final DrawEntryLog entryLog;
+    private final DrawConcerts drawConcerts;
+    private final ConcertServiceClient concertServiceClient;
+    private final ReservationListCache reservationListCache;
+    private final RedissonClient redissonClient;
+    private final int pageSize;
+    private final int batchSize;
+    private final Duration resultTtl;
+    private final Timer drawTimer;
+    private final Counter winnersCounter;
+
+    public DrawCloser(DrawLedger drawLedger,
+                      DrawEntryLog entryLog,
+                      DrawConcerts drawConcerts,
+                      ConcertServiceClient concertServiceClient,
+                      ReservationListCache reservationListCache,
+                      RedissonClient redissonClient,
+                      MeterRegistry meterRegistry,
+                      @Value("${reservation.draw.page-size:5000}") int pageSize,
+                      @Value("${reservation.draw.batch-size:500}") int batchSize,
+                      @Value("${reservation.draw.result-ttl:30d}") Duration resultTtl) {
+        this.drawLedger = drawLedger;
+        this.entryLog = entryLog;
+        this.drawConcerts = drawConcerts;
+        this.concertServiceClient = concertServiceClient;
+        this.reservationListCache = reservationListCache;
+        this.redissonClient = redissonClient;
+        this.pageSize = pageSize;
+        this.batchSize = batchSize;
+        this.resultTtl = resultTtl;
+        this.drawTimer = meterRegistry.timer("reservation.draw.time");
+        this.winnersCounter = meterRegistry.counter("reservation.draw.winners");
+    }
+
+    // 추첨 하나는 여러 인스턴스 중 한 곳에서만 진행한다.
+    @Scheduled(fixedDelayString = "${reservation.draw.close-interval:PT10S}")
+    public void closeDue() {
+        for (ConcertDraw draw : drawLedger.due(LocalDateTime.now())) {
+            RLock lock = redissonClient.getLock("reservation:draw:" + draw.getConcertId());
+            if (!lock.tryLock()) {
+                continue;
+            }
+            try {
+                drawTimer.record(() -> close(draw.getConcertId()));
+            } catch (Exception e) {
+                log.error("추첨 실패 - 다음 실행에서 재시도: concertId: {}", draw.getConcertId(), e);
+            } finally {
+                if (lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    void close(Long concertId) {
+        ConcertDraw draw = drawLedger.find(concertId);
+        entryLog.close(concertId);
+
+        if (draw.getSeatBudget() == null) {
+            ConcertResponse concert = concertServiceClient.getConcert(concertId);
+            long remaining = concert.getQuantity() == null ? 0 : concert.getQuantity();
+            long seatBudget = draw.getSeats() == null ? remaining : Math.min(draw.getSeats(), remaining);
+            draw = drawLedger.startDrawing(concertId, seatBudget);
+        }
+
+        List<WinnerSelector.Candidate> winners = select(draw);
+        if (draw.getHeldSeats() == null) {
+            long total = winners.stream().mapToLong(WinnerSelector.Candidate::quantity).sum();
+            if (total > 0 && !concertServiceClient.reserveSeats(concertId, total)) {
+                throw new IllegalStateException("추첨 좌석 확보에 실패했습니다.");
+            }
+            draw = drawLedger.hold(concertId, total);
+        }
+
+        for (int from = draw.getAllocatedWinners(); from < winners.size(); from += batchSize) {
+            List<WinnerSelector.Candidate> chunk = winners.subList(from, Math.min(winners.size(), from + batchSize));
+            // 당첨 기록은 덮어써도 같으므로 먼저 남긴다. allocate 가 진행 위치를 커밋한 뒤 죽어도 이 묶음의 결과가 빠지지 않는다.
+            entryLog.recordWinners(concertId, chunk);
+            List<Reservation> saved = drawLedger.allocate(concertId, chunk, from + chunk.size());
+            saved.forEach(reservation -> reservationListCache.onSaved(new ReservationResponse(reservation)));
+            winnersCounter.increment(chunk.size());
+        }
+
+        drawLedger.finish(concertId);
+        entryLog.retainResults(concertId, resultTtl);
+        drawConcerts.finished(concertId);
+        log.info("추첨 완료 - concertId: {}, seatBudget: {}, winners: {}, seats: {}",
+                concertId, draw.getSeatBudget(), winners.size(), draw.getHeldSeats());
+    }
+
+    private List<WinnerSelector.Candidate> select(ConcertDraw draw) {
+        WinnerSelector selector = new WinnerSelector(draw.getSeed(), draw.getSeatBudget());
+        entryLog.forEachPage(draw.getConcertId(), pageSize, page -> {
+            for (String entry : page) {
+                int separator = entry.indexOf(':');
+                selector.offer(entry.substring(separator + 1), Long.parseLong(entry.substring(0, separator)));
+            }
+        });
+        return selector.winners();
+    }
+}
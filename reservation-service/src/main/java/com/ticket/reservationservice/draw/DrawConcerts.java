@@ -0,0 +1,123 @@
+package com.ticket.reservationservice.draw;
+
+import com.ticket.reservationservice.domain.ConcertDraw;
+import com.ticket.reservationservice.domain.DrawStatus;
+import com.ticket.reservationservice.repository.ConcertDrawRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 추첨 중인(OPEN, DRAWING) 공연과 응모 마감 시각의 로컬 사본.
+ * 추첨 공연은 선착순 예매를 받지 않고, 응모도 마감 시각 전까지만 받는다.
+ * 다른 인스턴스에는 채널로 알리고, 유실된 알림은 resync-interval 마다 DB 로 다시 맞춘다.
+ */
+@Component
+@Slf4j
+public class DrawConcerts {
+
+    static final String CHANNEL = "reservation:draw-events";
+
+    private final ConcertDrawRepository drawRepository;
+    private final RedissonClient redissonClient;
+    private final Counter rejectedCounter;
+    private final Map<Long, LocalDateTime> active = new ConcurrentHashMap<>();
+    private RTopic topic;
+    private int listenerId;
+
+    public DrawConcerts(ConcertDrawRepository drawRepository, RedissonClient redissonClient, MeterRegistry meterRegistry) {
+        this.drawRepository = drawRepository;
+        this.redissonClient = redissonClient;
+        this.rejectedCounter = meterRegistry.counter("reservation.draw.fcfs-rejected");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        topic = redissonClient.getTopic(CHANNEL, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> apply(message));
+        resync();
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        topic.removeListener(listenerId);
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.draw.resync-interval:PT30S}")
+    public void resync() {
+        try {
+            List<ConcertDraw> draws = drawRepository.findByStatusIn(List.of(DrawStatus.OPEN, DrawStatus.DRAWING));
+            Map<Long, LocalDateTime> latest = new ConcurrentHashMap<>();
+            draws.forEach(draw -> latest.put(draw.getConcertId(), draw.getClosesAt()));
+            active.keySet().retainAll(latest.keySet());
+            active.putAll(latest);
+        } catch (Exception e) {
+            log.warn("추첨 공연 목록 동기화 실패 - 기존 목록 유지: {}", e.getMessage());
+        }
+    }
+
+    public boolean isDrawConcert(Long concertId) {
+        return concertId != null && active.containsKey(concertId);
+    }
+
+    // 추첨 공연이면 선착순 거절 건수를 세고 true
+    public boolean reject(Long concertId) {
+        if (!isDrawConcert(concertId)) {
+            return false;
+        }
+        rejectedCounter.increment();
+        return true;
+    }
+
+    // 응모를 받는 중이면 true
+    public boolean isAcceptingEntries(Long concertId, LocalDateTime now) {
+        LocalDateTime closesAt = active.get(concertId);
+        return closesAt != null && now.isBefore(closesAt);
+    }
+
+    public void opened(Long concertId, LocalDateTime closesAt) {
+        active.put(concertId, closesAt);
+        publish("OPEN:" + concertId + ":" + closesAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    public void finished(Long concertId) {
+        active.remove(concertId);
+        publish("DONE:" + concertId);
+    }
+
+    private void publish(String message) {
+        try {
+            topic.publish(message);
+        } catch (Exception e) {
+            log.warn("추첨 알림 발행 실패 - 다른 인스턴스는 재동기화 때 반영: {}", e.getMessage());
+        }
+    }
+
+    void apply(String message) {
+        String[] parts = message.split(":");
+        try {
+            Long concertId = Long.valueOf(parts[1]);
+            if ("OPEN".equals(parts[0]) && parts.length == 3) {
+                active.put(concertId, LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[2])), ZoneId.systemDefault()));
+            } else if ("DONE".equals(parts[0])) {
+                active.remove(concertId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("알 수 없는 추첨 알림 무시: {}", message);
+        }
+    }
+}
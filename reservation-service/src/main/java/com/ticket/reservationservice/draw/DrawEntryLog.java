@@ -0,0 +1,106 @@
+package com.ticket.reservationservice.draw;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 추첨 응모 기록. 공연마다 Redis 리스트에 "수량:이메일" 을 덧붙이기만 하고, 응모자 set 으로 중복 응모를 막는다.
+ * 마감 표시가 있으면 더 받지 않는다. 당첨자는 해시(이메일 -> 수량)로 남겨 결과 조회에 쓴다.
+ */
+@Component
+public class DrawEntryLog {
+
+    // KEYS: 응모 목록, 응모자, 마감 표시 / ARGV: 이메일, 응모 항목. 1 접수, 0 중복, -1 마감
+    static final String ENTER_SCRIPT = """
+            if redis.call('exists', KEYS[3]) == 1 then
+                return -1
+            end
+            if redis.call('sadd', KEYS[2], ARGV[1]) == 0 then
+                return 0
+            end
+            redis.call('rpush', KEYS[1], ARGV[2])
+            return 1
+            """;
+
+    private final RedissonClient redissonClient;
+
+    public DrawEntryLog(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+    }
+
+    public long enter(Long concertId, String userEmail, long quantity) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, ENTER_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(entriesKey(concertId), entrantsKey(concertId), closedKey(concertId)),
+                userEmail, quantity + ":" + userEmail);
+        return result == null ? 0 : result;
+    }
+
+    public void close(Long concertId) {
+        redissonClient.getBucket(closedKey(concertId), StringCodec.INSTANCE).set("1");
+    }
+
+    // 응모 목록을 pageSize 씩 나눠 읽는다. 한 번에 메모리에 올리는 양은 한 페이지뿐이다.
+    public void forEachPage(Long concertId, int pageSize, Consumer<List<String>> consumer) {
+        for (int from = 0; ; from += pageSize) {
+            List<String> page = redissonClient.<String>getList(entriesKey(concertId), StringCodec.INSTANCE)
+                    .range(from, from + pageSize - 1);
+            if (page.isEmpty()) {
+                return;
+            }
+            consumer.accept(page);
+            if (page.size() < pageSize) {
+                return;
+            }
+        }
+    }
+
+    public boolean isEntrant(Long concertId, String userEmail) {
+        return redissonClient.<String>getSet(entrantsKey(concertId), StringCodec.INSTANCE).contains(userEmail);
+    }
+
+    public void recordWinners(Long concertId, List<WinnerSelector.Candidate> winners) {
+        Map<String, String> entries = new HashMap<>(winners.size() * 2);
+        winners.forEach(winner -> entries.put(winner.userEmail(), String.valueOf(winner.quantity())));
+        redissonClient.<String, String>getMap(winnersKey(concertId), StringCodec.INSTANCE).putAll(entries);
+    }
+
+    public Long winnerQuantity(Long concertId, String userEmail) {
+        String quantity = redissonClient.<String, String>getMap(winnersKey(concertId), StringCodec.INSTANCE).get(userEmail);
+        return quantity == null ? null : Long.valueOf(quantity);
+    }
+
+    // 추첨이 끝나면 응모 목록은 지우고, 결과 조회에 필요한 응모자/당첨자만 ttl 동안 남긴다.
+    public void retainResults(Long concertId, Duration ttl) {
+        redissonClient.getKeys().delete(entriesKey(concertId));
+        redissonClient.getKeys().expire(entrantsKey(concertId), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        redissonClient.getKeys().expire(winnersKey(concertId), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        redissonClient.getKeys().expire(closedKey(concertId), ttl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 한 공연의 키는 같은 슬롯에 놓이도록 해시 태그를 쓴다.
+    private static String entriesKey(Long concertId) {
+        return "draw:{" + concertId + "}:entries";
+    }
+
+    private static String entrantsKey(Long concertId) {
+        return "draw:{" + concertId + "}:entrants";
+    }
+
+    private static String winnersKey(Long concertId) {
+        return "draw:{" + concertId + "}:winners";
+    }
+
+    private static String closedKey(Long concertId) {
+        return "draw:{" + concertId + "}:closed";
+    }
+}
@@ -0,0 +1,87 @@
+package com.ticket.reservationservice.draw;
+
+import com.ticket.reservationservice.domain.ConcertDraw;
+import com.ticket.reservationservice.domain.DrawStatus;
+import com.ticket.reservationservice.domain.Reservation;
+import com.ticket.reservationservice.limit.PurchaseLimiter;
+import com.ticket.reservationservice.repository.ConcertDrawRepository;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 당첨 예매 저장과 진행 위치(allocatedWinners)를 한 트랜잭션으로 옮겨, 재시도해도 같은 당첨자가 두 번 저장되지 않게 한다.
+// 당첨 예매는 구매 한도 카운터를 거치지 않으므로 커밋 후 당첨자 카운터를 지워 DB 합계로 다시 채우게 한다.
+@Component
+public class DrawLedger {
+
+    private final ConcertDrawRepository drawRepository;
+    private final ReservationRepository reservationRepository;
+    private final PurchaseLimiter purchaseLimiter;
+
+    public DrawLedger(ConcertDrawRepository drawRepository, ReservationRepository reservationRepository,
+                      PurchaseLimiter purchaseLimiter) {
+        this.drawRepository = drawRepository;
+        this.reservationRepository = reservationRepository;
+        this.purchaseLimiter = purchaseLimiter;
+    }
+
+    @Transactional
+    public ConcertDraw open(ConcertDraw draw) {
+        if (drawRepository.existsById(draw.getConcertId())) {
+            throw new IllegalStateException("이미 추첨이 등록된 공연입니다.");
+        }
+        return drawRepository.save(draw);
+    }
+
+    @Transactional(readOnly = true)
+    public ConcertDraw find(Long concertId) {
+        return drawRepository.findById(concertId)
+                .orElseThrow(() -> new IllegalArgumentException("추첨이 존재하지 않습니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ConcertDraw> due(LocalDateTime now) {
+        return drawRepository.findByStatusInAndClosesAtLessThanEqual(List.of(DrawStatus.OPEN, DrawStatus.DRAWING), now);
+    }
+
+    @Transactional
+    public ConcertDraw startDrawing(Long concertId, long seatBudget) {
+        ConcertDraw draw = find(concertId);
+        if (draw.getSeatBudget() == null) {
+            draw.startDrawing(seatBudget);
+        }
+        return draw;
+    }
+
+    @Transactional
+    public ConcertDraw hold(Long concertId, long heldSeats) {
+        ConcertDraw draw = find(concertId);
+        draw.hold(heldSeats);
+        return draw;
+    }
+
+    @Transactional
+    public List<Reservation> allocate(Long concertId, List<WinnerSelector.Candidate> winners, int allocatedWinners) {
+        List<Reservation> reservations = new ArrayList<>(winners.size());
+        List<String> userEmails = new ArrayList<>(winners.size());
+        for (WinnerSelector.Candidate winner : winners) {
+            Reservation reservation = Reservation.createReservation(concertId, winner.userEmail(), winner.quantity());
+            reservation.confirmReservation();
+            reservations.add(reservation);
+            userEmails.add(winner.userEmail());
+        }
+        List<Reservation> saved = reservationRepository.saveAll(reservations);
+        find(concertId).advance(allocatedWinners);
+        purchaseLimiter.forgetAfterCommit(concertId, userEmails);
+        return saved;
+    }
+
+    @Transactional
+    public void finish(Long concertId) {
+        find(concertId).finish();
+    }
+}
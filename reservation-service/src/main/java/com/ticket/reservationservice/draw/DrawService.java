@@ -0,0 +1,103 @@
+package com.ticket.reservationservice.draw;
+
+import com.ticket.reservationservice.client.ConcertResponse;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.domain.ConcertDraw;
+import com.ticket.reservationservice.domain.DrawStatus;
+import com.ticket.reservationservice.dto.DrawResultResponse;
+import com.ticket.reservationservice.limit.PurchaseLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+
+/**
+ * 추첨 등록/응모/결과 조회. 응모는 Redis 응모 목록에 한 줄 덧붙이는 것이 전부이고, 좌석은 마감 후 DrawCloser 가 한 번에 잡는다.
+ */
+@Service
+public class DrawService {
+
+    private final DrawLedger drawLedger;
+    private final DrawEntryLog entryLog;
+    private final DrawConcerts drawConcerts;
+    private final ConcertServiceClient concertServiceClient;
+    private final PurchaseLimiter purchaseLimiter;
+    private final SecureRandom random = new SecureRandom();
+    private final long maxQuantity;
+    private final Counter enteredCounter;
+
+    public DrawService(DrawLedger drawLedger,
+                       DrawEntryLog entryLog,
+                       DrawConcerts drawConcerts,
+                       ConcertServiceClient concertServiceClient,
+                       PurchaseLimiter purchaseLimiter,
+                       MeterRegistry meterRegistry,
+                       @Value("${reservation.purchase-limit.per-concert:4}") long maxQuantity) {
+        this.drawLedger = drawLedger;
+        this.entryLog = entryLog;
+        this.drawConcerts = drawConcerts;
+        this.concertServiceClient = concertServiceClient;
+        this.purchaseLimiter = purchaseLimiter;
+        this.maxQuantity = maxQuantity;
+        this.enteredCounter = meterRegistry.counter("reservation.draw.entries");
+    }
+
+    // 공연 등록자만 추첨을 열 수 있다. seats 가 없으면 마감 시점의 잔여 좌석 전부를 추첨한다.
+    public ConcertDraw open(Long concertId, String userEmail, Long seats, LocalDateTime closesAt) {
+        if (concertId == null) {
+            throw new IllegalArgumentException("공연 ID는 필수입니다.");
+        }
+        if (closesAt == null || !closesAt.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("응모 마감 시각은 현재 이후여야 합니다.");
+        }
+        if (seats != null && seats <= 0) {
+            throw new IllegalArgumentException("추첨 좌석 수는 1 이상이어야 합니다.");
+        }
+        ConcertResponse concert = concertServiceClient.getConcert(concertId);
+        if (concert == null || !userEmail.equals(concert.getUserEmail())) {
+            throw new IllegalArgumentException("공연 등록자만 추첨을 열 수 있습니다.");
+        }
+
+        ConcertDraw draw = drawLedger.open(new ConcertDraw(concertId, userEmail, seats, closesAt, random.nextLong()));
+        drawConcerts.opened(concertId, closesAt);
+        return draw;
+    }
+
+    public void enter(Long concertId, String userEmail, Long quantity) {
+        if (quantity == null || quantity <= 0 || quantity > maxQuantity) {
+            throw new IllegalArgumentException("응모 수량은 1 이상 " + maxQuantity + " 이하여야 합니다.");
+        }
+        if (!drawConcerts.isAcceptingEntries(concertId, LocalDateTime.now())) {
+            throw new IllegalStateException("응모를 받고 있지 않은 공연입니다.");
+        }
+        // 추첨 전에 이미 산 수량과 합쳐 한도를 넘는 응모는 받지 않는다.
+        purchaseLimiter.check(userEmail, concertId, quantity);
+
+        long result = entryLog.enter(concertId, userEmail, quantity);
+        if (result == 0) {
+            throw new IllegalStateException("이미 응모한 공연입니다.");
+        }
+        if (result < 0) {
+            throw new IllegalStateException("응모가 마감되었습니다.");
+        }
+        enteredCounter.increment();
+    }
+
+    // 낙첨자는 따로 기록하지 않는다. 추첨이 끝난 뒤 응모자 중 당첨 목록에 없으면 낙첨이다.
+    public DrawResultResponse result(Long concertId, String userEmail) {
+        ConcertDraw draw = drawLedger.find(concertId);
+        if (!entryLog.isEntrant(concertId, userEmail)) {
+            return new DrawResultResponse(concertId, DrawResultResponse.Result.NOT_ENTERED, null);
+        }
+        if (draw.getStatus() != DrawStatus.DONE) {
+            return new DrawResultResponse(concertId, DrawResultResponse.Result.PENDING, null);
+        }
+        Long quantity = entryLog.winnerQuantity(concertId, userEmail);
+        return quantity == null
+                ? new DrawResultResponse(concertId, DrawResultResponse.Result.LOST, null)
+                : new DrawResultResponse(concertId, DrawResultResponse.Result.WON, quantity);
+    }
+}
@@ -0,0 +1,84 @@
+package com.ticket.reservationservice.draw;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 응모 목록을 한 번 훑으면서 우선순위가 앞선 응모만 최대 seatBudget 건 남긴다. (당첨자는 좌석을 1개 이상 쓰므로 충분하다)
+ * 메모리는 응모 수가 아니라 좌석 수에 비례한다. 우선순위는 (seed, 이메일) 해시라 다시 돌려도 같은 결과가 나온다.
+ */
+class WinnerSelector {
+
+    private static final Comparator<Candidate> ORDER = Comparator.comparingLong(Candidate::priority)
+            .thenComparing(Candidate::userEmail);
+
+    private final long seed;
+    private final long seatBudget;
+    private final int capacity;
+    // 남긴 후보 중 우선순위가 가장 뒤인 것이 맨 위에 온다.
+    private final PriorityQueue<Candidate> heap;
+
+    WinnerSelector(long seed, long seatBudget) {
+        this.seed = seed;
+        this.seatBudget = seatBudget;
+        this.capacity = (int) Math.min(seatBudget, Integer.MAX_VALUE);
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(capacity, 1 << 16)), ORDER.reversed());
+    }
+
+    void offer(String userEmail, long quantity) {
+        if (capacity == 0 || quantity <= 0 || quantity > seatBudget) {
+            return;
+        }
+        Candidate candidate = new Candidate(userEmail, quantity, priority(seed, userEmail));
+        if (heap.size() < capacity) {
+            heap.add(candidate);
+        } else if (ORDER.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    // 우선순위 순으로 좌석이 남는 동안 배정한다. 남은 좌석보다 많이 신청한 응모는 건너뛴다.
+    List<Candidate> winners() {
+        List<Candidate> ordered = new ArrayList<>(heap);
+        ordered.sort(ORDER);
+
+        List<Candidate> winners = new ArrayList<>();
+        long remaining = seatBudget;
+        for (Candidate candidate : ordered) {
+            if (remaining == 0) {
+                break;
+            }
+            if (candidate.quantity() <= remaining) {
+                winners.add(candidate);
+                remaining -= candidate.quantity();
+            }
+        }
+        return winners;
+    }
+
+    static long priority(long seed, String userEmail) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                digest.update((byte) (seed >>> shift));
+            }
+            byte[] hash = digest.digest(userEmail.getBytes(StandardCharsets.UTF_8));
+            long priority = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                priority = (priority << 8) | (hash[i] & 0xff);
+            }
+            return priority & Long.MAX_VALUE;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record Candidate(String userEmail, long quantity, long priority) {
+    }
+}
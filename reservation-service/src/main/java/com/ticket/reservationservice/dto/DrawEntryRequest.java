@@ -0,0 +1,15 @@
+package com.ticket.reservationservice.dto;
+
+import lombok.Getter;
+
+@Getter
+public class DrawEntryRequest {
+    private Long quantity;
+
+    public DrawEntryRequest() {
+    }
+
+    public DrawEntryRequest(Long quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ticket.reservationservice.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class DrawRequest {
+    private Long concertId;
+    // 없으면 마감 시점의 잔여 좌석 전부
+    private Long seats;
+    private LocalDateTime closesAt;
+
+    public DrawRequest() {
+    }
+
+    public DrawRequest(Long concertId, Long seats, LocalDateTime closesAt) {
+        this.concertId = concertId;
+        this.seats = seats;
+        this.closesAt = closesAt;
+    }
+}
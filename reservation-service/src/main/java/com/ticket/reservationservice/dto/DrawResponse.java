@@ -0,0 +1,25 @@
+package com.ticket.reservationservice.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.ticket.reservationservice.domain.ConcertDraw;
+import com.ticket.reservationservice.domain.DrawStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class DrawResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long concertId;
+    private final Long seats;
+    private final LocalDateTime closesAt;
+    private final DrawStatus status;
+
+    public DrawResponse(ConcertDraw draw) {
+        this.concertId = draw.getConcertId();
+        this.seats = draw.getSeats();
+        this.closesAt = draw.getClosesAt();
+        this.status = draw.getStatus();
+    }
+}
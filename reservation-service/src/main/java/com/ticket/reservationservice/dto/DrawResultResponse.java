@@ -0,0 +1,29 @@
+package com.ticket.reservationservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Getter;
+
+@Getter
+public class DrawResultResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long concertId;
+    private final Result result;
+    // 당첨된 경우에만 채운다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long quantity;
+
+    public DrawResultResponse(Long concertId, Result result, Long quantity) {
+        this.concertId = concertId;
+        this.result = result;
+        this.quantity = quantity;
+    }
+
+    public enum Result {
+        PENDING,
+        WON,
+        LOST,
+        NOT_ENTERED
+    }
+}
@@ -1,24 +1,38 @@
 package com.ticket.reservationservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.ticket.reservationservice.client.ConcertResponse;
 import com.ticket.reservationservice.domain.Reservation;
 import com.ticket.reservationservice.domain.ReservationStatus;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
 @Getter
 public class ReservationResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
     private final Long reservationId;
+    @JsonSerialize(using = ToStringSerializer.class)
     private final Long concertId;
     private final String userEmail;
     private final Long quantity;
     private final ReservationStatus status;
     private final LocalDateTime reservedAt;
     private final LocalDateTime cancelledAt;
+    // 공연 정보는 예매 목록 조회(GET /reservations/user)에서만 채운다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String concertTitle;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final LocalDateTime concertDateTime;
 
-    @Builder
-    private ReservationResponse(Long reservationId, Long concertId, String userEmail, Long quantity, ReservationStatus status, LocalDateTime reservedAt, LocalDateTime cancelledAt) {
+    @Builder(toBuilder = true)
+    @Jacksonized
+    private ReservationResponse(Long reservationId, Long concertId, String userEmail, Long quantity, ReservationStatus status, LocalDateTime reservedAt, LocalDateTime cancelledAt,
+                                String concertTitle, LocalDateTime concertDateTime) {
         this.reservationId = reservationId;
         this.concertId = concertId;
         this.userEmail = userEmail;
@@ -26,6 +40,8 @@ public class ReservationResponse {
         this.status = status;
         this.reservedAt = reservedAt;
         this.cancelledAt = cancelledAt;
+        this.concertTitle = concertTitle;
+        this.concertDateTime = concertDateTime;
     }
 
     public ReservationResponse(Reservation reservation) {
@@ -36,5 +52,17 @@ public class ReservationResponse {
         this.status = reservation.getStatus();
         this.reservedAt = reservation.getReservedAt();
         this.cancelledAt = reservation.getCancelledAt();
+        this.concertTitle = null;
+        this.concertDateTime = null;
+    }
+
+    public ReservationResponse withConcert(ConcertResponse concert) {
+        if (concert == null) {
+            return this;
+        }
+        return toBuilder()
+                .concertTitle(concert.getTitle())
+                .concertDateTime(concert.getDateTime())
+                .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.ticket.reservationservice.dto;
+
+import lombok.Getter;
+
+@Getter
+public class WaitlistRequest {
+    private Long quantity;
+
+    public WaitlistRequest() {
+    }
+
+    public WaitlistRequest(Long quantity) {
+        this.quantity = quantity;
+    }
+}
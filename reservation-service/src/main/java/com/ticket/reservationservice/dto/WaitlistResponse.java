@@ -0,0 +1,43 @@
+package com.ticket.reservationservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Getter;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WaitlistResponse {
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long concertId;
+    private final Status status;
+    // 대기 중일 때만 채운다. (1부터)
+    private final Long position;
+    // 배정되었을 때만 채운다.
+    private final Long quantity;
+
+    private WaitlistResponse(Long concertId, Status status, Long position, Long quantity) {
+        this.concertId = concertId;
+        this.status = status;
+        this.position = position;
+        this.quantity = quantity;
+    }
+
+    public static WaitlistResponse waiting(Long concertId, long position) {
+        return new WaitlistResponse(concertId, Status.WAITING, position, null);
+    }
+
+    public static WaitlistResponse allocated(Long concertId, long quantity) {
+        return new WaitlistResponse(concertId, Status.ALLOCATED, null, quantity);
+    }
+
+    public static WaitlistResponse notWaiting(Long concertId) {
+        return new WaitlistResponse(concertId, Status.NOT_WAITING, null, null);
+    }
+
+    public enum Status {
+        WAITING,
+        ALLOCATED,
+        NOT_WAITING
+    }
+}
@@ -0,0 +1,124 @@
+package com.ticket.reservationservice.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.reservationservice.client.ConcertResponse;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.domain.Reservation;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 공연별 예매 목록 내보내기. 목록을 메모리에 모으지 않고 DB 에서 한 행씩 스트리밍으로 읽어 바로 쓴다.
+ * 쓴 행은 영속성 컨텍스트에서 떼어 내므로 행 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Component
+@Slf4j
+public class ReservationExporter {
+
+    static final String CSV_HEADER = "reservationId,concertId,userEmail,quantity,status,reservedAt,cancelledAt";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final ReservationRepository reservationRepository;
+    private final ConcertServiceClient concertServiceClient;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public ReservationExporter(ReservationRepository reservationRepository,
+                               ConcertServiceClient concertServiceClient,
+                               EntityManager entityManager,
+                               ObjectMapper objectMapper) {
+        this.reservationRepository = reservationRepository;
+        this.concertServiceClient = concertServiceClient;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    // 응답을 쓰기 시작하기 전에 확인한다. 예매자 목록은 공연 등록자만 받을 수 있다.
+    public void authorize(Long concertId, String userEmail) {
+        ConcertResponse concert = concertServiceClient.getConcert(concertId);
+        if (concert == null || !userEmail.equals(concert.getUserEmail())) {
+            throw new IllegalArgumentException("공연 등록자만 예매 목록을 내보낼 수 있습니다.");
+        }
+    }
+
+    // 커서가 열려 있는 동안 트랜잭션을 유지한다. out 은 닫지 않는다.
+    @Transactional(readOnly = true)
+    public long export(Long concertId, ExportFormat format, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<Reservation> reservations = reservationRepository.streamByConcertId(concertId)) {
+            Iterator<Reservation> iterator = reservations.iterator();
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+                while (iterator.hasNext()) {
+                    Reservation reservation = iterator.next();
+                    writeCsv(writer, reservation);
+                    entityManager.detach(reservation);
+                    rows++;
+                }
+            } else {
+                JsonGenerator generator = objectMapper.createGenerator(writer);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // 줄 구분은 직접 쓴다. (기본 구분자는 공백)
+                generator.setRootValueSeparator(null);
+                while (iterator.hasNext()) {
+                    Reservation reservation = iterator.next();
+                    generator.writeObject(new ReservationResponse(reservation));
+                    generator.writeRaw('\n');
+                    entityManager.detach(reservation);
+                    rows++;
+                }
+                generator.flush();
+            }
+        }
+        writer.flush();
+        log.info("예매 목록 내보내기 - concertId: {}, format: {}, rows: {}", concertId, format, rows);
+        return rows;
+    }
+
+    private static void writeCsv(Writer writer, Reservation reservation) throws IOException {
+        writer.write(String.valueOf(reservation.getReservationId()));
+        writer.write(',');
+        writer.write(String.valueOf(reservation.getConcertId()));
+        writer.write(',');
+        writer.write(csvField(reservation.getUserEmail()));
+        writer.write(',');
+        writer.write(String.valueOf(reservation.getQuantity()));
+        writer.write(',');
+        writer.write(reservation.getStatus().name());
+        writer.write(',');
+        writer.write(reservation.getReservedAt() == null ? "" : reservation.getReservedAt().toString());
+        writer.write(',');
+        writer.write(reservation.getCancelledAt() == null ? "" : reservation.getCancelledAt().toString());
+        writer.write('\n');
+    }
+
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        // 스프레드시트가 수식으로 실행하지 않도록 수식 시작 문자로 시작하는 값은 앞에 ' 를 붙인다.
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,4 @@
+package com.ticket.reservationservice.intake;
+
+public record IntakeMessage(String ticketId, Long concertId, String userEmail, Long quantity) {
+}
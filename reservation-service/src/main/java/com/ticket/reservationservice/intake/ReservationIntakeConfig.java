@@ -0,0 +1,20 @@
+package com.ticket.reservationservice.intake;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+@ConditionalOnProperty(name = "reservation.intake.enabled", havingValue = "true")
+public class ReservationIntakeConfig {
+
+    @Bean
+    public NewTopic reservationIntakeTopic(
+            @Value("${reservation.intake.topic:reservation-intake}") String topic,
+            @Value("${reservation.intake.partitions:12}") int partitions) {
+        return TopicBuilder.name(topic).partitions(partitions).build();
+    }
+}
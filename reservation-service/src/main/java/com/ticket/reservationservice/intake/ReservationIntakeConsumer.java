@@ -0,0 +1,63 @@
+package com.ticket.reservationservice.intake;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.service.ReservationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+// 파티션 키가 공연 ID 이므로 같은 공연의 접수는 한 컨슈머가 순서대로 처리한다.
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "reservation.intake.enabled", havingValue = "true")
+public class ReservationIntakeConsumer {
+
+    private final ReservationService reservationService;
+    private final ReservationTicketStore ticketStore;
+    private final ObjectMapper objectMapper;
+
+    public ReservationIntakeConsumer(ReservationService reservationService, ReservationTicketStore ticketStore,
+                                     ObjectMapper objectMapper) {
+        this.reservationService = reservationService;
+        this.ticketStore = ticketStore;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(topics = "${reservation.intake.topic:reservation-intake}",
+            groupId = "${reservation.intake.group-id:reservation-intake}")
+    public void consume(String payload) {
+        IntakeMessage message;
+        try {
+            message = objectMapper.readValue(payload, IntakeMessage.class);
+        } catch (JsonProcessingException e) {
+            log.error("잘못된 접수 메시지 무시: {}", payload, e);
+            return;
+        }
+
+        // 재전달된 메시지는 이미 처리된 티켓이면 건너뛴다.
+        ReservationTicket ticket = ticketStore.find(message.ticketId())
+                .orElseGet(() -> ReservationTicket.pending(message.ticketId(), message.concertId(),
+                        message.userEmail(), message.quantity()));
+        if (!ticket.isPending()) {
+            return;
+        }
+        // 예약 후 티켓 저장 전에 죽으면 티켓이 PENDING 으로 남아 재전달 시 예매가 두 번 생긴다.
+        // 그래서 예약 전에 티켓을 선점하고, 이미 선점된 티켓은 처리 결과를 알 수 없으므로 다시 예약하지 않는다.
+        if (!ticketStore.claim(message.ticketId())) {
+            log.warn("이미 처리를 시작한 접수의 재전달 무시 - ticketId: {}", message.ticketId());
+            return;
+        }
+
+        try {
+            ReservationResponse response = reservationService.createReservation(
+                    message.concertId(), message.userEmail(), message.quantity());
+            ticketStore.save(ticket.confirmed(response.getReservationId()));
+        } catch (Exception e) {
+            log.info("접수된 예매 처리 실패 - ticketId: {}, reason: {}", message.ticketId(), e.getMessage());
+            ticketStore.save(ticket.failed(e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ticket.reservationservice.intake;
+
+import com.ticket.reservationservice.dto.ReservationRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.net.URI;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/reservations")
+@ConditionalOnProperty(name = "reservation.intake.enabled", havingValue = "true")
+@Profile("!reactive")
+public class ReservationIntakeController {
+
+    private final ReservationIntakeService intakeService;
+    private final ReservationTicketStore ticketStore;
+    private final long maxWaitMillis;
+
+    public ReservationIntakeController(ReservationIntakeService intakeService, ReservationTicketStore ticketStore,
+                                       @Value("${reservation.intake.max-wait:30s}") Duration maxWait) {
+        this.intakeService = intakeService;
+        this.ticketStore = ticketStore;
+        this.maxWaitMillis = maxWait.toMillis();
+    }
+
+    @PostMapping("/intake")
+    public ResponseEntity<ReservationTicket> intake(
+            @RequestBody ReservationRequest request,
+            @RequestHeader("X-User") String userEmail) {
+        ReservationTicket ticket = intakeService.accept(request.getConcertId(), userEmail, request.getQuantity());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/reservations/tickets/" + ticket.getTicketId()))
+                .body(ticket);
+    }
+
+    // waitMs 를 주면 처리가 끝나거나 대기 시간이 지날 때까지 응답을 미룬다. (롱폴링)
+    @GetMapping("/tickets/{ticketId}")
+    public DeferredResult<ReservationTicket> getTicket(
+            @PathVariable String ticketId,
+            @RequestParam(defaultValue = "0") long waitMs,
+            @RequestHeader("X-User") String userEmail) {
+        ReservationTicket ticket = findOwnTicket(ticketId, userEmail);
+        long timeout = Math.min(Math.max(waitMs, 0), maxWaitMillis);
+
+        DeferredResult<ReservationTicket> result = new DeferredResult<>(timeout > 0 ? timeout : null);
+        if (!ticket.isPending() || timeout == 0) {
+            result.setResult(ticket);
+            return result;
+        }
+
+        result.onTimeout(() -> result.setResult(findOwnTicket(ticketId, userEmail)));
+        result.onCompletion(ticketStore.await(ticketId, result::setResult));
+        // 등록 직전에 처리가 끝났을 수 있으므로 한 번 더 확인한다.
+        ReservationTicket latest = findOwnTicket(ticketId, userEmail);
+        if (!latest.isPending()) {
+            result.setResult(latest);
+        }
+        return result;
+    }
+
+    private ReservationTicket findOwnTicket(String ticketId, String userEmail) {
+        ReservationTicket ticket = ticketStore.find(ticketId)
+                .orElseThrow(() -> new IllegalArgumentException("접수 내역이 존재하지 않습니다."));
+        if (!ticket.getUserEmail().equals(userEmail)) {
+            throw new IllegalArgumentException("본인의 접수만 조회할 수 있습니다.");
+        }
+        return ticket;
+    }
+}
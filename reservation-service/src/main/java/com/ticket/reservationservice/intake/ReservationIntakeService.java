@@ -0,0 +1,98 @@
+package com.ticket.reservationservice.intake;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import com.ticket.common.id.SnowflakeIdGenerator;
+import com.ticket.reservationservice.availability.SoldOutConcerts;
+import com.ticket.reservationservice.draw.DrawConcerts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 예매 요청을 검증만 하고 공연별 Kafka 파티션에 적재한 뒤 티켓을 돌려준다.
+ * 실제 좌석 예약과 저장은 ReservationIntakeConsumer 가 공연 단위로 순서대로 처리한다.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "reservation.intake.enabled", havingValue = "true")
+public class ReservationIntakeService {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ReservationTicketStore ticketStore;
+    private final ObjectMapper objectMapper;
+    private final SoldOutConcerts soldOutConcerts;
+    private final DrawConcerts drawConcerts;
+    private final String topic;
+    private final long sendTimeoutMillis;
+
+    public ReservationIntakeService(KafkaTemplate<String, String> kafkaTemplate,
+                                    ReservationTicketStore ticketStore,
+                                    ObjectMapper objectMapper,
+                                    SoldOutConcerts soldOutConcerts,
+                                    DrawConcerts drawConcerts,
+                                    @Value("${reservation.intake.topic:reservation-intake}") String topic,
+                                    @Value("${reservation.intake.send-timeout:2s}") Duration sendTimeout) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.ticketStore = ticketStore;
+        this.objectMapper = objectMapper;
+        this.soldOutConcerts = soldOutConcerts;
+        this.drawConcerts = drawConcerts;
+        this.topic = topic;
+        this.sendTimeoutMillis = sendTimeout.toMillis();
+    }
+
+    public ReservationTicket accept(Long concertId, String userEmail, Long quantity) {
+        if (concertId == null) {
+            throw new IllegalArgumentException("공연 ID는 필수입니다.");
+        }
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("예매 수량은 1 이상이어야 합니다.");
+        }
+        if (soldOutConcerts.reject(concertId)) {
+            throw new BusinessException(ErrorCode.SOLD_OUT);
+        }
+        if (drawConcerts.reject(concertId)) {
+            throw new BusinessException(ErrorCode.DRAW_ONLY);
+        }
+
+        String ticketId = String.valueOf(SnowflakeIdGenerator.shared().nextId());
+        ReservationTicket ticket = ReservationTicket.pending(ticketId, concertId, userEmail, quantity);
+        ticketStore.save(ticket);
+
+        // 브로커에 기록된 것을 확인한 뒤에만 접수로 응답한다.
+        try {
+            kafkaTemplate.send(topic, String.valueOf(concertId), write(new IntakeMessage(ticketId, concertId, userEmail, quantity)))
+                    .get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw rejected(ticket, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw rejected(ticket, e);
+        }
+        return ticket;
+    }
+
+    private IllegalStateException rejected(ReservationTicket ticket, Exception cause) {
+        log.error("예매 접수 실패 - ticketId: {}", ticket.getTicketId(), cause);
+        ticketStore.save(ticket.failed("접수에 실패했습니다."));
+        return new IllegalStateException("예매 접수에 실패했습니다.", cause);
+    }
+
+    private String write(IntakeMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("접수 메시지 직렬화 실패", e);
+        }
+    }
+}
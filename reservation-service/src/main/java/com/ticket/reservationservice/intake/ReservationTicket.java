@@ -0,0 +1,57 @@
+package com.ticket.reservationservice.intake;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ReservationTicket {
+    private String ticketId;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long concertId;
+    private String userEmail;
+    private Long quantity;
+    private TicketStatus status;
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long reservationId;
+    private String reason;
+    private LocalDateTime acceptedAt;
+
+    protected ReservationTicket() {
+    }
+
+    private ReservationTicket(String ticketId, Long concertId, String userEmail, Long quantity, TicketStatus status,
+                              Long reservationId, String reason, LocalDateTime acceptedAt) {
+        this.ticketId = ticketId;
+        this.concertId = concertId;
+        this.userEmail = userEmail;
+        this.quantity = quantity;
+        this.status = status;
+        this.reservationId = reservationId;
+        this.reason = reason;
+        this.acceptedAt = acceptedAt;
+    }
+
+    public static ReservationTicket pending(String ticketId, Long concertId, String userEmail, Long quantity) {
+        return new ReservationTicket(ticketId, concertId, userEmail, quantity, TicketStatus.PENDING,
+                null, null, LocalDateTime.now());
+    }
+
+    public ReservationTicket confirmed(Long reservationId) {
+        return new ReservationTicket(ticketId, concertId, userEmail, quantity, TicketStatus.CONFIRMED,
+                reservationId, null, acceptedAt);
+    }
+
+    public ReservationTicket failed(String reason) {
+        return new ReservationTicket(ticketId, concertId, userEmail, quantity, TicketStatus.FAILED,
+                null, reason, acceptedAt);
+    }
+
+    @JsonIgnore
+    public boolean isPending() {
+        return status == TicketStatus.PENDING;
+    }
+}
@@ -0,0 +1,114 @@
+package com.ticket.reservationservice.intake;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 접수 티켓 상태를 Redis 에 TTL 과 함께 저장한다.
+ * 상태가 바뀌면 Redis 토픽으로 알려, 어느 인스턴스에서 롱폴링 중이든 바로 응답을 돌려준다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "reservation.intake.enabled", havingValue = "true")
+public class ReservationTicketStore {
+
+    private static final String TICKET_KEY_PREFIX = "reservation:ticket:";
+    private static final String TICKET_TOPIC = "reservation:tickets";
+    private static final String CLAIM_KEY_PREFIX = "reservation:ticket:claim:";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Map<String, Queue<Consumer<ReservationTicket>>> waiters = new ConcurrentHashMap<>();
+    private RTopic topic;
+    private int listenerId;
+
+    public ReservationTicketStore(RedissonClient redissonClient, ObjectMapper objectMapper,
+                                  @Value("${reservation.intake.ticket-ttl:30m}") Duration ttl) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        topic = redissonClient.getTopic(TICKET_TOPIC, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, ticketId) -> notifyWaiters(ticketId));
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        topic.removeListener(listenerId);
+    }
+
+    public void save(ReservationTicket ticket) {
+        redissonClient.<String>getBucket(TICKET_KEY_PREFIX + ticket.getTicketId(), StringCodec.INSTANCE)
+                .set(write(ticket), ttl);
+        if (!ticket.isPending()) {
+            topic.publish(ticket.getTicketId());
+        }
+    }
+
+    // 좌석을 잡기 전에 티켓을 선점한다. 이미 선점된 티켓(재전달)이면 false 를 돌려준다.
+    public boolean claim(String ticketId) {
+        return redissonClient.<String>getBucket(CLAIM_KEY_PREFIX + ticketId, StringCodec.INSTANCE)
+                .setIfAbsent("1", ttl);
+    }
+
+    public Optional<ReservationTicket> find(String ticketId) {
+        String json = redissonClient.<String>getBucket(TICKET_KEY_PREFIX + ticketId, StringCodec.INSTANCE).get();
+        return Optional.ofNullable(json).map(this::read);
+    }
+
+    // 상태가 바뀌면 listener 를 부른다. 돌려준 Runnable 로 등록을 해제한다. (완료/타임아웃 시 호출 쪽에서 부른다)
+    // 등록과 상태 변경 사이의 경쟁은 호출 쪽에서 재조회로 막는다.
+    public Runnable await(String ticketId, Consumer<ReservationTicket> listener) {
+        Queue<Consumer<ReservationTicket>> queue = waiters.computeIfAbsent(ticketId, id -> new ConcurrentLinkedQueue<>());
+        queue.add(listener);
+        return () -> {
+            queue.remove(listener);
+            waiters.computeIfPresent(ticketId, (id, q) -> q.isEmpty() ? null : q);
+        };
+    }
+
+    private void notifyWaiters(String ticketId) {
+        Queue<Consumer<ReservationTicket>> queue = waiters.get(ticketId);
+        if (queue == null) {
+            return;
+        }
+        find(ticketId).ifPresent(ticket -> queue.forEach(listener -> listener.accept(ticket)));
+    }
+
+    private String write(ReservationTicket ticket) {
+        try {
+            return objectMapper.writeValueAsString(ticket);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("티켓 직렬화 실패", e);
+        }
+    }
+
+    private ReservationTicket read(String json) {
+        try {
+            return objectMapper.readValue(json, ReservationTicket.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("티켓 역직렬화 실패", e);
+        }
+    }
+}
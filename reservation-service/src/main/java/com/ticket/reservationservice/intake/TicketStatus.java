@@ -0,0 +1,5 @@
+package com.ticket.reservationservice.intake;
+
+public enum TicketStatus {
+    PENDING, CONFIRMED, FAILED
+}
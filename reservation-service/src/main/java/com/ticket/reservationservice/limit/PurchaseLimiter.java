@@ -0,0 +1,253 @@
+package com.ticket.reservationservice.limit;
+
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import com.ticket.reservationservice.domain.ReservationStatus;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (사용자, 공연)별 구매 수량 한도. 수량은 Redis 카운터 하나로 관리하고, 확인과 증가를 한 스크립트에서 처리한다.
+ * 카운터가 없으면(첫 구매, 만료) DB 합계로 한 번 채운 뒤 다시 시도한다. 요청마다 예매 목록을 읽지 않는다.
+ * 한도에 걸린 사용자는 local-ttl 동안 인스턴스 메모리에서 바로 거절해 반복 요청이 Redis 까지 가지 않게 한다.
+ * Redis 를 쓸 수 없으면 예매를 막지 않고 통과시킨다.
+ */
+@Component
+@Slf4j
+public class PurchaseLimiter {
+
+    public static final String METRIC = "reservation.purchase-limit";
+
+    private static final String KEY_PREFIX = "reservation:purchased:";
+
+    // KEYS: 카운터 / ARGV: 수량, 한도, ttl(ms). 반환 {결과, 현재 수량} 결과: 1 허용, 0 한도 초과, -1 카운터 없음
+    static final String ACQUIRE_SCRIPT = """
+            local current = redis.call('get', KEYS[1])
+            if not current then
+                return {-1, 0}
+            end
+            current = tonumber(current)
+            if current + tonumber(ARGV[1]) > tonumber(ARGV[2]) then
+                return {0, current}
+            end
+            current = redis.call('incrby', KEYS[1], ARGV[1])
+            redis.call('pexpire', KEYS[1], ARGV[3])
+            return {1, current}
+            """;
+
+    // KEYS: 카운터 / ARGV: 수량, ttl(ms). 0 아래로는 내려가지 않는다.
+    static final String RELEASE_SCRIPT = """
+            local current = redis.call('get', KEYS[1])
+            if not current then
+                return 0
+            end
+            local released = math.max(tonumber(current) - tonumber(ARGV[1]), 0)
+            redis.call('set', KEYS[1], released, 'PX', ARGV[2])
+            return released
+            """;
+
+    private final RedissonClient redissonClient;
+    private final ReservationRepository reservationRepository;
+    private final long limit;
+    private final Duration counterTtl;
+    private final Duration localTtl;
+    private final int maxLocalEntries;
+    private final Map<String, KnownCount> local = new ConcurrentHashMap<>();
+
+    private final Timer checkTimer;
+    private final Counter localRejected;
+    private final Counter redisRejected;
+    private final Counter bypassed;
+
+    public PurchaseLimiter(RedissonClient redissonClient,
+                           ReservationRepository reservationRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${reservation.purchase-limit.per-concert:4}") long limit,
+                           @Value("${reservation.purchase-limit.counter-ttl:30d}") Duration counterTtl,
+                           @Value("${reservation.purchase-limit.local-ttl:2s}") Duration localTtl,
+                           @Value("${reservation.purchase-limit.max-local-entries:100000}") int maxLocalEntries) {
+        this.redissonClient = redissonClient;
+        this.reservationRepository = reservationRepository;
+        this.limit = limit;
+        this.counterTtl = counterTtl;
+        this.localTtl = localTtl;
+        this.maxLocalEntries = maxLocalEntries;
+        this.checkTimer = Timer.builder(METRIC + ".check")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+        this.localRejected = meterRegistry.counter(METRIC + ".rejected", "source", "local");
+        this.redisRejected = meterRegistry.counter(METRIC + ".rejected", "source", "redis");
+        this.bypassed = meterRegistry.counter(METRIC + ".bypassed");
+    }
+
+    // 한도 안이면 수량을 더하고, 넘으면 BusinessException(PURCHASE_LIMIT_EXCEEDED).
+    public void acquire(String userEmail, Long concertId, long quantity) {
+        if (quantity > limit) {
+            localRejected.increment();
+            throw new BusinessException(ErrorCode.PURCHASE_LIMIT_EXCEEDED);
+        }
+
+        String key = key(userEmail, concertId);
+        KnownCount known = local.get(key);
+        if (known != null && known.expiresAt() > System.currentTimeMillis() && known.count() + quantity > limit) {
+            localRejected.increment();
+            throw new BusinessException(ErrorCode.PURCHASE_LIMIT_EXCEEDED);
+        }
+
+        long start = System.nanoTime();
+        Outcome outcome;
+        try {
+            outcome = tryAcquire(key, quantity);
+            if (outcome.missing()) {
+                seed(key, userEmail, concertId);
+                outcome = tryAcquire(key, quantity);
+            }
+        } catch (Exception e) {
+            bypassed.increment();
+            log.warn("구매 한도 확인 실패 - 한도 없이 진행: userEmail: {}, concertId: {}, {}", userEmail, concertId, e.getMessage());
+            return;
+        } finally {
+            checkTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        remember(key, outcome.count());
+        if (!outcome.acquired()) {
+            redisRejected.increment();
+            throw new BusinessException(ErrorCode.PURCHASE_LIMIT_EXCEEDED);
+        }
+    }
+
+    // 수량을 올리지 않고 한도만 확인한다. (추첨 응모처럼 좌석을 나중에 받는 경우)
+    public void check(String userEmail, Long concertId, long quantity) {
+        if (quantity > limit) {
+            throw new BusinessException(ErrorCode.PURCHASE_LIMIT_EXCEEDED);
+        }
+        long purchased;
+        try {
+            String current = redissonClient.<String>getBucket(key(userEmail, concertId), StringCodec.INSTANCE).get();
+            purchased = current != null
+                    ? Long.parseLong(current)
+                    : reservationRepository.sumQuantityByUserAndConcert(userEmail, concertId, ReservationStatus.CANCELLED);
+        } catch (Exception e) {
+            bypassed.increment();
+            log.warn("구매 한도 확인 실패 - 한도 없이 진행: userEmail: {}, concertId: {}, {}", userEmail, concertId, e.getMessage());
+            return;
+        }
+        if (purchased + quantity > limit) {
+            throw new BusinessException(ErrorCode.PURCHASE_LIMIT_EXCEEDED);
+        }
+    }
+
+    // 카운터를 거치지 않고 저장한 예매(추첨 당첨)가 커밋되면 카운터를 지워, 다음 확인 때 DB 합계로 다시 채우게 한다.
+    public void forgetAfterCommit(Long concertId, Collection<String> userEmails) {
+        if (userEmails.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            forget(concertId, userEmails);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                forget(concertId, userEmails);
+            }
+        });
+    }
+
+    private void forget(Long concertId, Collection<String> userEmails) {
+        String[] keys = userEmails.stream().map(userEmail -> key(userEmail, concertId)).toArray(String[]::new);
+        for (String key : keys) {
+            local.remove(key);
+        }
+        try {
+            redissonClient.getKeys().delete(keys);
+        } catch (Exception e) {
+            log.warn("구매 수량 카운터 삭제 실패 - concertId: {}, count: {}, {}", concertId, keys.length, e.getMessage());
+        }
+    }
+
+    // 예매가 실패해 잡아 둔 수량을 되돌린다.
+    public void release(String userEmail, Long concertId, long quantity) {
+        String key = key(userEmail, concertId);
+        local.remove(key);
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, RELEASE_SCRIPT,
+                    RScript.ReturnType.INTEGER, List.of(key),
+                    String.valueOf(quantity), String.valueOf(counterTtl.toMillis()));
+        } catch (Exception e) {
+            log.warn("구매 수량 반환 실패 - userEmail: {}, concertId: {}, {}", userEmail, concertId, e.getMessage());
+        }
+    }
+
+    // 취소는 커밋된 뒤에 반환한다. 취소가 롤백되면 수량도 그대로 둔다.
+    public void releaseAfterCommit(String userEmail, Long concertId, long quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(userEmail, concertId, quantity);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(userEmail, concertId, quantity);
+            }
+        });
+    }
+
+    private Outcome tryAcquire(String key, long quantity) {
+        List<Long> result = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, ACQUIRE_SCRIPT,
+                RScript.ReturnType.MULTI, List.of(key),
+                String.valueOf(quantity), String.valueOf(limit), String.valueOf(counterTtl.toMillis()));
+        return new Outcome(result.get(0), result.get(1));
+    }
+
+    // 카운터가 없을 때만 DB 의 유효 예매 합계로 채운다. 동시에 채우려는 요청은 먼저 쓴 값을 따른다.
+    private void seed(String key, String userEmail, Long concertId) {
+        long purchased = reservationRepository.sumQuantityByUserAndConcert(userEmail, concertId, ReservationStatus.CANCELLED);
+        redissonClient.<String>getBucket(key, StringCodec.INSTANCE).setIfAbsent(String.valueOf(purchased), counterTtl);
+    }
+
+    private void remember(String key, long count) {
+        if (local.size() >= maxLocalEntries && !local.containsKey(key)) {
+            long now = System.currentTimeMillis();
+            local.values().removeIf(known -> known.expiresAt() <= now);
+            if (local.size() >= maxLocalEntries) {
+                local.clear();
+            }
+        }
+        local.put(key, new KnownCount(count, System.currentTimeMillis() + localTtl.toMillis()));
+    }
+
+    private static String key(String userEmail, Long concertId) {
+        return KEY_PREFIX + concertId + ":" + userEmail;
+    }
+
+    private record KnownCount(long count, long expiresAt) {
+    }
+
+    private record Outcome(long status, long count) {
+        boolean acquired() {
+            return status == 1;
+        }
+
+        boolean missing() {
+            return status == -1;
+        }
+    }
+}
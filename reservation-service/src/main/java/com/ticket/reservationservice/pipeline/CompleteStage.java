@@ -0,0 +1,34 @@
+package com.ticket.reservationservice.pipeline;
+
+import com.lmax.disruptor.EventHandler;
+import com.ticket.reservationservice.dto.ReservationResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+class CompleteStage implements EventHandler<ReservationEvent> {
+
+    private final StageTimer timer;
+
+    CompleteStage(StageTimer timer) {
+        this.timer = timer;
+    }
+
+    @Override
+    public void onEvent(ReservationEvent event, long sequence, boolean endOfBatch) {
+        CompletableFuture<ReservationResponse> future = event.future;
+        Throwable failure = event.failure;
+        ReservationResponse response = event.reservation != null ? new ReservationResponse(event.reservation) : null;
+        timer.record(event, System.nanoTime());
+
+        // 슬롯이 다음 요청에 재사용되기 전에 참조를 끊는다.
+        event.clear();
+
+        if (failure != null) {
+            future.completeExceptionally(failure);
+        } else if (response != null) {
+            future.complete(response);
+        } else {
+            future.completeExceptionally(new IllegalStateException("좌석 예매에 실패했습니다."));
+        }
+    }
+}
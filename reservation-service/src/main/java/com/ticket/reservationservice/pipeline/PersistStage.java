@@ -0,0 +1,161 @@
+package com.ticket.reservationservice.pipeline;
+
+import com.lmax.disruptor.EventHandler;
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import com.ticket.reservationservice.cache.ReservationListCache;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.client.SeatReservationItem;
+import com.ticket.reservationservice.client.SeatReservationResult;
+import com.ticket.reservationservice.deadline.DeadlineGuard;
+import com.ticket.reservationservice.domain.Reservation;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import com.ticket.reservationservice.service.SeatCompensationService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석이 잡힌 이벤트를 모아 saveAll 한 번으로 저장한다. (Snowflake ID 라 JDBC 배치 insert 로 나간다)
+ * 저장하지 못한 건은 잡아 둔 좌석을 되돌리고, 되돌리지 못하면 보상 큐에 남긴다.
+ */
+@Slf4j
+class PersistStage implements EventHandler<ReservationEvent> {
+
+    private final ReservationRepository reservationRepository;
+    private final ConcertServiceClient concertServiceClient;
+    private final SeatCompensationService seatCompensationService;
+    private final ReservationListCache reservationListCache;
+    private final DeadlineGuard deadlineGuard;
+    private final StageTimer timer;
+    private final List<ReservationEvent> batch = new ArrayList<>();
+    private final List<ReservationEvent> pending = new ArrayList<>();
+    private final List<Reservation> reservations = new ArrayList<>();
+    private final List<ReservationEvent> rollbacks = new ArrayList<>();
+
+    PersistStage(ReservationRepository reservationRepository, ConcertServiceClient concertServiceClient,
+                 SeatCompensationService seatCompensationService, ReservationListCache reservationListCache,
+                 DeadlineGuard deadlineGuard, StageTimer timer) {
+        this.reservationRepository = reservationRepository;
+        this.concertServiceClient = concertServiceClient;
+        this.seatCompensationService = seatCompensationService;
+        this.reservationListCache = reservationListCache;
+        this.deadlineGuard = deadlineGuard;
+        this.timer = timer;
+    }
+
+    @Override
+    public void onEvent(ReservationEvent event, long sequence, boolean endOfBatch) {
+        batch.add(event);
+        if (endOfBatch) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        try {
+            for (ReservationEvent event : batch) {
+                if (event.isFailed() || !event.seatsReserved) {
+                    continue;
+                }
+                // 예열 요청은 좌석이 바뀌지 않았으므로 저장도 롤백도 하지 않고 응답만 만든다.
+                if (event.probe) {
+                    Reservation probe = Reservation.createReservation(event.concertId, event.userEmail, event.quantity);
+                    probe.confirmReservation();
+                    event.reservation = probe;
+                    continue;
+                }
+                // 마감이 지났으면 저장하지 않고 좌석을 되돌린다.
+                if (deadlineGuard.isExpired(event.deadline, "db-write")) {
+                    event.fail(new BusinessException(ErrorCode.DEADLINE_EXCEEDED));
+                    rollbacks.add(event);
+                    continue;
+                }
+                Reservation reservation = Reservation.createReservation(event.concertId, event.userEmail, event.quantity);
+                reservation.confirmReservation();
+                pending.add(event);
+                reservations.add(reservation);
+            }
+
+            if (!reservations.isEmpty()) {
+                save();
+            }
+            if (!rollbacks.isEmpty()) {
+                rollback();
+            }
+
+            long now = System.nanoTime();
+            for (ReservationEvent event : batch) {
+                timer.record(event, now);
+            }
+        } finally {
+            rollbacks.clear();
+            reservations.clear();
+            pending.clear();
+            batch.clear();
+        }
+    }
+
+    private void save() {
+        try {
+            List<Reservation> saved = reservationRepository.saveAll(reservations);
+            for (int i = 0; i < pending.size(); i++) {
+                pending.get(i).reservation = saved.get(i);
+            }
+        } catch (Exception e) {
+            log.error("예매 일괄 저장 실패 - count: {}", pending.size(), e);
+            for (ReservationEvent event : pending) {
+                event.fail(e);
+                rollbacks.add(event);
+            }
+            return;
+        }
+
+        // saveAll 이 커밋된 뒤 사용자별 목록 캐시에 넣는다. 완료 단계보다 먼저라 응답 직후 조회에도 보인다.
+        for (ReservationEvent event : pending) {
+            try {
+                reservationListCache.onSaved(new ReservationResponse(event.reservation));
+            } catch (Exception e) {
+                log.warn("예매 목록 캐시 반영 실패 - userEmail: {}", event.userEmail, e);
+            }
+        }
+    }
+
+    private void rollback() {
+        // 보상 큐로 넘어가더라도 같은 키를 쓰므로 이번 호출이 반영된 경우 다시 더해지지 않는다.
+        List<SeatReservationItem> items = new ArrayList<>(rollbacks.size());
+        List<String> keys = new ArrayList<>(rollbacks.size());
+        for (int i = 0; i < rollbacks.size(); i++) {
+            ReservationEvent event = rollbacks.get(i);
+            String key = SeatCompensationService.newRollbackKey();
+            keys.add(key);
+            items.add(new SeatReservationItem(String.valueOf(i), event.concertId, event.quantity, key));
+        }
+        boolean[] rolledBack = new boolean[items.size()];
+        try {
+            for (SeatReservationResult result : concertServiceClient.rollbackSeatsBatch(items)) {
+                if (result.isSuccess()) {
+                    rolledBack[Integer.parseInt(result.getRequestId())] = true;
+                }
+            }
+        } catch (Exception e) {
+            log.error("묶음 좌석 롤백 실패 - 보상 큐로 이관: count: {}", items.size(), e);
+        }
+
+        for (int i = 0; i < rolledBack.length; i++) {
+            if (!rolledBack[i]) {
+                enqueueCompensation(keys.get(i), rollbacks.get(i));
+            }
+        }
+    }
+
+    private void enqueueCompensation(String compensationKey, ReservationEvent event) {
+        try {
+            seatCompensationService.enqueueDetached(compensationKey, event.concertId, event.quantity);
+        } catch (Exception e) {
+            log.error("좌석 보상 기록 실패 - concertId: {}, quantity: {}", event.concertId, event.quantity, e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ticket.reservationservice.pipeline;
+
+import com.ticket.reservationservice.domain.Reservation;
+import com.ticket.reservationservice.dto.ReservationResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 링 버퍼 슬롯. 미리 만들어 두고 재사용하므로 요청마다 새로 할당하지 않는다.
+ * 각 단계는 앞 단계가 끝난 슬롯만 보므로 별도 동기화 없이 필드를 읽고 쓴다.
+ */
+class ReservationEvent {
+    Long concertId;
+    String userEmail;
+    Long quantity;
+    Long deadline;
+    CompletableFuture<ReservationResponse> future;
+    // 예열 요청. 좌석 예약 호출까지 같은 경로로 가고, 저장하지 않는다.
+    boolean probe;
+
+    boolean seatsReserved;
+    Reservation reservation;
+    Throwable failure;
+    long stageStartNanos;
+
+    void fail(Throwable failure) {
+        if (this.failure == null) {
+            this.failure = failure;
+        }
+    }
+
+    boolean isFailed() {
+        return failure != null;
+    }
+
+    void clear() {
+        concertId = null;
+        userEmail = null;
+        quantity = null;
+        deadline = null;
+        future = null;
+        probe = false;
+        seatsReserved = false;
+        reservation = null;
+        failure = null;
+        stageStartNanos = 0L;
+    }
+}
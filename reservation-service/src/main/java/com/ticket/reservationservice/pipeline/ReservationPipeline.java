@@ -0,0 +1,189 @@
+package com.ticket.reservationservice.pipeline;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.InsufficientCapacityException;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.ticket.common.deadline.RequestDeadline;
+import com.ticket.reservationservice.cache.ReservationListCache;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.deadline.DeadlineGuard;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import com.ticket.reservationservice.service.SeatCompensationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 예매 처리 파이프라인. 미리 할당한 링 버퍼 위에서 단계마다 전용 스레드가 돈다.
+ * validate -> reserve(공연별 묶음 호출) -> persist(일괄 저장) -> complete(호출자 future 완료)
+ * 버퍼가 가득 차면 기다리지 않고 바로 거절한다.
+ */
+@Component
+@Slf4j
+public class ReservationPipeline {
+
+    public static final String BACKLOG_METRIC = "reservation.pipeline.backlog";
+
+    private final ConcertServiceClient concertServiceClient;
+    private final ReservationRepository reservationRepository;
+    private final SeatCompensationService seatCompensationService;
+    private final ReservationListCache reservationListCache;
+    private final DeadlineGuard deadlineGuard;
+    private final MeterRegistry meterRegistry;
+    private final int ringSize;
+    private final String waitStrategy;
+    private final Counter rejectedCounter;
+
+    private Disruptor<ReservationEvent> disruptor;
+    private RingBuffer<ReservationEvent> ringBuffer;
+
+    public ReservationPipeline(ConcertServiceClient concertServiceClient,
+                               ReservationRepository reservationRepository,
+                               SeatCompensationService seatCompensationService,
+                               ReservationListCache reservationListCache,
+                               DeadlineGuard deadlineGuard,
+                               MeterRegistry meterRegistry,
+                               @Value("${reservation.pipeline.ring-size:1024}") int ringSize,
+                               @Value("${reservation.pipeline.wait-strategy:blocking}") String waitStrategy) {
+        this.concertServiceClient = concertServiceClient;
+        this.reservationRepository = reservationRepository;
+        this.seatCompensationService = seatCompensationService;
+        this.reservationListCache = reservationListCache;
+        this.deadlineGuard = deadlineGuard;
+        this.meterRegistry = meterRegistry;
+        this.ringSize = ringSize;
+        this.waitStrategy = waitStrategy;
+        this.rejectedCounter = meterRegistry.counter("reservation.pipeline.rejected");
+    }
+
+    @PostConstruct
+    public void start() {
+        disruptor = new Disruptor<>(ReservationEvent::new, ringSize,
+                new CustomizableThreadFactory("reservation-pipeline-"), ProducerType.MULTI, waitStrategy(waitStrategy));
+        disruptor.setDefaultExceptionHandler(new FailEventHandler());
+
+        ValidateStage validate = new ValidateStage(deadlineGuard, new StageTimer(meterRegistry, "validate"));
+        ReserveStage reserve = new ReserveStage(concertServiceClient, deadlineGuard, new StageTimer(meterRegistry, "reserve"));
+        PersistStage persist = new PersistStage(reservationRepository, concertServiceClient, seatCompensationService,
+                reservationListCache, deadlineGuard, new StageTimer(meterRegistry, "persist"));
+        CompleteStage complete = new CompleteStage(new StageTimer(meterRegistry, "complete"));
+
+        disruptor.handleEventsWith(validate).then(reserve).then(persist).then(complete);
+        ringBuffer = disruptor.start();
+
+        registerBacklog("validate", validate);
+        registerBacklog("reserve", reserve);
+        registerBacklog("persist", persist);
+        registerBacklog("complete", complete);
+        Gauge.builder("reservation.pipeline.remaining-capacity", ringBuffer, RingBuffer::remainingCapacity)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        try {
+            disruptor.shutdown(10, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("예매 파이프라인 종료 대기 시간 초과 - 강제 중단");
+            disruptor.halt();
+        }
+    }
+
+    public CompletableFuture<ReservationResponse> submit(Long concertId, String userEmail, Long quantity) {
+        return submit(concertId, userEmail, quantity, false);
+    }
+
+    // 판매 시작 전 예열용. concert-service 는 좌석을 바꾸지 않고, 저장 단계는 건너뛴다.
+    public CompletableFuture<ReservationResponse> submitProbe(Long concertId, String userEmail, Long quantity) {
+        return submit(concertId, userEmail, quantity, true);
+    }
+
+    private CompletableFuture<ReservationResponse> submit(Long concertId, String userEmail, Long quantity, boolean probe) {
+        long sequence;
+        try {
+            sequence = ringBuffer.tryNext();
+        } catch (InsufficientCapacityException e) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("예매 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."));
+        }
+
+        CompletableFuture<ReservationResponse> future = new CompletableFuture<>();
+        try {
+            ReservationEvent event = ringBuffer.get(sequence);
+            event.concertId = concertId;
+            event.userEmail = userEmail;
+            event.quantity = quantity;
+            event.deadline = RequestDeadline.current();
+            event.future = future;
+            event.probe = probe;
+            event.stageStartNanos = System.nanoTime();
+        } finally {
+            ringBuffer.publish(sequence);
+        }
+        return future;
+    }
+
+    // 단계별 backlog = 발행된 마지막 시퀀스 - 그 단계가 처리한 마지막 시퀀스
+    private void registerBacklog(String stage, EventHandler<ReservationEvent> handler) {
+        Gauge.builder(BACKLOG_METRIC, () -> ringBuffer.getCursor() - disruptor.getSequenceValueFor(handler))
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    static WaitStrategy waitStrategy(String name) {
+        return switch (name) {
+            case "blocking" -> new BlockingWaitStrategy();
+            case "sleeping" -> new SleepingWaitStrategy();
+            case "yielding" -> new YieldingWaitStrategy();
+            case "busy-spin" -> new BusySpinWaitStrategy();
+            default -> throw new IllegalArgumentException("Unknown wait strategy: " + name);
+        };
+    }
+
+    // 단계에서 예외가 새어 나와도 처리 스레드는 멈추지 않고, 해당 요청만 실패로 끝낸다.
+    private static class FailEventHandler implements ExceptionHandler<ReservationEvent> {
+
+        @Override
+        public void handleEventException(Throwable ex, long sequence, ReservationEvent event) {
+            log.error("예매 파이프라인 처리 오류 - sequence: {}", sequence, ex);
+            if (event == null) {
+                return;
+            }
+            event.fail(ex);
+            CompletableFuture<ReservationResponse> future = event.future;
+            if (future != null) {
+                future.completeExceptionally(ex);
+            }
+        }
+
+        @Override
+        public void handleOnStartException(Throwable ex) {
+            log.error("예매 파이프라인 시작 오류", ex);
+        }
+
+        @Override
+        public void handleOnShutdownException(Throwable ex) {
+            log.error("예매 파이프라인 종료 오류", ex);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.ticket.reservationservice.pipeline;
+
+import com.lmax.disruptor.EventHandler;
+import com.ticket.common.deadline.RequestDeadline;
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.client.SeatReservationItem;
+import com.ticket.reservationservice.client.SeatReservationResult;
+import com.ticket.reservationservice.deadline.DeadlineGuard;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 번에 꺼낸 이벤트를 묶음 예약 API 한 번으로 보낸다.
+ * concert-service 는 공연마다 락을 한 번만 잡고 항목별 성공 여부를 돌려준다.
+ */
+@Slf4j
+class ReserveStage implements EventHandler<ReservationEvent> {
+
+    private final ConcertServiceClient concertServiceClient;
+    private final DeadlineGuard deadlineGuard;
+    private final StageTimer timer;
+    private final List<ReservationEvent> batch = new ArrayList<>();
+    private final List<ReservationEvent> requested = new ArrayList<>();
+    private final List<SeatReservationItem> items = new ArrayList<>();
+
+    ReserveStage(ConcertServiceClient concertServiceClient, DeadlineGuard deadlineGuard, StageTimer timer) {
+        this.concertServiceClient = concertServiceClient;
+        this.deadlineGuard = deadlineGuard;
+        this.timer = timer;
+    }
+
+    @Override
+    public void onEvent(ReservationEvent event, long sequence, boolean endOfBatch) {
+        batch.add(event);
+        if (endOfBatch) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        try {
+            Long deadline = null;
+            for (ReservationEvent event : batch) {
+                if (event.isFailed()) {
+                    continue;
+                }
+                if (deadlineGuard.isExpired(event.deadline, "reserve-call")) {
+                    event.fail(new BusinessException(ErrorCode.DEADLINE_EXCEEDED));
+                    continue;
+                }
+                // 요청 ID 는 이 묶음 안의 위치
+                String requestId = String.valueOf(requested.size());
+                items.add(event.probe
+                        ? SeatReservationItem.probe(requestId, event.concertId, event.quantity)
+                        : new SeatReservationItem(requestId, event.concertId, event.quantity));
+                deadline = requested.isEmpty() ? event.deadline : later(deadline, event.deadline);
+                requested.add(event);
+            }
+
+            if (!requested.isEmpty()) {
+                reserve(deadline);
+            }
+
+            long now = System.nanoTime();
+            for (ReservationEvent event : batch) {
+                timer.record(event, now);
+            }
+        } finally {
+            items.clear();
+            requested.clear();
+            batch.clear();
+        }
+    }
+
+    private void reserve(Long deadline) {
+        List<SeatReservationResult> results;
+        // 파이프라인 스레드에는 요청 스레드의 마감 시각이 없으므로 묶음에서 가장 늦은 값을 실어 보낸다.
+        RequestDeadline.set(deadline);
+        try {
+            results = concertServiceClient.reserveSeatsBatch(items);
+        } catch (Exception e) {
+            log.error("묶음 좌석 예약 실패 - count: {}", requested.size(), e);
+            requested.forEach(event -> event.fail(e));
+            return;
+        } finally {
+            RequestDeadline.clear();
+        }
+
+        boolean[] reserved = new boolean[requested.size()];
+        for (SeatReservationResult result : results) {
+            if (result.isSuccess()) {
+                reserved[Integer.parseInt(result.getRequestId())] = true;
+            }
+        }
+        for (int i = 0; i < reserved.length; i++) {
+            if (reserved[i]) {
+                requested.get(i).seatsReserved = true;
+            } else {
+                requested.get(i).fail(new IllegalStateException("좌석 예매에 실패했습니다."));
+            }
+        }
+    }
+
+    private static Long later(Long a, Long b) {
+        if (a == null || b == null) {
+            return null;
+        }
+        return Math.max(a, b);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ticket.reservationservice.pipeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+// 앞 단계가 끝난 시점부터 이 단계가 끝날 때까지(대기 + 처리)를 단계별로 기록한다.
+class StageTimer {
+
+    static final String METRIC = "reservation.pipeline.stage.time";
+
+    private final Timer timer;
+
+    StageTimer(MeterRegistry meterRegistry, String stage) {
+        this.timer = Timer.builder(METRIC).tag("stage", stage).register(meterRegistry);
+    }
+
+    void record(ReservationEvent event, long now) {
+        timer.record(now - event.stageStartNanos, TimeUnit.NANOSECONDS);
+        event.stageStartNanos = now;
+    }
+}
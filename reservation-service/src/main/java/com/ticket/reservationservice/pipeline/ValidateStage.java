@@ -0,0 +1,30 @@
+package com.ticket.reservationservice.pipeline;
+
+import com.lmax.disruptor.EventHandler;
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import com.ticket.reservationservice.deadline.DeadlineGuard;
+
+class ValidateStage implements EventHandler<ReservationEvent> {
+
+    private final DeadlineGuard deadlineGuard;
+    private final StageTimer timer;
+
+    ValidateStage(DeadlineGuard deadlineGuard, StageTimer timer) {
+        this.deadlineGuard = deadlineGuard;
+        this.timer = timer;
+    }
+
+    @Override
+    public void onEvent(ReservationEvent event, long sequence, boolean endOfBatch) {
+        if (event.concertId == null) {
+            event.fail(new IllegalArgumentException("공연 ID는 필수입니다."));
+        } else if (event.quantity == null || event.quantity <= 0) {
+            event.fail(new IllegalArgumentException("예매 수량은 1 이상이어야 합니다."));
+        } else if (deadlineGuard.isExpired(event.deadline, "queue")) {
+            // 큐에서 대기하는 동안 클라이언트가 이미 포기했을 수 있다.
+            event.fail(new BusinessException(ErrorCode.DEADLINE_EXCEEDED));
+        }
+        timer.record(event, System.nanoTime());
+    }
+}
@@ -0,0 +1,42 @@
+package com.ticket.reservationservice.reactive;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider concertConnectionProvider(
+            @Value("${reservation.reactive.max-connections:1000}") int maxConnections,
+            @Value("${reservation.reactive.pending-acquire-max-count:10000}") int pendingAcquireMaxCount) {
+        return ConnectionProvider.builder("concert-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    // concert-service 이름을 Eureka 로 찾아 호출한다.
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder(
+            ConnectionProvider concertConnectionProvider,
+            @Value("${reservation.reactive.connect-timeout:1s}") Duration connectTimeout) {
+        HttpClient httpClient = HttpClient.create(concertConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
+        return WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+}
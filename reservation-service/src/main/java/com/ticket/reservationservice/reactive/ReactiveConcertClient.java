@@ -0,0 +1,90 @@
+package com.ticket.reservationservice.reactive;
+
+import com.ticket.common.deadline.RequestDeadline;
+import com.ticket.reservationservice.client.ConcertResponse;
+import com.ticket.reservationservice.client.SeatReservationItem;
+import com.ticket.reservationservice.client.SeatReservationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+// ConcertServiceClient(Feign) 의 논블로킹 버전. 예약/롤백과 목록 조회의 공연 정보 조회만 쓴다.
+@Component
+@Profile("reactive")
+@Slf4j
+public class ReactiveConcertClient {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+    private final int maxBatchSize;
+
+    public ReactiveConcertClient(WebClient.Builder loadBalancedWebClientBuilder,
+                                 @Value("${reservation.reactive.concert-timeout:2s}") Duration timeout,
+                                 @Value("${reservation.concert-loader.max-batch-size:200}") int maxBatchSize) {
+        this.webClient = loadBalancedWebClientBuilder.baseUrl("http://concert-service").build();
+        this.timeout = timeout;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    // ConcertLoader.loadAll 과 같다. 중복을 뺀 id 를 max-batch-size 단위로 GET /concerts?ids= 로 조회하고,
+    // 실패한 묶음은 빠진 채로(공연 정보 없이) 돌려준다.
+    public Mono<Map<Long, ConcertResponse>> getConcerts(Collection<Long> concertIds) {
+        List<Long> ids = concertIds.stream().filter(Objects::nonNull).distinct().toList();
+        return Flux.range(0, (ids.size() + maxBatchSize - 1) / maxBatchSize)
+                .map(chunk -> ids.subList(chunk * maxBatchSize, Math.min((chunk + 1) * maxBatchSize, ids.size())))
+                .concatMap(this::fetchConcerts)
+                .collectMap(ConcertResponse::getConcertId, Function.identity());
+    }
+
+    private Flux<ConcertResponse> fetchConcerts(List<Long> ids) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/concerts").queryParam("ids", ids).build())
+                .retrieve()
+                .bodyToFlux(ConcertResponse.class)
+                .timeout(timeout)
+                .onErrorResume(e -> {
+                    log.warn("공연 정보 일괄 조회 실패 - 공연 정보 없이 응답: ids: {}, {}", ids.size(), e.getMessage());
+                    return Flux.empty();
+                });
+    }
+
+    public Mono<Boolean> reserveSeats(Long concertId, Long quantity, Long deadline) {
+        return put("/concerts/{concertId}/reserve?quantity={quantity}", concertId, quantity, deadline);
+    }
+
+    // 보상 키를 실을 수 있는 묶음 롤백 API 로 한 건을 보낸다. 같은 키의 롤백은 concert-service 에서 한 번만 반영된다.
+    public Mono<Boolean> rollbackReserveSeats(Long concertId, Long quantity, String compensationKey) {
+        return webClient.put()
+                .uri("/concerts/batch/rollback")
+                .bodyValue(List.of(new SeatReservationItem("0", concertId, quantity, compensationKey)))
+                .retrieve()
+                .bodyToFlux(SeatReservationResult.class)
+                .any(SeatReservationResult::isSuccess)
+                .timeout(timeout);
+    }
+
+    private Mono<Boolean> put(String uri, Long concertId, Long quantity, Long deadline) {
+        return webClient.put()
+                .uri(uri, concertId, quantity)
+                .headers(headers -> {
+                    if (deadline != null) {
+                        headers.set(RequestDeadline.HEADER, String.valueOf(deadline));
+                    }
+                })
+                .retrieve()
+                .bodyToMono(Boolean.class)
+                .defaultIfEmpty(false)
+                .timeout(timeout);
+    }
+}
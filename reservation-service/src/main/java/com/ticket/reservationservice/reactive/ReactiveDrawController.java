@@ -0,0 +1,55 @@
+package com.ticket.reservationservice.reactive;
+
+import com.ticket.reservationservice.dto.DrawEntryRequest;
+import com.ticket.reservationservice.dto.DrawRequest;
+import com.ticket.reservationservice.dto.DrawResponse;
+import com.ticket.reservationservice.dto.DrawResultResponse;
+import com.ticket.reservationservice.draw.DrawService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// DrawController 와 같은 경로/응답. 추첨은 JPA/Redisson 을 쓰므로 boundedElastic 에서 실행한다.
+@RestController
+@RequestMapping("/draws")
+@Profile("reactive")
+public class ReactiveDrawController {
+
+    private final DrawService drawService;
+
+    public ReactiveDrawController(DrawService drawService) {
+        this.drawService = drawService;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<DrawResponse>> openDraw(
+            @RequestBody DrawRequest request,
+            @RequestHeader("X-User") String userEmail) {
+        return Mono.fromCallable(() -> new DrawResponse(
+                        drawService.open(request.getConcertId(), userEmail, request.getSeats(), request.getClosesAt())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @PostMapping("/{concertId}/entries")
+    public Mono<ResponseEntity<Void>> enter(
+            @PathVariable Long concertId,
+            @RequestBody DrawEntryRequest request,
+            @RequestHeader("X-User") String userEmail) {
+        return Mono.fromRunnable(() -> drawService.enter(concertId, userEmail, request.getQuantity()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.just(ResponseEntity.accepted().<Void>build()));
+    }
+
+    @GetMapping("/{concertId}/result")
+    public Mono<ResponseEntity<DrawResultResponse>> getResult(
+            @PathVariable Long concertId,
+            @RequestHeader("X-User") String userEmail) {
+        return Mono.fromCallable(() -> drawService.result(concertId, userEmail))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ticket.reservationservice.reactive;
+
+import com.ticket.common.deadline.RequestDeadline;
+import com.ticket.reservationservice.dto.ReservationRequest;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.export.ExportFormat;
+import com.ticket.reservationservice.export.ReservationExporter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+// ReservationController 와 같은 경로/응답. reactive 프로필에서만 등록된다.
+@RestController
+@RequestMapping("/reservations")
+@Profile("reactive")
+public class ReactiveReservationController {
+
+    private final ReactiveReservationService reservationService;
+    private final ReactiveConcertClient concertClient;
+    private final ReservationExporter reservationExporter;
+
+    public ReactiveReservationController(ReactiveReservationService reservationService,
+                                         ReactiveConcertClient concertClient,
+                                         ReservationExporter reservationExporter) {
+        this.reservationService = reservationService;
+        this.concertClient = concertClient;
+        this.reservationExporter = reservationExporter;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<ReservationResponse>> createReservation(
+            @RequestBody ReservationRequest request,
+            @RequestHeader("X-User") String userEmail,
+            @RequestHeader(value = RequestDeadline.HEADER, required = false) String deadline) {
+        return reservationService.createReservation(
+                        request.getConcertId(), userEmail, request.getQuantity(), RequestDeadline.parse(deadline))
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @DeleteMapping("/{reservationId}")
+    public Mono<ResponseEntity<Void>> cancelReservation(
+            @PathVariable Long reservationId,
+            @RequestHeader("X-User") String userEmail) {
+        return reservationService.cancelReservation(reservationId, userEmail)
+                .then(Mono.just(ResponseEntity.ok().<Void>build()));
+    }
+
+    @GetMapping("/user")
+    public Mono<ResponseEntity<List<ReservationResponse>>> getReservationsByUser(
+            @RequestHeader("X-User") String userEmail) {
+        // 목록 길이와 관계없이 공연 정보는 한 번에 조회해 붙인다.
+        return reservationService.findReservationsByUserEmail(userEmail).collectList()
+                .flatMap(reservations -> concertClient.getConcerts(
+                                reservations.stream().map(ReservationResponse::getConcertId).toList())
+                        .map(concerts -> reservations.stream()
+                                .map(reservation -> reservation.withConcert(concerts.get(reservation.getConcertId())))
+                                .toList()))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/concert/{concertId}")
+    public Mono<ResponseEntity<List<ReservationResponse>>> getReservationsByConcert(
+            @PathVariable Long concertId) {
+        return reservationService.findReservationsByConcertId(concertId).collectList().map(ResponseEntity::ok);
+    }
+
+    // ReservationController 와 같은 응답. 내보내기(JPA 커서)와 등록자 확인(Feign)은 블로킹이므로
+    // boundedElastic 에서 OutputStream 으로 쓰고, 쓴 만큼 DataBuffer 로 흘려보낸다.
+    @GetMapping("/concert/{concertId}/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportReservationsByConcert(
+            @PathVariable Long concertId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestHeader("X-User") String userEmail,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            ServerHttpResponse response) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        Flux<DataBuffer> body = Flux.from(DataBufferUtils.outputStreamPublisher(out -> {
+            try {
+                if (gzip) {
+                    GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                    reservationExporter.export(concertId, exportFormat, gzipOut);
+                    gzipOut.finish();
+                } else {
+                    reservationExporter.export(concertId, exportFormat, out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, response.bufferFactory(), task -> Schedulers.boundedElastic().schedule(task)));
+
+        return Mono.fromRunnable(() -> reservationExporter.authorize(concertId, userEmail))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.fromSupplier(() -> {
+                    ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                            .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reservations-"
+                                    + concertId + "." + exportFormat.getExtension() + "\"");
+                    if (gzip) {
+                        builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    }
+                    return builder.body(body);
+                }));
+    }
+}
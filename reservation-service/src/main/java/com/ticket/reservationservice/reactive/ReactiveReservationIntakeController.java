@@ -0,0 +1,82 @@
+package com.ticket.reservationservice.reactive;
+
+import com.ticket.reservationservice.dto.ReservationRequest;
+import com.ticket.reservationservice.intake.ReservationIntakeService;
+import com.ticket.reservationservice.intake.ReservationTicket;
+import com.ticket.reservationservice.intake.ReservationTicketStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.time.Duration;
+
+// ReservationIntakeController 와 같은 경로/응답. 롱폴링은 DeferredResult 대신 Mono 로 기다린다.
+@RestController
+@RequestMapping("/reservations")
+@ConditionalOnProperty(name = "reservation.intake.enabled", havingValue = "true")
+@Profile("reactive")
+public class ReactiveReservationIntakeController {
+
+    private final ReservationIntakeService intakeService;
+    private final ReservationTicketStore ticketStore;
+    private final long maxWaitMillis;
+
+    public ReactiveReservationIntakeController(ReservationIntakeService intakeService, ReservationTicketStore ticketStore,
+                                               @Value("${reservation.intake.max-wait:30s}") Duration maxWait) {
+        this.intakeService = intakeService;
+        this.ticketStore = ticketStore;
+        this.maxWaitMillis = maxWait.toMillis();
+    }
+
+    @PostMapping("/intake")
+    public Mono<ResponseEntity<ReservationTicket>> intake(
+            @RequestBody ReservationRequest request,
+            @RequestHeader("X-User") String userEmail) {
+        return Mono.fromCallable(() -> intakeService.accept(request.getConcertId(), userEmail, request.getQuantity()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ticket -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .location(URI.create("/reservations/tickets/" + ticket.getTicketId()))
+                        .body(ticket));
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    public Mono<ReservationTicket> getTicket(
+            @PathVariable String ticketId,
+            @RequestParam(defaultValue = "0") long waitMs,
+            @RequestHeader("X-User") String userEmail) {
+        long timeout = Math.min(Math.max(waitMs, 0), maxWaitMillis);
+        return findOwnTicket(ticketId, userEmail).flatMap(ticket -> {
+            if (!ticket.isPending() || timeout == 0) {
+                return Mono.just(ticket);
+            }
+            Mono<ReservationTicket> completed = Mono.create(sink -> {
+                Runnable unregister = ticketStore.await(ticketId, sink::success);
+                sink.onDispose(unregister::run);
+                // 등록 직전에 처리가 끝났을 수 있으므로 한 번 더 확인한다.
+                findOwnTicket(ticketId, userEmail)
+                        .filter(latest -> !latest.isPending())
+                        .subscribe(sink::success, sink::error);
+            });
+            return completed.timeout(Duration.ofMillis(timeout), findOwnTicket(ticketId, userEmail));
+        });
+    }
+
+    // 티켓 조회는 Redis(Redisson) 블로킹 호출이다.
+    private Mono<ReservationTicket> findOwnTicket(String ticketId, String userEmail) {
+        return Mono.fromCallable(() -> {
+                    ReservationTicket ticket = ticketStore.find(ticketId)
+                            .orElseThrow(() -> new IllegalArgumentException("접수 내역이 존재하지 않습니다."));
+                    if (!ticket.getUserEmail().equals(userEmail)) {
+                        throw new IllegalArgumentException("본인의 접수만 조회할 수 있습니다.");
+                    }
+                    return ticket;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,10 @@
+package com.ticket.reservationservice.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveReservationRepository extends R2dbcRepository<ReservationRow, Long> {
+    Flux<ReservationRow> findByUserEmail(String userEmail);
+
+    Flux<ReservationRow> findByConcertId(Long concertId);
+}
@@ -0,0 +1,152 @@
+package com.ticket.reservationservice.reactive;
+
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import com.ticket.common.id.SnowflakeIdGenerator;
+import com.ticket.reservationservice.availability.SoldOutConcerts;
+import com.ticket.reservationservice.draw.DrawConcerts;
+import com.ticket.reservationservice.deadline.DeadlineGuard;
+import com.ticket.reservationservice.domain.ReservationStatus;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.limit.PurchaseLimiter;
+import com.ticket.reservationservice.service.SeatCompensationService;
+import com.ticket.reservationservice.waitlist.SeatWaitlist;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+/**
+ * ReservationService 의 논블로킹 버전 (reactive 프로필).
+ * concert-service 호출은 WebClient, reservation 테이블은 R2DBC 로 처리해 요청당 스레드를 점유하지 않는다.
+ * 보상 큐(JPA)와 구매 한도(Redisson)는 그대로 쓰되 boundedElastic 에서 실행한다.
+ */
+@Service
+@Slf4j
+@Profile("reactive")
+public class ReactiveReservationService {
+
+    private final ReactiveReservationRepository reservationRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final ReactiveConcertClient concertClient;
+    private final SeatCompensationService seatCompensationService;
+    private final SeatWaitlist seatWaitlist;
+    private final SoldOutConcerts soldOutConcerts;
+    private final DrawConcerts drawConcerts;
+    private final PurchaseLimiter purchaseLimiter;
+    private final DeadlineGuard deadlineGuard;
+
+    public ReactiveReservationService(ReactiveReservationRepository reservationRepository,
+                                      R2dbcEntityTemplate entityTemplate,
+                                      ReactiveConcertClient concertClient,
+                                      SeatCompensationService seatCompensationService,
+                                      SeatWaitlist seatWaitlist,
+                                      SoldOutConcerts soldOutConcerts,
+                                      DrawConcerts drawConcerts,
+                                      PurchaseLimiter purchaseLimiter,
+                                      DeadlineGuard deadlineGuard) {
+        this.reservationRepository = reservationRepository;
+        this.entityTemplate = entityTemplate;
+        this.concertClient = concertClient;
+        this.seatCompensationService = seatCompensationService;
+        this.seatWaitlist = seatWaitlist;
+        this.soldOutConcerts = soldOutConcerts;
+        this.drawConcerts = drawConcerts;
+        this.purchaseLimiter = purchaseLimiter;
+        this.deadlineGuard = deadlineGuard;
+    }
+
+    public Mono<ReservationResponse> createReservation(Long concertId, String userEmail, Long quantity, Long deadline) {
+        if (soldOutConcerts.reject(concertId)) {
+            return Mono.error(new BusinessException(ErrorCode.SOLD_OUT));
+        }
+        if (drawConcerts.reject(concertId)) {
+            return Mono.error(new BusinessException(ErrorCode.DRAW_ONLY));
+        }
+        if (deadlineGuard.isExpired(deadline, "enqueue")) {
+            return Mono.error(new BusinessException(ErrorCode.DEADLINE_EXCEEDED));
+        }
+
+        // 한도 안에서 수량을 먼저 잡고, 이후 어느 단계에서 실패하든 돌려준다. (servlet 경로와 같다)
+        return blocking(() -> purchaseLimiter.acquire(userEmail, concertId, quantity))
+                .then(Mono.defer(() -> reserve(concertId, userEmail, quantity, deadline)
+                        .onErrorResume(e -> blocking(() -> purchaseLimiter.release(userEmail, concertId, quantity))
+                                .then(Mono.error(e)))));
+    }
+
+    private Mono<ReservationResponse> reserve(Long concertId, String userEmail, Long quantity, Long deadline) {
+        return concertClient.reserveSeats(concertId, quantity, deadline)
+                .flatMap(reserved -> {
+                    if (!reserved) {
+                        return Mono.error(new IllegalStateException("좌석 예매에 실패했습니다."));
+                    }
+                    // 마감이 지났으면 저장하지 않고 좌석을 되돌린다.
+                    if (deadlineGuard.isExpired(deadline, "db-write")) {
+                        return rollbackOrCompensate(concertId, quantity)
+                                .then(Mono.error(new BusinessException(ErrorCode.DEADLINE_EXCEEDED)));
+                    }
+
+                    ReservationRow row = ReservationRow.confirmed(
+                            SnowflakeIdGenerator.shared().nextId(), concertId, userEmail, quantity);
+                    return entityTemplate.insert(row)
+                            .map(ReservationRow::toResponse)
+                            .onErrorResume(e -> rollbackOrCompensate(concertId, quantity).then(Mono.error(e)));
+                });
+    }
+
+    public Mono<Void> cancelReservation(Long reservationId, String userEmail) {
+        return reservationRepository.findById(reservationId)
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("예매 내역이 존재하지 않습니다.")))
+                .flatMap(row -> {
+                    if (!row.getUserEmail().equals(userEmail)) {
+                        return Mono.error(new IllegalArgumentException("본인의 예매만 취소할 수 있습니다."));
+                    }
+                    if (row.getStatus() == ReservationStatus.CANCELLED) {
+                        return Mono.error(new IllegalStateException("이미 취소된 예매입니다."));
+                    }
+                    row.cancel(LocalDateTime.now());
+                    return reservationRepository.save(row);
+                })
+                // 좌석 반환은 보상 큐에 맡긴다. (취소 저장과 한 트랜잭션으로 묶이지는 않는다)
+                // 취소 대기자가 있으면 servlet 경로와 같이 풀에 돌려주지 않고 잡아 두었다가 대기자에게 배정한다.
+                // 구매 수량은 취소가 저장된 뒤에 돌려준다. (JPA 트랜잭션이 없으므로 바로 반환된다)
+                .flatMap(row -> blocking(() -> {
+                    if (seatWaitlist.hasWaiters(row.getConcertId())) {
+                        seatCompensationService.hold("cancel:" + reservationId, row.getConcertId(), row.getQuantity());
+                    } else {
+                        seatCompensationService.enqueue("cancel:" + reservationId, row.getConcertId(), row.getQuantity());
+                    }
+                    purchaseLimiter.releaseAfterCommit(userEmail, row.getConcertId(), row.getQuantity());
+                }));
+    }
+
+    public Flux<ReservationResponse> findReservationsByUserEmail(String userEmail) {
+        return reservationRepository.findByUserEmail(userEmail).map(ReservationRow::toResponse);
+    }
+
+    public Flux<ReservationResponse> findReservationsByConcertId(Long concertId) {
+        return reservationRepository.findByConcertId(concertId).map(ReservationRow::toResponse);
+    }
+
+    // servlet 경로와 같이 롤백과 보상에 같은 키를 쓴다.
+    private Mono<Void> rollbackOrCompensate(Long concertId, Long quantity) {
+        String compensationKey = SeatCompensationService.newRollbackKey();
+        return concertClient.rollbackReserveSeats(concertId, quantity, compensationKey)
+                .onErrorResume(e -> {
+                    log.warn("좌석 롤백 실패 - 보상 큐로 이관: concertId: {}, quantity: {}", concertId, quantity, e);
+                    return Mono.just(false);
+                })
+                .flatMap(rolledBack -> rolledBack
+                        ? Mono.<Void>empty()
+                        : blocking(() -> seatCompensationService.enqueueDetached(compensationKey, concertId, quantity)));
+    }
+
+    private static Mono<Void> blocking(Runnable task) {
+        return Mono.fromRunnable(task).subscribeOn(Schedulers.boundedElastic()).then();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ticket.reservationservice.reactive;
+
+import com.ticket.reservationservice.dto.WaitlistRequest;
+import com.ticket.reservationservice.dto.WaitlistResponse;
+import com.ticket.reservationservice.waitlist.WaitlistService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// WaitlistController 와 같은 경로/응답. 대기열은 Redisson 을 쓰므로 boundedElastic 에서 실행한다.
+@RestController
+@RequestMapping("/waitlist")
+@Profile("reactive")
+public class ReactiveWaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    public ReactiveWaitlistController(WaitlistService waitlistService) {
+        this.waitlistService = waitlistService;
+    }
+
+    @PostMapping("/{concertId}")
+    public Mono<ResponseEntity<WaitlistResponse>> join(
+            @PathVariable Long concertId,
+            @RequestBody WaitlistRequest request,
+            @RequestHeader("X-User") String userEmail) {
+        return Mono.fromCallable(() -> waitlistService.join(concertId, userEmail, request.getQuantity()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @DeleteMapping("/{concertId}")
+    public Mono<ResponseEntity<Void>> leave(
+            @PathVariable Long concertId,
+            @RequestHeader("X-User") String userEmail) {
+        return Mono.fromRunnable(() -> waitlistService.leave(concertId, userEmail))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.just(ResponseEntity.ok().<Void>build()));
+    }
+
+    @GetMapping("/{concertId}")
+    public Mono<ResponseEntity<WaitlistResponse>> getStatus(
+            @PathVariable Long concertId,
+            @RequestHeader("X-User") String userEmail) {
+        return Mono.fromCallable(() -> waitlistService.status(concertId, userEmail))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+}
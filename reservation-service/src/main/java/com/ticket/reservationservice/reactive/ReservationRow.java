@@ -0,0 +1,58 @@
+package com.ticket.reservationservice.reactive;
+
+import com.ticket.reservationservice.domain.ReservationStatus;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// R2DBC 용 reservation 테이블 매핑. 컬럼은 JPA 엔티티(Reservation)와 같다.
+@Getter
+@Table("reservation")
+public class ReservationRow {
+    @Id
+    private Long reservationId;
+    private Long concertId;
+    private String userEmail;
+    private Long quantity;
+    private ReservationStatus status;
+    private LocalDateTime reservedAt;
+    private LocalDateTime cancelledAt;
+
+    protected ReservationRow() {}
+
+    public ReservationRow(Long reservationId, Long concertId, String userEmail, Long quantity,
+                          ReservationStatus status, LocalDateTime reservedAt, LocalDateTime cancelledAt) {
+        this.reservationId = reservationId;
+        this.concertId = concertId;
+        this.userEmail = userEmail;
+        this.quantity = quantity;
+        this.status = status;
+        this.reservedAt = reservedAt;
+        this.cancelledAt = cancelledAt;
+    }
+
+    public static ReservationRow confirmed(Long reservationId, Long concertId, String userEmail, Long quantity) {
+        return new ReservationRow(reservationId, concertId, userEmail, quantity,
+                ReservationStatus.CONFIRMED, LocalDateTime.now(), null);
+    }
+
+    public void cancel(LocalDateTime cancelledAt) {
+        this.status = ReservationStatus.CANCELLED;
+        this.cancelledAt = cancelledAt;
+    }
+
+    public ReservationResponse toResponse() {
+        return ReservationResponse.builder()
+                .reservationId(reservationId)
+                .concertId(concertId)
+                .userEmail(userEmail)
+                .quantity(quantity)
+                .status(status)
+                .reservedAt(reservedAt)
+                .cancelledAt(cancelledAt)
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.ticket.reservationservice.reconcile;
+
+import com.ticket.reservationservice.client.ConcertInventory;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.domain.CompensationStatus;
+import com.ticket.reservationservice.repository.ConcertQuantitySum;
+import com.ticket.reservationservice.repository.SeatCompensationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공연 잔여 좌석(concert-service)과 예매 누계(reservation-service)의 정합성 점검.
+ * 체크포인트 이후 구간만 읽어 누계를 갱신하고, 이번에 바뀐 공연과 이전에 차이가 있던 공연만 대조한다.
+ * 기대 잔여 좌석 = 전체 좌석 - 예매 누계 - 아직 돌려주지 못한 보상 좌석(대기자 배정용으로 잡아 둔 좌석 포함).
+ * 같은 차이가 두 번 연속 보이고 그 사이 예매가 없었다면 실제 누수로 보고, auto-repair 가 켜져 있으면 잔여 좌석을 보정한다.
+ */
+@Component
+@Slf4j
+public class InventoryReconciler {
+
+    private static final String LOCK_KEY = "reservation:reconciliation";
+    private static final int COMPARE_CHUNK = 200;
+    private static final int REPAIR_AFTER_RUNS = 2;
+
+    private final ReservationScanner scanner;
+    private final ReconciliationLedger ledger;
+    private final SeatCompensationRepository compensationRepository;
+    private final ConcertServiceClient concertServiceClient;
+    private final RedissonClient redissonClient;
+    private final Duration lag;
+    private final Duration maxWindow;
+    private final boolean autoRepair;
+    private final Timer runTimer;
+    private final Counter scannedRows;
+    private final Counter flaggedCounter;
+    private final Counter repairedCounter;
+    private final AtomicLong drifted = new AtomicLong();
+
+    public InventoryReconciler(ReservationScanner scanner,
+                               ReconciliationLedger ledger,
+                               SeatCompensationRepository compensationRepository,
+                               ConcertServiceClient concertServiceClient,
+                               RedissonClient redissonClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${reservation.reconciliation.lag:30s}") Duration lag,
+                               @Value("${reservation.reconciliation.max-window:6h}") Duration maxWindow,
+                               @Value("${reservation.reconciliation.auto-repair:false}") boolean autoRepair) {
+        this.scanner = scanner;
+        this.ledger = ledger;
+        this.compensationRepository = compensationRepository;
+        this.concertServiceClient = concertServiceClient;
+        this.redissonClient = redissonClient;
+        this.lag = lag;
+        this.maxWindow = maxWindow;
+        this.autoRepair = autoRepair;
+        this.runTimer = meterRegistry.timer("reservation.reconciliation.time");
+        this.scannedRows = meterRegistry.counter("reservation.reconciliation.scanned-rows");
+        this.flaggedCounter = meterRegistry.counter("reservation.reconciliation.drift", "action", "flagged");
+        this.repairedCounter = meterRegistry.counter("reservation.reconciliation.drift", "action", "repaired");
+        Gauge.builder("reservation.reconciliation.drifted", drifted, AtomicLong::get).register(meterRegistry);
+    }
+
+    // 여러 인스턴스 중 한 곳에서만 돈다.
+    @Scheduled(fixedDelayString = "${reservation.reconciliation.interval:PT1M}")
+    public void scheduledRun() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            runTimer.record(this::run);
+        } catch (Exception e) {
+            log.error("정합성 점검 실패", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    void run() {
+        // 커밋이 늦은 예매를 놓치지 않도록 lag 만큼 뒤까지만 읽는다.
+        LocalDateTime horizon = LocalDateTime.now().minus(lag);
+        LocalDateTime from = ledger.watermark();
+        if (from == null || !from.isBefore(horizon)) {
+            return;
+        }
+        LocalDateTime to = from.plus(maxWindow).isBefore(horizon) ? from.plus(maxWindow) : horizon;
+
+        ReservationScanner.ScanResult result = scanner.scan(from, to);
+        ledger.advance(to, result.deltas());
+        scannedRows.increment(result.scannedRows());
+        log.debug("정합성 점검 구간 반영 - from: {}, to: {}, concerts: {}, rows: {}",
+                from, to, result.deltas().size(), result.scannedRows());
+
+        // 따라잡는 중에는 누계가 아직 불완전하므로 대조하지 않는다.
+        if (to.equals(horizon)) {
+            // lag 구간(체크포인트 이후 ~ 지금)은 누계에 넣지 않고 이번 대조에만 더한다.
+            ReservationScanner.ScanResult tail = scanner.scan(horizon, LocalDateTime.now().plusMinutes(1));
+            scannedRows.increment(tail.scannedRows());
+            compare(result.deltas().keySet(), tail.deltas());
+        }
+    }
+
+    private void compare(Set<Long> touched, Map<Long, Long> tail) {
+        Set<Long> targets = new LinkedHashSet<>(touched);
+        targets.addAll(ledger.driftedConcertIds());
+
+        long driftedNow = 0;
+        List<Long> ids = new ArrayList<>(targets);
+        for (int i = 0; i < ids.size(); i += COMPARE_CHUNK) {
+            driftedNow += compareChunk(ids.subList(i, Math.min(ids.size(), i + COMPARE_CHUNK)), tail);
+        }
+        drifted.set(driftedNow);
+    }
+
+    private long compareChunk(List<Long> concertIds, Map<Long, Long> tail) {
+        Map<Long, Long> reserved = ledger.reservedTotals(concertIds);
+        Map<Long, Long> pending = new HashMap<>();
+        for (ConcertQuantitySum sum : compensationRepository.sumByConcert(CompensationStatus.PENDING, concertIds)) {
+            pending.put(sum.getConcertId(), sum.getQuantity());
+        }
+        // 취소 대기자에게 넘기려고 잡아 둔 좌석도 아직 풀에 없다.
+        for (ConcertQuantitySum sum : compensationRepository.sumByConcert(CompensationStatus.HELD, concertIds)) {
+            pending.merge(sum.getConcertId(), sum.getQuantity(), Long::sum);
+        }
+
+        Map<Long, Long> drifts = new HashMap<>();
+        for (ConcertInventory inventory : concertServiceClient.getInventories(concertIds)) {
+            // 전체 좌석 수가 없는 이전 공연은 대조할 기준이 없다.
+            if (inventory.getCapacity() == null || !reserved.containsKey(inventory.getConcertId())) {
+                continue;
+            }
+            long expected = inventory.getCapacity() - reserved.get(inventory.getConcertId())
+                    - tail.getOrDefault(inventory.getConcertId(), 0L)
+                    - pending.getOrDefault(inventory.getConcertId(), 0L);
+            drifts.put(inventory.getConcertId(), inventory.getRemaining() - expected);
+        }
+
+        long driftedCount = 0;
+        for (Map.Entry<Long, Integer> entry : ledger.recordDrifts(drifts).entrySet()) {
+            Long concertId = entry.getKey();
+            long drift = drifts.get(concertId);
+            if (drift == 0) {
+                continue;
+            }
+            // 진행 중인 예매가 있는 공연은 보정하지 않는다. (좌석은 잡혔지만 예매 행이 아직 커밋되지 않았을 수 있다)
+            boolean quiet = !tail.containsKey(concertId);
+            if (entry.getValue() >= REPAIR_AFTER_RUNS && autoRepair && quiet && repair(concertId, drift)) {
+                continue;
+            }
+            driftedCount++;
+            flaggedCounter.increment();
+            log.warn("좌석 정합성 불일치 - concertId: {}, 차이: {}, 연속: {}", concertId, drift, entry.getValue());
+        }
+        return driftedCount;
+    }
+
+    private boolean repair(Long concertId, long drift) {
+        try {
+            if (!concertServiceClient.adjustSeats(concertId, -drift)) {
+                return false;
+            }
+        } catch (Exception e) {
+            log.warn("좌석 보정 호출 실패 - concertId: {}, reason: {}", concertId, e.getMessage());
+            return false;
+        }
+        ledger.markRepaired(concertId);
+        repairedCounter.increment();
+        log.warn("좌석 정합성 보정 - concertId: {}, 차이: {}", concertId, drift);
+        return true;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ticket.reservationservice.reconcile;
+
+import com.ticket.reservationservice.domain.ConcertSeatLedger;
+import com.ticket.reservationservice.domain.ReconciliationCheckpoint;
+import com.ticket.reservationservice.repository.ConcertSeatLedgerRepository;
+import com.ticket.reservationservice.repository.ReconciliationCheckpointRepository;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 공연별 누계와 체크포인트를 한 트랜잭션으로 함께 옮겨, 같은 구간이 두 번 더해지지 않게 한다.
+@Component
+public class ReconciliationLedger {
+
+    static final String CHECKPOINT = "reservation-inventory";
+
+    private final ConcertSeatLedgerRepository ledgerRepository;
+    private final ReconciliationCheckpointRepository checkpointRepository;
+    private final ReservationRepository reservationRepository;
+
+    public ReconciliationLedger(ConcertSeatLedgerRepository ledgerRepository,
+                                ReconciliationCheckpointRepository checkpointRepository,
+                                ReservationRepository reservationRepository) {
+        this.ledgerRepository = ledgerRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.reservationRepository = reservationRepository;
+    }
+
+    // 처음 실행이면 가장 오래된 예매부터 시작한다. 예매가 없으면 null.
+    @Transactional(readOnly = true)
+    public LocalDateTime watermark() {
+        return checkpointRepository.findById(CHECKPOINT)
+                .map(ReconciliationCheckpoint::getWatermark)
+                .orElseGet(reservationRepository::findEarliestReservedAt);
+    }
+
+    @Transactional
+    public void advance(LocalDateTime to, Map<Long, Long> deltas) {
+        Map<Long, ConcertSeatLedger> ledgers = load(deltas.keySet());
+        deltas.forEach((concertId, delta) ->
+                ledgers.computeIfAbsent(concertId, ConcertSeatLedger::new).apply(delta));
+        ledgerRepository.saveAll(ledgers.values());
+
+        ReconciliationCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT)
+                .orElseGet(() -> new ReconciliationCheckpoint(CHECKPOINT, to));
+        checkpoint.advance(to);
+        checkpointRepository.save(checkpoint);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> driftedConcertIds() {
+        return ledgerRepository.findDriftedConcertIds();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Long> reservedTotals(Collection<Long> concertIds) {
+        Map<Long, Long> totals = new HashMap<>();
+        load(concertIds).forEach((concertId, ledger) -> totals.put(concertId, ledger.getReservedQuantity()));
+        return totals;
+    }
+
+    // 공연별로 이번에 관측한 차이를 기록하고, 같은 차이가 연속으로 관측된 횟수를 돌려준다.
+    @Transactional
+    public Map<Long, Integer> recordDrifts(Map<Long, Long> drifts) {
+        Map<Long, ConcertSeatLedger> ledgers = load(drifts.keySet());
+        Map<Long, Integer> runs = new HashMap<>();
+        drifts.forEach((concertId, drift) -> {
+            ConcertSeatLedger ledger = ledgers.get(concertId);
+            if (ledger != null) {
+                runs.put(concertId, ledger.recordDrift(drift));
+            }
+        });
+        return runs;
+    }
+
+    @Transactional
+    public void markRepaired(Long concertId) {
+        ledgerRepository.findById(concertId).ifPresent(ConcertSeatLedger::clearDrift);
+    }
+
+    private Map<Long, ConcertSeatLedger> load(Collection<Long> concertIds) {
+        return ledgerRepository.findAllById(concertIds).stream()
+                .collect(Collectors.toMap(ConcertSeatLedger::getConcertId, Function.identity()));
+    }
+}
@@ -0,0 +1,99 @@
+package com.ticket.reservationservice.reconcile;
+
+import com.ticket.reservationservice.domain.ReservationStatus;
+import com.ticket.reservationservice.repository.ConcertIdRange;
+import com.ticket.reservationservice.repository.ConcertQuantitySum;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * [from, to) 구간에 예매/취소된 행을 공연 ID 범위로 나눠 병렬로 집계한다.
+ * 공연별 순변화량(예매 - 취소)과 읽은 행 수를 돌려준다.
+ */
+@Component
+public class ReservationScanner {
+
+    private final ReservationRepository reservationRepository;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    public ReservationScanner(ReservationRepository reservationRepository,
+                              @Value("${reservation.reconciliation.parallelism:4}") int parallelism) {
+        this.reservationRepository = reservationRepository;
+        this.parallelism = Math.max(1, parallelism);
+        this.executor = Executors.newFixedThreadPool(this.parallelism, new CustomizableThreadFactory("reconcile-"));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public ScanResult scan(LocalDateTime from, LocalDateTime to) {
+        Long low = null;
+        Long high = null;
+        for (ConcertIdRange range : List.of(reservationRepository.findReservedConcertRange(from, to),
+                reservationRepository.findCancelledConcertRange(from, to))) {
+            if (range == null || range.getLow() == null) {
+                continue;
+            }
+            low = low == null ? range.getLow() : Math.min(low, range.getLow());
+            high = high == null ? range.getHigh() : Math.max(high, range.getHigh());
+        }
+        if (low == null) {
+            return new ScanResult(Map.of(), 0);
+        }
+
+        List<CompletableFuture<ScanResult>> futures = new ArrayList<>(parallelism);
+        for (long[] range : split(low, high, parallelism)) {
+            futures.add(CompletableFuture.supplyAsync(() -> scanRange(from, to, range[0], range[1]), executor));
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        long scannedRows = 0;
+        for (CompletableFuture<ScanResult> future : futures) {
+            ScanResult partial = future.join();
+            partial.deltas().forEach((concertId, delta) -> deltas.merge(concertId, delta, Long::sum));
+            scannedRows += partial.scannedRows();
+        }
+        return new ScanResult(deltas, scannedRows);
+    }
+
+    private ScanResult scanRange(LocalDateTime from, LocalDateTime to, long low, long high) {
+        Map<Long, Long> deltas = new HashMap<>();
+        long scannedRows = 0;
+        for (ConcertQuantitySum sum : reservationRepository.sumReserved(from, to, ReservationStatus.PENDING, low, high)) {
+            deltas.merge(sum.getConcertId(), sum.getQuantity(), Long::sum);
+            scannedRows += sum.getRowCount();
+        }
+        for (ConcertQuantitySum sum : reservationRepository.sumCancelled(from, to, ReservationStatus.CANCELLED, low, high)) {
+            deltas.merge(sum.getConcertId(), -sum.getQuantity(), Long::sum);
+            scannedRows += sum.getRowCount();
+        }
+        return new ScanResult(deltas, scannedRows);
+    }
+
+    static List<long[]> split(long low, long high, int parts) {
+        long step = (high - low) / parts + 1;
+        List<long[]> ranges = new ArrayList<>(parts);
+        for (long start = low; start <= high; start += step) {
+            ranges.add(new long[]{start, Math.min(high, start + step - 1)});
+        }
+        return ranges;
+    }
+
+    public record ScanResult(Map<Long, Long> deltas, long scannedRows) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.ticket.reservationservice.repository;
+
+import com.ticket.reservationservice.domain.ConcertDraw;
+import com.ticket.reservationservice.domain.DrawStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ConcertDrawRepository extends JpaRepository<ConcertDraw, Long> {
+    List<ConcertDraw> findByStatusIn(Collection<DrawStatus> statuses);
+
+    List<ConcertDraw> findByStatusInAndClosesAtLessThanEqual(Collection<DrawStatus> statuses, LocalDateTime closesAt);
+}
@@ -0,0 +1,7 @@
+package com.ticket.reservationservice.repository;
+
+public interface ConcertIdRange {
+    Long getLow();
+
+    Long getHigh();
+}
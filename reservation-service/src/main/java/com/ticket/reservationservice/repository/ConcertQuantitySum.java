@@ -0,0 +1,10 @@
+package com.ticket.reservationservice.repository;
+
+// 공연별 수량 합계 조회 결과
+public interface ConcertQuantitySum {
+    Long getConcertId();
+
+    Long getQuantity();
+
+    Long getRowCount();
+}
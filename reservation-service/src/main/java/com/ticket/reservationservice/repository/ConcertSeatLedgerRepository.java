@@ -0,0 +1,12 @@
+package com.ticket.reservationservice.repository;
+
+import com.ticket.reservationservice.domain.ConcertSeatLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ConcertSeatLedgerRepository extends JpaRepository<ConcertSeatLedger, Long> {
+    @Query("select l.concertId from ConcertSeatLedger l where l.driftRuns > 0")
+    List<Long> findDriftedConcertIds();
+}
@@ -0,0 +1,7 @@
+package com.ticket.reservationservice.repository;
+
+import com.ticket.reservationservice.domain.ReconciliationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReconciliationCheckpointRepository extends JpaRepository<ReconciliationCheckpoint, String> {
+}
@@ -1,11 +1,48 @@
 package com.ticket.reservationservice.repository;
 
 import com.ticket.reservationservice.domain.Reservation;
+import com.ticket.reservationservice.domain.ReservationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationStreamRepository {
     List<Reservation> findByUserEmail(String userEmail);
     List<Reservation> findByConcertId(Long concertId);
-}
\ No newline at end of file
+
+    // 구매 한도 카운터를 처음 채울 때만 쓴다. (userEmail, concertId) 인덱스
+    @Query("select coalesce(sum(r.quantity), 0) from Reservation r " +
+            "where r.userEmail = :userEmail and r.concertId = :concertId and r.status <> :excluded")
+    long sumQuantityByUserAndConcert(@Param("userEmail") String userEmail, @Param("concertId") Long concertId,
+                                     @Param("excluded") ReservationStatus excluded);
+
+    @Query("select min(r.reservedAt) from Reservation r")
+    LocalDateTime findEarliestReservedAt();
+
+    // 정합성 점검용 구간 집계. reservedAt/cancelledAt 인덱스로 구간만 읽는다.
+    @Query("select min(r.concertId) as low, max(r.concertId) as high from Reservation r " +
+            "where r.reservedAt >= :from and r.reservedAt < :to")
+    ConcertIdRange findReservedConcertRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select min(r.concertId) as low, max(r.concertId) as high from Reservation r " +
+            "where r.cancelledAt >= :from and r.cancelledAt < :to")
+    ConcertIdRange findCancelledConcertRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 취소된 예매도 예매 시점에는 좌석을 차지했으므로 함께 더하고, 취소분은 취소 시점 구간에서 뺀다.
+    @Query("select r.concertId as concertId, sum(r.quantity) as quantity, count(r) as rowCount from Reservation r " +
+            "where r.reservedAt >= :from and r.reservedAt < :to and r.status <> :excluded " +
+            "and r.concertId between :low and :high group by r.concertId")
+    List<ConcertQuantitySum> sumReserved(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                         @Param("excluded") ReservationStatus excluded,
+                                         @Param("low") Long low, @Param("high") Long high);
+
+    @Query("select r.concertId as concertId, sum(r.quantity) as quantity, count(r) as rowCount from Reservation r " +
+            "where r.cancelledAt >= :from and r.cancelledAt < :to and r.status = :status " +
+            "and r.concertId between :low and :high group by r.concertId")
+    List<ConcertQuantitySum> sumCancelled(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                          @Param("status") ReservationStatus status,
+                                          @Param("low") Long low, @Param("high") Long high);
+}
@@ -0,0 +1,12 @@
+package com.ticket.reservationservice.repository;
+
+import com.ticket.reservationservice.domain.Reservation;
+
+import java.util.stream.Stream;
+
+public interface ReservationStreamRepository {
+
+    // 내보내기용 커서. 트랜잭션 안에서만 열 수 있고, 다 읽은 뒤 닫아야 한다.
+    // 스트림이 열려 있는 동안 같은 커넥션으로 다른 쿼리를 보낼 수 없다.
+    Stream<Reservation> streamByConcertId(Long concertId);
+}
@@ -0,0 +1,51 @@
+package com.ticket.reservationservice.repository;
+
+import com.ticket.reservationservice.domain.Reservation;
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+/**
+ * 행 단위 스트리밍 fetch size 는 드라이버마다 다르므로 dialect 를 보고 이 쿼리에만 건다.
+ * MySQL 드라이버는 useCursorFetch 없이는 양수 fetch size 를 무시하고 결과를 전부 읽으므로 Integer.MIN_VALUE(스트리밍 모드)를 쓰고,
+ * 나머지 드라이버(H2, MariaDB 등)는 음수 fetch size 를 거부하므로 fetch-size 만큼씩 읽는다.
+ */
+public class ReservationStreamRepositoryImpl implements ReservationStreamRepository {
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+    private volatile Integer streamingFetchSize;
+
+    public ReservationStreamRepositoryImpl(EntityManager entityManager,
+                                           @Value("${reservation.export.fetch-size:1000}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<Reservation> streamByConcertId(Long concertId) {
+        return entityManager.createQuery(
+                        "select r from Reservation r where r.concertId = :concertId order by r.reservationId", Reservation.class)
+                .setParameter("concertId", concertId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamingFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    int streamingFetchSize() {
+        Integer resolved = streamingFetchSize;
+        if (resolved == null) {
+            Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect();
+            resolved = dialect instanceof MySQLDialect && !(dialect instanceof MariaDBDialect) ? Integer.MIN_VALUE : fetchSize;
+            streamingFetchSize = resolved;
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ticket.reservationservice.repository;
+
+import com.ticket.reservationservice.domain.CompensationStatus;
+import com.ticket.reservationservice.domain.SeatCompensation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SeatCompensationRepository extends JpaRepository<SeatCompensation, Long> {
+    boolean existsByCompensationKey(String compensationKey);
+
+    long countByStatus(CompensationStatus status);
+
+    // 여러 인스턴스가 같은 보상을 동시에 처리하지 않도록 다른 트랜잭션이 잡은 행은 건너뛴다. (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select c from SeatCompensation c where c.status = :status and c.nextAttemptAt <= :now order by c.nextAttemptAt")
+    List<SeatCompensation> findDueForUpdate(@Param("status") CompensationStatus status,
+                                            @Param("now") LocalDateTime now,
+                                            Pageable pageable);
+
+    @Query("select distinct c.concertId from SeatCompensation c where c.status = :status")
+    List<Long> findConcertIdsByStatus(@Param("status") CompensationStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select c from SeatCompensation c where c.concertId = :concertId and c.status = :status order by c.createdAt")
+    List<SeatCompensation> findByConcertForUpdate(@Param("concertId") Long concertId,
+                                                  @Param("status") CompensationStatus status);
+
+    // 아직 concert-service 에 돌려주지 못한 좌석. 정합성 점검에서 기대 잔여 좌석을 계산할 때 뺀다.
+    @Query("select c.concertId as concertId, sum(c.quantity) as quantity, count(c) as rowCount from SeatCompensation c " +
+            "where c.status = :status and c.concertId in :concertIds group by c.concertId")
+    List<ConcertQuantitySum> sumByConcert(@Param("status") CompensationStatus status,
+                                          @Param("concertIds") Collection<Long> concertIds);
+}
@@ -1,17 +1,27 @@
 package com.ticket.reservationservice.service;
 
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import com.ticket.reservationservice.availability.SoldOutConcerts;
+import com.ticket.reservationservice.cache.ReservationListCache;
+import com.ticket.reservationservice.client.ConcertSeatBatcher;
 import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.deadline.DeadlineGuard;
 import com.ticket.reservationservice.domain.Reservation;
 import com.ticket.reservationservice.domain.ReservationStatus;
+import com.ticket.reservationservice.draw.DrawConcerts;
+import com.ticket.reservationservice.limit.PurchaseLimiter;
 import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.pipeline.ReservationPipeline;
 import com.ticket.reservationservice.repository.ReservationRepository;
+import com.ticket.reservationservice.waitlist.SeatWaitlist;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 @Service
@@ -21,47 +31,125 @@ public class ReservationService {
 
     private final ReservationRepository reservationRepository;
     private final ConcertServiceClient concertServiceClient;
-
-    public ReservationService(ReservationRepository reservationRepository, ConcertServiceClient concertServiceClient) {
+    private final DeadlineGuard deadlineGuard;
+    private final ReservationPipeline reservationPipeline;
+    private final ConcertSeatBatcher seatBatcher;
+    private final SeatCompensationService seatCompensationService;
+    private final SoldOutConcerts soldOutConcerts;
+    private final ReservationListCache reservationListCache;
+    private final PurchaseLimiter purchaseLimiter;
+    private final DrawConcerts drawConcerts;
+    private final SeatWaitlist seatWaitlist;
+
+    public ReservationService(ReservationRepository reservationRepository, ConcertServiceClient concertServiceClient,
+                              DeadlineGuard deadlineGuard, ReservationPipeline reservationPipeline,
+                              ConcertSeatBatcher seatBatcher, SeatCompensationService seatCompensationService,
+                              SoldOutConcerts soldOutConcerts, ReservationListCache reservationListCache,
+                              PurchaseLimiter purchaseLimiter, DrawConcerts drawConcerts,
+                              SeatWaitlist seatWaitlist) {
         this.reservationRepository = reservationRepository;
         this.concertServiceClient = concertServiceClient;
+        this.deadlineGuard = deadlineGuard;
+        this.reservationPipeline = reservationPipeline;
+        this.seatBatcher = seatBatcher;
+        this.seatCompensationService = seatCompensationService;
+        this.soldOutConcerts = soldOutConcerts;
+        this.reservationListCache = reservationListCache;
+        this.purchaseLimiter = purchaseLimiter;
+        this.drawConcerts = drawConcerts;
+        this.seatWaitlist = seatWaitlist;
     }
 
-    @Async("reservationTaskExecutor")
+    // 예매 생성은 링 버퍼 파이프라인에 넣고 바로 반환한다. (좌석 예약/저장은 파이프라인이 묶어서 처리)
     public CompletableFuture<ReservationResponse> createReservationAsync(Long concertId, String userEmail, Long quantity) {
+        // 매진 공연은 파이프라인에 넣지 않고 바로 거절한다.
+        if (soldOutConcerts.reject(concertId)) {
+            return CompletableFuture.failedFuture(new BusinessException(ErrorCode.SOLD_OUT));
+        }
+        // 추첨 공연은 응모(/draws)로만 받는다.
+        if (drawConcerts.reject(concertId)) {
+            return CompletableFuture.failedFuture(new BusinessException(ErrorCode.DRAW_ONLY));
+        }
         try {
-            ReservationResponse response = createReservation(concertId, userEmail, quantity);
-            return CompletableFuture.completedFuture(response);
-        } catch (Exception e) {
-            CompletableFuture<ReservationResponse> future = new CompletableFuture<>();
-            future.completeExceptionally(e);
-            return future;
+            purchaseLimiter.acquire(userEmail, concertId, quantity);
+        } catch (BusinessException e) {
+            return CompletableFuture.failedFuture(e);
         }
+
+        // 파이프라인에서 실패하면 잡아 둔 구매 수량을 돌려준다.
+        return reservationPipeline.submit(concertId, userEmail, quantity)
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        purchaseLimiter.release(userEmail, concertId, quantity);
+                    }
+                });
+    }
+
+    // 판매 시작 전 예열. 차단 목록, 구매 한도 카운터, 파이프라인, 묶음 예약 호출, 공연 락까지 실제 예매와 같은 경로를 돌린다.
+    // concert-service 는 좌석을 바꾸지 않고, 저장하지 않으며, 예열 사용자의 카운터는 끝나면 지운다.
+    public CompletableFuture<ReservationResponse> probeReservation(Long concertId, String probeUser) {
+        soldOutConcerts.isSoldOut(concertId);
+        drawConcerts.isDrawConcert(concertId);
+        try {
+            purchaseLimiter.acquire(probeUser, concertId, 1L);
+        } catch (BusinessException e) {
+            // 동시에 보낸 예열 요청끼리 한도에 걸릴 수 있다. 한도 확인 경로는 이미 돌았으므로 그대로 진행한다.
+            log.debug("예열 구매 한도 초과 - concertId: {}", concertId);
+        }
+        return reservationPipeline.submitProbe(concertId, probeUser, 1L)
+                .whenComplete((response, e) -> purchaseLimiter.forgetAfterCommit(concertId, List.of(probeUser)));
     }
 
     public ReservationResponse createReservation(Long concertId, String userEmail, Long quantity) {
+        if (soldOutConcerts.reject(concertId)) {
+            throw new BusinessException(ErrorCode.SOLD_OUT);
+        }
+        if (drawConcerts.reject(concertId)) {
+            throw new BusinessException(ErrorCode.DRAW_ONLY);
+        }
+        purchaseLimiter.acquire(userEmail, concertId, quantity);
+
         boolean seatsReserved = false;
         try {
-
-            seatsReserved = concertServiceClient.reserveSeats(concertId, quantity);
+            deadlineGuard.check("reserve-call");
+            seatsReserved = seatBatcher.reserveSeats(concertId, quantity);
             if (!seatsReserved) {
                 throw new IllegalStateException("좌석 예매에 실패했습니다.");
             }
 
+            // 마감이 지났으면 저장하지 않고 좌석을 되돌린다.
+            deadlineGuard.check("db-write");
+
             // 예매 정보 생성
             Reservation reservation = Reservation.createReservation(concertId, userEmail, quantity);
             reservation.confirmReservation();
-            return new ReservationResponse(reservationRepository.save(reservation));
+            // Snowflake id 는 INSERT 를 커밋 시점까지 미루므로, 저장 실패가 아래 catch 에서 좌석/구매 한도를 되돌리도록 바로 flush 한다.
+            ReservationResponse response = new ReservationResponse(reservationRepository.saveAndFlush(reservation));
+            reservationListCache.onSaved(response);
+            return response;
 
         } catch (Exception e) {
             // 롤백 처리
             if (seatsReserved) {
-                concertServiceClient.rollbackReserveSeats(concertId, quantity);
+                rollbackOrCompensate(concertId, quantity);
             }
+            purchaseLimiter.release(userEmail, concertId, quantity);
             throw e;
         }
     }
 
+    // 바로 되돌리지 못한 좌석은 같은 보상 키로 보상 큐에 남겨 재시도한다. (시간 초과된 롤백이 반영됐어도 두 번 더하지 않는다)
+    private void rollbackOrCompensate(Long concertId, Long quantity) {
+        String compensationKey = SeatCompensationService.newRollbackKey();
+        try {
+            if (seatBatcher.rollbackReserveSeats(concertId, quantity, compensationKey)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("좌석 롤백 실패 - 보상 큐로 이관: concertId: {}, quantity: {}", concertId, quantity, e);
+        }
+        seatCompensationService.enqueueDetached(compensationKey, concertId, quantity);
+    }
 
     public void cancelReservation(Long reservationId, String userEmail) {
         Reservation reservation = reservationRepository.findById(reservationId)
@@ -75,29 +163,35 @@ public class ReservationService {
             throw new IllegalStateException("이미 취소된 예매입니다.");
         }
 
-        // 좌석 롤백
-        boolean rollbackSuccess = concertServiceClient.rollbackReserveSeats(
-                reservation.getConcertId(),
-                reservation.getQuantity()
-        );
-
-        if (!rollbackSuccess) {
-            throw new IllegalStateException("좌석 취소에 실패했습니다.");
-        }
-
         reservation.cancelReservation(LocalDateTime.now());
         reservationRepository.save(reservation);
+        reservationListCache.onSaved(new ReservationResponse(reservation));
+        purchaseLimiter.releaseAfterCommit(userEmail, reservation.getConcertId(), reservation.getQuantity());
+
+        // 좌석 반환은 취소와 같은 트랜잭션으로 보상 큐에 기록하고, 실제 롤백은 비동기로 처리한다.
+        // 취소 대기자가 있으면 풀에 돌려주지 않고 잡아 두었다가 대기자에게 모아서 배정한다.
+        if (seatWaitlist.hasWaiters(reservation.getConcertId())) {
+            seatCompensationService.hold("cancel:" + reservationId,
+                    reservation.getConcertId(), reservation.getQuantity());
+        } else {
+            seatCompensationService.enqueue("cancel:" + reservationId,
+                    reservation.getConcertId(), reservation.getQuantity());
+        }
     }
 
+    @Transactional(readOnly = true)
     public List<ReservationResponse> findReservationsByUserEmail(String userEmail) {
-        List<Reservation> reservations = reservationRepository.findByUserEmail(userEmail);
-        if (reservations.isEmpty()) {
-            return List.of();
+        Optional<List<ReservationResponse>> cached = reservationListCache.find(userEmail);
+        if (cached.isPresent()) {
+            return cached.get();
         }
 
-        return reservations.stream()
+        long version = reservationListCache.version(userEmail);
+        List<ReservationResponse> reservations = reservationRepository.findByUserEmail(userEmail).stream()
                 .map(ReservationResponse::new)
                 .toList();
+        reservationListCache.fill(userEmail, version, reservations);
+        return reservations;
     }
 
     public List<ReservationResponse> findReservationsByConcertId(Long concertId) {
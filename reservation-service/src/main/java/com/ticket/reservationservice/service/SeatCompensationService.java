@@ -0,0 +1,185 @@
+package com.ticket.reservationservice.service;
+
+import com.ticket.common.id.SnowflakeIdGenerator;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.client.SeatReservationItem;
+import com.ticket.reservationservice.client.SeatReservationResult;
+import com.ticket.reservationservice.domain.CompensationStatus;
+import com.ticket.reservationservice.domain.SeatCompensation;
+import com.ticket.reservationservice.repository.SeatCompensationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 롤백 보상 큐. 보상은 DB 에 먼저 기록되고, 주기적으로 묶음 롤백 API 로 재시도된다.
+ * 실패하면 지수 백오프(+지터)로 다음 시도 시각을 미루고, max-attempts 를 넘기면 GAVE_UP 으로 남긴다.
+ * 처리할 보상은 짧은 트랜잭션에서 lease 를 걸어 가져오고, 롤백 호출은 트랜잭션 밖에서 한 뒤 결과를 새 트랜잭션에 기록한다.
+ * 호출이 시간 초과로 끝났는데 concert-service 에는 반영된 경우에 대비해 compensationKey 를 함께 보낸다. (중복 반영하지 않는다)
+ */
+@Service
+@Slf4j
+public class SeatCompensationService {
+
+    public static final String BACKLOG_METRIC = "reservation.compensation.backlog";
+
+    private final SeatCompensationRepository compensationRepository;
+    private final ConcertServiceClient concertServiceClient;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Duration lease;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter completedCounter;
+    private final Counter gaveUpCounter;
+
+    public SeatCompensationService(SeatCompensationRepository compensationRepository,
+                                   ConcertServiceClient concertServiceClient,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${reservation.compensation.batch-size:100}") int batchSize,
+                                   @Value("${reservation.compensation.max-attempts:20}") int maxAttempts,
+                                   @Value("${reservation.compensation.base-delay:1s}") Duration baseDelay,
+                                   @Value("${reservation.compensation.max-delay:5m}") Duration maxDelay,
+                                   @Value("${reservation.compensation.lease:30s}") Duration lease) {
+        this.compensationRepository = compensationRepository;
+        this.concertServiceClient = concertServiceClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+        this.lease = lease;
+        this.completedCounter = meterRegistry.counter("reservation.compensation.completed");
+        this.gaveUpCounter = meterRegistry.counter("reservation.compensation.gave-up");
+        Gauge.builder(BACKLOG_METRIC, backlog, AtomicLong::get).register(meterRegistry);
+    }
+
+    // 호출한 쪽 트랜잭션과 함께 커밋된다. (예: 예매 취소와 보상 기록을 원자적으로)
+    @Transactional
+    public void enqueue(String compensationKey, Long concertId, Long quantity) {
+        if (compensationRepository.existsByCompensationKey(compensationKey)) {
+            return;
+        }
+        compensationRepository.save(new SeatCompensation(compensationKey, concertId, quantity));
+        backlog.incrementAndGet();
+    }
+
+    // 취소 대기자에게 넘길 좌석. 호출한 쪽 트랜잭션과 함께 커밋되고, WaitlistReallocator 가 모아서 배정한다.
+    @Transactional
+    public void hold(String compensationKey, Long concertId, Long quantity) {
+        if (compensationRepository.existsByCompensationKey(compensationKey)) {
+            return;
+        }
+        compensationRepository.save(SeatCompensation.held(compensationKey, concertId, quantity));
+    }
+
+    // 바로 보내는 롤백과 그 보상이 같은 키를 쓰도록, 롤백을 보내기 전에 만든다.
+    public static String newRollbackKey() {
+        return "rollback:" + SnowflakeIdGenerator.shared().nextId();
+    }
+
+    // 호출한 쪽이 롤백되더라도 보상은 남아야 하는 경우 (예: 예매 저장 실패 후 좌석 반환 실패)
+    // 키는 실패한 롤백 호출에 실었던 키다. 그 호출이 실제로는 반영됐어도 concert-service 가 다시 반영하지 않는다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueDetached(String compensationKey, Long concertId, Long quantity) {
+        if (compensationRepository.existsByCompensationKey(compensationKey)) {
+            return;
+        }
+        compensationRepository.save(new SeatCompensation(compensationKey, concertId, quantity));
+        backlog.incrementAndGet();
+    }
+
+    // DB 트랜잭션과 행 잠금을 원격 호출 동안 쥐고 있지 않는다.
+    @Scheduled(fixedDelayString = "${reservation.compensation.poll-interval:PT1S}")
+    public void processDue() {
+        List<SeatCompensation> claimed = transactionTemplate.execute(status -> claimDue());
+        if (claimed != null && !claimed.isEmpty()) {
+            process(claimed);
+        }
+        backlog.set(compensationRepository.countByStatus(CompensationStatus.PENDING));
+    }
+
+    // 가져간 보상은 lease 동안 다른 인스턴스의 조회에서 빠진다. 이 인스턴스가 죽으면 lease 가 끝난 뒤 다시 처리된다.
+    private List<SeatCompensation> claimDue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatCompensation> due = compensationRepository.findDueForUpdate(
+                CompensationStatus.PENDING, now, PageRequest.of(0, batchSize));
+        LocalDateTime leaseUntil = now.plus(lease);
+        for (SeatCompensation compensation : due) {
+            compensation.lease(leaseUntil);
+        }
+        return due;
+    }
+
+    private void process(List<SeatCompensation> claimed) {
+        List<SeatReservationItem> items = new ArrayList<>(claimed.size());
+        List<Long> ids = new ArrayList<>(claimed.size());
+        for (SeatCompensation compensation : claimed) {
+            items.add(new SeatReservationItem(String.valueOf(compensation.getCompensationId()),
+                    compensation.getConcertId(), compensation.getQuantity(), compensation.getCompensationKey()));
+            ids.add(compensation.getCompensationId());
+        }
+
+        Map<String, Boolean> outcomes = new HashMap<>();
+        String error = "rollback returned false";
+        try {
+            for (SeatReservationResult result : concertServiceClient.rollbackSeatsBatch(items)) {
+                outcomes.put(result.getRequestId(), result.isSuccess());
+            }
+        } catch (Exception e) {
+            log.warn("좌석 보상 묶음 호출 실패 - count: {}, reason: {}", claimed.size(), e.getMessage());
+            error = e.getMessage();
+        }
+
+        String lastError = error;
+        transactionTemplate.executeWithoutResult(status -> record(ids, outcomes, lastError));
+    }
+
+    private void record(List<Long> ids, Map<String, Boolean> outcomes, String error) {
+        for (SeatCompensation compensation : compensationRepository.findAllById(ids)) {
+            if (compensation.getStatus() != CompensationStatus.PENDING) {
+                continue;
+            }
+            if (outcomes.getOrDefault(String.valueOf(compensation.getCompensationId()), false)) {
+                compensation.complete();
+                completedCounter.increment();
+            } else if (compensation.getAttempts() + 1 >= maxAttempts) {
+                log.error("좌석 보상 포기 - key: {}, concertId: {}, quantity: {}",
+                        compensation.getCompensationKey(), compensation.getConcertId(), compensation.getQuantity());
+                compensation.giveUp(error);
+                gaveUpCounter.increment();
+            } else {
+                compensation.retryAfter(backoff(compensation.getAttempts()), error);
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long delay = baseDelayMillis << Math.min(attempts, 20);
+        delay = Math.min(delay, maxDelayMillis);
+        // 같은 시점에 실패한 보상이 한꺼번에 몰리지 않도록 ±20% 흔든다.
+        long jitter = (long) (delay * 0.2 * (ThreadLocalRandom.current().nextDouble() * 2 - 1));
+        return Duration.ofMillis(Math.max(0, delay + jitter));
+    }
+}
@@ -0,0 +1,236 @@
+package com.ticket.reservationservice.waitlist;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매진 공연의 취소 대기열. Redis sorted set(점수 = 대기 순번)과 사용자별 희망 수량 해시로 관리한다.
+ * 대기 인원과 순번 조회는 인스턴스 메모리에 local-ttl 동안 두어, 새로고침이 몰려도 Redis 를 두드리지 않는다.
+ * 배정된 사용자는 allocated 해시에 남겨 조회 시 결과를 알려 준다.
+ */
+@Component
+@Slf4j
+public class SeatWaitlist {
+
+    // KEYS: 대기열, 수량, 순번, 배정 / ARGV: 이메일, 수량. 대기 순번(1부터), -1 이미 대기 중, -2 이미 배정됨
+    static final String JOIN_SCRIPT = """
+            if redis.call('hexists', KEYS[4], ARGV[1]) == 1 then
+                return -2
+            end
+            if redis.call('zscore', KEYS[1], ARGV[1]) then
+                return -1
+            end
+            local seq = redis.call('incr', KEYS[3])
+            redis.call('zadd', KEYS[1], seq, ARGV[1])
+            redis.call('hset', KEYS[2], ARGV[1], ARGV[2])
+            return redis.call('zrank', KEYS[1], ARGV[1]) + 1
+            """;
+
+    // KEYS: 대기열, 수량 / ARGV: 개수. 앞에서부터 (이메일, 순번, 수량) 을 이어 붙여 돌려준다.
+    static final String HEAD_SCRIPT = """
+            local members = redis.call('zrange', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES')
+            local result = {}
+            for i = 1, #members, 2 do
+                result[#result + 1] = members[i]
+                result[#result + 1] = members[i + 1]
+                result[#result + 1] = redis.call('hget', KEYS[2], members[i]) or '0'
+            end
+            return result
+            """;
+
+    // KEYS: 대기열, 수량 / ARGV: 이메일...
+    static final String REMOVE_SCRIPT = """
+            for i = 1, #ARGV do
+                redis.call('zrem', KEYS[1], ARGV[i])
+                redis.call('hdel', KEYS[2], ARGV[i])
+            end
+            return #ARGV
+            """;
+
+    // KEYS: 대기열, 수량 / ARGV: (이메일, 순번, 수량)... 원래 순번으로 되돌린다.
+    static final String RESTORE_SCRIPT = """
+            for i = 1, #ARGV, 3 do
+                redis.call('zadd', KEYS[1], 'NX', ARGV[i + 1], ARGV[i])
+                redis.call('hset', KEYS[2], ARGV[i], ARGV[i + 2])
+            end
+            return #ARGV / 3
+            """;
+
+    private final RedissonClient redissonClient;
+    private final Duration localTtl;
+    private final Duration resultTtl;
+    private final int maxLocalEntries;
+    private final Map<Long, Cached> sizes = new ConcurrentHashMap<>();
+    private final Map<String, Cached> positions = new ConcurrentHashMap<>();
+    private final Counter localHits;
+    private final Counter remoteReads;
+
+    public SeatWaitlist(RedissonClient redissonClient,
+                        MeterRegistry meterRegistry,
+                        @Value("${reservation.waitlist.local-ttl:1s}") Duration localTtl,
+                        @Value("${reservation.waitlist.result-ttl:7d}") Duration resultTtl,
+                        @Value("${reservation.waitlist.max-local-entries:100000}") int maxLocalEntries) {
+        this.redissonClient = redissonClient;
+        this.localTtl = localTtl;
+        this.resultTtl = resultTtl;
+        this.maxLocalEntries = maxLocalEntries;
+        this.localHits = meterRegistry.counter("reservation.waitlist.reads", "source", "local");
+        this.remoteReads = meterRegistry.counter("reservation.waitlist.reads", "source", "redis");
+    }
+
+    public long join(Long concertId, String userEmail, long quantity) {
+        Long position = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, JOIN_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(queueKey(concertId), quantityKey(concertId), sequenceKey(concertId), allocatedKey(concertId)),
+                userEmail, String.valueOf(quantity));
+        if (position != null && position > 0) {
+            sizes.remove(concertId);
+            remember(positions, positionKey(concertId, userEmail), position);
+        }
+        return position == null ? -1 : position;
+    }
+
+    public void leave(Long concertId, String userEmail) {
+        remove(concertId, List.of(userEmail));
+        positions.remove(positionKey(concertId, userEmail));
+    }
+
+    // 대기 순번(1부터). 대기 중이 아니면 0.
+    public long position(Long concertId, String userEmail) {
+        String key = positionKey(concertId, userEmail);
+        Cached cached = positions.get(key);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            localHits.increment();
+            return cached.value();
+        }
+        remoteReads.increment();
+        Integer rank = redissonClient.<String>getScoredSortedSet(queueKey(concertId), StringCodec.INSTANCE).rank(userEmail);
+        long position = rank == null ? 0 : rank + 1;
+        remember(positions, key, position);
+        return position;
+    }
+
+    // 취소 좌석을 대기자에게 넘길지 정할 때 쓴다. Redis 를 읽지 못하면 대기자가 없는 것으로 본다.
+    public boolean hasWaiters(Long concertId) {
+        Cached cached = sizes.get(concertId);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            localHits.increment();
+            return cached.value() > 0;
+        }
+        try {
+            remoteReads.increment();
+            long size = redissonClient.getScoredSortedSet(queueKey(concertId), StringCodec.INSTANCE).size();
+            remember(sizes, concertId, size);
+            return size > 0;
+        } catch (Exception e) {
+            log.warn("대기열 조회 실패 - 대기자 없음으로 처리: concertId: {}, {}", concertId, e.getMessage());
+            return false;
+        }
+    }
+
+    // 배정된 수량. 배정되지 않았으면 null.
+    public Long allocatedQuantity(Long concertId, String userEmail) {
+        String quantity = redissonClient.<String, String>getMap(allocatedKey(concertId), StringCodec.INSTANCE).get(userEmail);
+        return quantity == null ? null : Long.valueOf(quantity);
+    }
+
+    public List<Waiter> head(Long concertId, int count) {
+        List<Object> flat = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_ONLY, HEAD_SCRIPT,
+                RScript.ReturnType.MULTI, List.of(queueKey(concertId), quantityKey(concertId)), String.valueOf(count));
+        List<Waiter> waiters = new ArrayList<>(flat.size() / 3);
+        for (int i = 0; i + 2 < flat.size(); i += 3) {
+            waiters.add(new Waiter(String.valueOf(flat.get(i)), (long) Double.parseDouble(String.valueOf(flat.get(i + 1))),
+                    Long.parseLong(String.valueOf(flat.get(i + 2)))));
+        }
+        return waiters;
+    }
+
+    public void remove(Long concertId, Collection<String> userEmails) {
+        if (userEmails.isEmpty()) {
+            return;
+        }
+        redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, REMOVE_SCRIPT,
+                RScript.ReturnType.INTEGER, List.of(queueKey(concertId), quantityKey(concertId)),
+                userEmails.toArray());
+        sizes.remove(concertId);
+    }
+
+    public void restore(Long concertId, Collection<Waiter> waiters) {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(waiters.size() * 3);
+        for (Waiter waiter : waiters) {
+            args.add(waiter.userEmail());
+            args.add(String.valueOf(waiter.sequence()));
+            args.add(String.valueOf(waiter.quantity()));
+        }
+        redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, RESTORE_SCRIPT,
+                RScript.ReturnType.INTEGER, List.of(queueKey(concertId), quantityKey(concertId)), args.toArray());
+        sizes.remove(concertId);
+    }
+
+    public void recordAllocated(Long concertId, Collection<Waiter> waiters) {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        Map<String, String> entries = new HashMap<>(waiters.size() * 2);
+        waiters.forEach(waiter -> entries.put(waiter.userEmail(), String.valueOf(waiter.quantity())));
+        RMap<String, String> allocated = redissonClient.getMap(allocatedKey(concertId), StringCodec.INSTANCE);
+        allocated.putAll(entries);
+        allocated.expire(resultTtl);
+    }
+
+    private <K> void remember(Map<K, Cached> cache, K key, long value) {
+        if (cache.size() >= maxLocalEntries && !cache.containsKey(key)) {
+            long now = System.currentTimeMillis();
+            cache.values().removeIf(cached -> cached.expiresAt() <= now);
+            if (cache.size() >= maxLocalEntries) {
+                cache.clear();
+            }
+        }
+        cache.put(key, new Cached(value, System.currentTimeMillis() + localTtl.toMillis()));
+    }
+
+    private static String positionKey(Long concertId, String userEmail) {
+        return concertId + ":" + userEmail;
+    }
+
+    // 한 공연의 키는 같은 슬롯에 놓이도록 해시 태그를 쓴다.
+    private static String queueKey(Long concertId) {
+        return "waitlist:{" + concertId + "}:queue";
+    }
+
+    private static String quantityKey(Long concertId) {
+        return "waitlist:{" + concertId + "}:quantity";
+    }
+
+    private static String sequenceKey(Long concertId) {
+        return "waitlist:{" + concertId + "}:seq";
+    }
+
+    private static String allocatedKey(Long concertId) {
+        return "waitlist:{" + concertId + "}:allocated";
+    }
+
+    public record Waiter(String userEmail, long sequence, long quantity) {
+    }
+
+    private record Cached(long value, long expiresAt) {
+    }
+}
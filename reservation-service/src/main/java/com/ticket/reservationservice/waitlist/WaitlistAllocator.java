@@ -0,0 +1,136 @@
+package com.ticket.reservationservice.waitlist;
+
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.id.SnowflakeIdGenerator;
+import com.ticket.reservationservice.cache.ReservationListCache;
+import com.ticket.reservationservice.domain.CompensationStatus;
+import com.ticket.reservationservice.domain.Reservation;
+import com.ticket.reservationservice.domain.SeatCompensation;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.limit.PurchaseLimiter;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import com.ticket.reservationservice.repository.SeatCompensationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 공연에 모인 취소 좌석(HELD)을 대기열 앞에서부터 배정한다.
+ * 좌석은 concert-service 에서 이미 빠져 있으므로 예매 행만 만들면 된다. 배정하고 남은 좌석은 보상 큐로 풀에 돌려준다.
+ * 대기열에서는 커밋 전에 빼고, 트랜잭션이 롤백되면 원래 순번으로 되돌린다.
+ */
+@Component
+@Slf4j
+public class WaitlistAllocator {
+
+    private final SeatCompensationRepository compensationRepository;
+    private final ReservationRepository reservationRepository;
+    private final SeatWaitlist seatWaitlist;
+    private final PurchaseLimiter purchaseLimiter;
+    private final ReservationListCache reservationListCache;
+    private final int headSize;
+
+    public WaitlistAllocator(SeatCompensationRepository compensationRepository,
+                             ReservationRepository reservationRepository,
+                             SeatWaitlist seatWaitlist,
+                             PurchaseLimiter purchaseLimiter,
+                             ReservationListCache reservationListCache,
+                             @Value("${reservation.waitlist.head-size:200}") int headSize) {
+        this.compensationRepository = compensationRepository;
+        this.reservationRepository = reservationRepository;
+        this.seatWaitlist = seatWaitlist;
+        this.purchaseLimiter = purchaseLimiter;
+        this.reservationListCache = reservationListCache;
+        this.headSize = headSize;
+    }
+
+    @Transactional
+    public Allocation allocate(Long concertId) {
+        List<SeatCompensation> held = compensationRepository.findByConcertForUpdate(concertId, CompensationStatus.HELD);
+        if (held.isEmpty()) {
+            return Allocation.NONE;
+        }
+        long released = held.stream().mapToLong(SeatCompensation::getQuantity).sum();
+
+        List<SeatWaitlist.Waiter> allocated = new ArrayList<>();
+        List<SeatWaitlist.Waiter> dropped = new ArrayList<>();
+        long remaining = released;
+        for (SeatWaitlist.Waiter waiter : head(concertId)) {
+            if (remaining == 0) {
+                break;
+            }
+            // 남은 좌석보다 많이 원하는 대기자는 순번을 유지한 채 다음 배치를 기다린다.
+            if (waiter.quantity() > remaining) {
+                continue;
+            }
+            try {
+                purchaseLimiter.acquire(waiter.userEmail(), concertId, waiter.quantity());
+            } catch (BusinessException e) {
+                // 대기하는 사이 한도만큼 구매한 사용자는 대기열에서 뺀다.
+                dropped.add(waiter);
+                continue;
+            }
+            allocated.add(waiter);
+            remaining -= waiter.quantity();
+        }
+
+        List<SeatWaitlist.Waiter> taken = new ArrayList<>(allocated);
+        taken.addAll(dropped);
+        registerCompletion(concertId, allocated, taken);
+        seatWaitlist.remove(concertId, taken.stream().map(SeatWaitlist.Waiter::userEmail).toList());
+
+        List<Reservation> reservations = new ArrayList<>(allocated.size());
+        for (SeatWaitlist.Waiter waiter : allocated) {
+            Reservation reservation = Reservation.createReservation(concertId, waiter.userEmail(), waiter.quantity());
+            reservation.confirmReservation();
+            reservations.add(reservation);
+        }
+        reservationRepository.saveAll(reservations)
+                .forEach(reservation -> reservationListCache.onSaved(new ReservationResponse(reservation)));
+
+        held.forEach(SeatCompensation::reallocate);
+        if (remaining > 0) {
+            compensationRepository.save(new SeatCompensation(
+                    "waitlist:" + concertId + ":" + SnowflakeIdGenerator.shared().nextId(), concertId, remaining));
+        }
+        return new Allocation(released, allocated.size(), released - remaining);
+    }
+
+    // 대기열을 읽지 못하면 이번 배치는 배정 없이 모두 풀에 돌려준다. (좌석을 붙잡아 두지 않는다)
+    private List<SeatWaitlist.Waiter> head(Long concertId) {
+        try {
+            return seatWaitlist.head(concertId, headSize);
+        } catch (Exception e) {
+            log.warn("대기열 조회 실패 - 취소 좌석을 풀에 반환: concertId: {}, {}", concertId, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void registerCompletion(Long concertId, List<SeatWaitlist.Waiter> allocated, List<SeatWaitlist.Waiter> taken) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        seatWaitlist.recordAllocated(concertId, allocated);
+                        return;
+                    }
+                    seatWaitlist.restore(concertId, taken);
+                    allocated.forEach(waiter -> purchaseLimiter.release(waiter.userEmail(), concertId, waiter.quantity()));
+                } catch (Exception e) {
+                    log.warn("대기열 후처리 실패 - concertId: {}, {}", concertId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    public record Allocation(long releasedSeats, int winners, long allocatedSeats) {
+        static final Allocation NONE = new Allocation(0, 0, 0);
+    }
+}
@@ -0,0 +1,62 @@
+package com.ticket.reservationservice.waitlist;
+
+import com.ticket.reservationservice.domain.CompensationStatus;
+import com.ticket.reservationservice.repository.SeatCompensationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 취소로 풀린 좌석을 reallocate-interval 동안 모았다가 공연별로 한 번에 대기자에게 배정한다.
+ * 사용자 요청 경로와 무관하게 백그라운드에서만 돈다. 공연 하나는 여러 인스턴스 중 한 곳에서만 배정한다.
+ */
+@Component
+@Slf4j
+public class WaitlistReallocator {
+
+    private final SeatCompensationRepository compensationRepository;
+    private final WaitlistAllocator allocator;
+    private final RedissonClient redissonClient;
+    private final Counter allocatedSeats;
+    private final Counter returnedSeats;
+
+    public WaitlistReallocator(SeatCompensationRepository compensationRepository,
+                               WaitlistAllocator allocator,
+                               RedissonClient redissonClient,
+                               MeterRegistry meterRegistry) {
+        this.compensationRepository = compensationRepository;
+        this.allocator = allocator;
+        this.redissonClient = redissonClient;
+        this.allocatedSeats = meterRegistry.counter("reservation.waitlist.seats", "result", "allocated");
+        this.returnedSeats = meterRegistry.counter("reservation.waitlist.seats", "result", "returned");
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.waitlist.reallocate-interval:PT2S}")
+    public void reallocate() {
+        for (Long concertId : compensationRepository.findConcertIdsByStatus(CompensationStatus.HELD)) {
+            RLock lock = redissonClient.getLock("reservation:waitlist:" + concertId);
+            if (!lock.tryLock()) {
+                continue;
+            }
+            try {
+                WaitlistAllocator.Allocation allocation = allocator.allocate(concertId);
+                allocatedSeats.increment(allocation.allocatedSeats());
+                returnedSeats.increment(allocation.releasedSeats() - allocation.allocatedSeats());
+                if (allocation.winners() > 0) {
+                    log.info("취소 좌석 대기자 배정 - concertId: {}, released: {}, winners: {}, seats: {}",
+                            concertId, allocation.releasedSeats(), allocation.winners(), allocation.allocatedSeats());
+                }
+            } catch (Exception e) {
+                log.error("취소 좌석 배정 실패 - 다음 실행에서 재시도: concertId: {}", concertId, e);
+            } finally {
+                if (lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ticket.reservationservice.waitlist;
+
+import com.ticket.reservationservice.availability.SoldOutConcerts;
+import com.ticket.reservationservice.dto.WaitlistResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 매진 공연의 취소 대기 등록/취소/조회. 배정은 WaitlistReallocator 가 백그라운드에서 한다.
+ */
+@Service
+public class WaitlistService {
+
+    private final SeatWaitlist seatWaitlist;
+    private final SoldOutConcerts soldOutConcerts;
+    private final long maxQuantity;
+
+    public WaitlistService(SeatWaitlist seatWaitlist,
+                           SoldOutConcerts soldOutConcerts,
+                           @Value("${reservation.purchase-limit.per-concert:4}") long maxQuantity) {
+        this.seatWaitlist = seatWaitlist;
+        this.soldOutConcerts = soldOutConcerts;
+        this.maxQuantity = maxQuantity;
+    }
+
+    public WaitlistResponse join(Long concertId, String userEmail, Long quantity) {
+        if (quantity == null || quantity <= 0 || quantity > maxQuantity) {
+            throw new IllegalArgumentException("대기 수량은 1 이상 " + maxQuantity + " 이하여야 합니다.");
+        }
+        // 잔여 좌석이 있는 공연은 바로 예매한다.
+        if (!soldOutConcerts.isSoldOut(concertId)) {
+            throw new IllegalStateException("매진된 공연만 대기할 수 있습니다.");
+        }
+
+        long position = seatWaitlist.join(concertId, userEmail, quantity);
+        if (position == -1) {
+            throw new IllegalStateException("이미 대기 중인 공연입니다.");
+        }
+        if (position == -2) {
+            throw new IllegalStateException("이미 대기 좌석이 배정된 공연입니다.");
+        }
+        return WaitlistResponse.waiting(concertId, position);
+    }
+
+    public void leave(Long concertId, String userEmail) {
+        seatWaitlist.leave(concertId, userEmail);
+    }
+
+    public WaitlistResponse status(Long concertId, String userEmail) {
+        long position = seatWaitlist.position(concertId, userEmail);
+        if (position > 0) {
+            return WaitlistResponse.waiting(concertId, position);
+        }
+        Long allocated = seatWaitlist.allocatedQuantity(concertId, userEmail);
+        return allocated == null
+                ? WaitlistResponse.notWaiting(concertId)
+                : WaitlistResponse.allocated(concertId, allocated);
+    }
+}
@@ -0,0 +1,205 @@
+package com.ticket.reservationservice.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.common.availability.OnSaleSchedule;
+import com.ticket.common.deadline.RequestDeadline;
+import com.ticket.reservationservice.availability.SoldOutConcerts;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.domain.Reservation;
+import com.ticket.reservationservice.draw.DrawConcerts;
+import com.ticket.reservationservice.dto.ReservationRequest;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import com.ticket.reservationservice.service.ReservationService;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 판매 시작 직후의 첫 요청이 차가운 상태로 들어오지 않게 미리 데운다.
+ * 기동 시에는 DB 커넥션 풀/JPA, Redis 연결, 매진 목록을 준비하고 예매 요청 처리 경로(요청 파싱 ~ 응답 직렬화)를
+ * 저장 없이 synthetic-requests 번 돌린다. (ApplicationReadyEvent 에서 동기로 돌아 그 전에는 readiness 가 열리지 않는다)
+ * concert-service 가 올린 판매 일정(OnSaleSchedule)에 warmup-lead 안으로 들어온 공연은 조회 호출과 예열 예매를 remote-probes 번씩 보내
+ * Feign 커넥션, circuit breaker, 구매 한도 카운터, 파이프라인, 공연 락 경로를 열어 둔다. (좌석은 바뀌지 않는다)
+ * 모든 단계가 성공해야 warm 이 된다. 기동 시 warmup-attempts 번 시도하고, 그래도 실패하면 readiness 를 닫은 채
+ * warmup-interval 마다 다시 시도한다.
+ */
+@Component
+@Slf4j
+public class OnSaleWarmup {
+
+    private static final String SYNTHETIC_REQUEST = "{\"concertId\":0,\"quantity\":1}";
+    static final String PROBE_USER = "on-sale-warmup";
+
+    private final ConcertServiceClient concertServiceClient;
+    private final ReservationRepository reservationRepository;
+    private final ReservationService reservationService;
+    private final SoldOutConcerts soldOutConcerts;
+    private final DrawConcerts drawConcerts;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final Duration lead;
+    private final int syntheticRequests;
+    private final int remoteProbes;
+    private final int attempts;
+    private final Duration retryDelay;
+    private final Duration probeTimeout;
+    private final Set<Long> warmed = ConcurrentHashMap.newKeySet();
+    private volatile boolean warm;
+    private volatile boolean startupFinished;
+
+    public OnSaleWarmup(ConcertServiceClient concertServiceClient,
+                        ReservationRepository reservationRepository,
+                        ReservationService reservationService,
+                        SoldOutConcerts soldOutConcerts,
+                        DrawConcerts drawConcerts,
+                        RedissonClient redissonClient,
+                        ObjectMapper objectMapper,
+                        @Value("${reservation.on-sale.warmup-lead:5m}") Duration lead,
+                        @Value("${reservation.on-sale.synthetic-requests:5000}") int syntheticRequests,
+                        @Value("${reservation.on-sale.remote-probes:20}") int remoteProbes,
+                        @Value("${reservation.on-sale.warmup-attempts:3}") int attempts,
+                        @Value("${reservation.on-sale.warmup-retry-delay:2s}") Duration retryDelay,
+                        @Value("${reservation.on-sale.probe-timeout:5s}") Duration probeTimeout) {
+        this.concertServiceClient = concertServiceClient;
+        this.reservationRepository = reservationRepository;
+        this.reservationService = reservationService;
+        this.soldOutConcerts = soldOutConcerts;
+        this.drawConcerts = drawConcerts;
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.lead = lead;
+        this.syntheticRequests = syntheticRequests;
+        this.remoteProbes = remoteProbes;
+        this.attempts = Math.max(attempts, 1);
+        this.retryDelay = retryDelay;
+        this.probeTimeout = probeTimeout;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            for (int attempt = 1; attempt <= attempts; attempt++) {
+                if (tryWarmUp(attempt)) {
+                    return;
+                }
+                if (attempt < attempts) {
+                    Thread.sleep(retryDelay.toMillis());
+                }
+            }
+            log.error("기동 예열 실패 - readiness 를 닫은 채 주기마다 다시 시도");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            startupFinished = true;
+        }
+    }
+
+    // warm 이 된 뒤에는 곧 판매가 시작되는 공연을 데우고, 기동 예열이 끝내 실패했으면 다시 시도한다.
+    @Scheduled(fixedDelayString = "${reservation.on-sale.warmup-interval:PT10S}")
+    public void refresh() {
+        if (warm) {
+            prewarmUpcoming();
+        } else if (startupFinished) {
+            tryWarmUp(0);
+        }
+    }
+
+    private boolean tryWarmUp(int attempt) {
+        long start = System.currentTimeMillis();
+        try {
+            reservationRepository.findById(0L);
+            soldOutConcerts.resync();
+            runSynthetic();
+            if (!prewarmUpcoming()) {
+                throw new IllegalStateException("판매 예정 공연 예열 실패");
+            }
+        } catch (Exception e) {
+            log.warn("기동 예열 실패 - attempt: {}, {}", attempt, e.getMessage());
+            return false;
+        }
+        warm = true;
+        log.info("기동 예열 완료 - {}ms", System.currentTimeMillis() - start);
+        return true;
+    }
+
+    // warmup-lead 안으로 들어온 공연을 데운다. 모두 데웠으면 true. 실패한 공연은 다음 주기에 다시 데운다.
+    public boolean prewarmUpcoming() {
+        long now = System.currentTimeMillis();
+        Collection<String> upcoming = redissonClient.<String>getScoredSortedSet(OnSaleSchedule.KEY, StringCodec.INSTANCE)
+                .valueRange(now, true, now + lead.toMillis(), true);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        boolean allWarmed = true;
+        for (String value : upcoming) {
+            Long concertId = Long.valueOf(value);
+            ids.add(concertId);
+            if (warmed.add(concertId) && !prewarm(concertId)) {
+                allWarmed = false;
+            }
+        }
+        warmed.retainAll(ids);
+        return allWarmed;
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    public int warmedConcerts() {
+        return warmed.size();
+    }
+
+    private boolean prewarm(Long concertId) {
+        try {
+            concertServiceClient.getConcert(concertId);
+            for (int i = 0; i < remoteProbes; i++) {
+                concertServiceClient.checkAvailability(concertId, 1L);
+            }
+            probeReservations(concertId);
+            log.info("판매 시작 전 예열 - concertId: {}", concertId);
+            return true;
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도한다.
+            warmed.remove(concertId);
+            log.warn("판매 시작 전 예열 실패 - concertId: {}, {}", concertId, e.getMessage());
+            return false;
+        }
+    }
+
+    // 예열 예매를 한꺼번에 넣어 파이프라인 묶음 처리와 concert-service 의 묶음 예약(공연 락 포함)까지 돌린다.
+    private void probeReservations(Long concertId) throws Exception {
+        List<CompletableFuture<ReservationResponse>> probes = new ArrayList<>(remoteProbes);
+        for (int i = 0; i < remoteProbes; i++) {
+            probes.add(reservationService.probeReservation(concertId, PROBE_USER));
+        }
+        CompletableFuture.allOf(probes.toArray(CompletableFuture[]::new))
+                .get(probeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 저장하지 않는 가짜 예매로 요청 파싱, 차단 목록 확인, 예매 생성, 응답 직렬화 경로를 돌려 JIT 컴파일을 유도한다.
+    private void runSynthetic() throws Exception {
+        for (int i = 0; i < syntheticRequests; i++) {
+            ReservationRequest request = objectMapper.readValue(SYNTHETIC_REQUEST, ReservationRequest.class);
+            RequestDeadline.parse(String.valueOf(System.currentTimeMillis() + 1000));
+            soldOutConcerts.isSoldOut(request.getConcertId());
+            drawConcerts.isDrawConcert(request.getConcertId());
+            Reservation reservation = Reservation.createReservation(request.getConcertId(), "warmup", request.getQuantity());
+            reservation.confirmReservation();
+            objectMapper.writeValueAsString(new ReservationResponse(reservation));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ticket.reservationservice.availability;
+
+import com.ticket.common.availability.AvailabilityEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class SoldOutConcertsTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RSet<String> soldOutSet;
+
+    private MeterRegistry meterRegistry;
+    private SoldOutConcerts soldOutConcerts;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        soldOutConcerts = new SoldOutConcerts(redissonClient, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("매진/재고 복구 알림에 따라 거절 여부가 바뀐다")
+    void apply_SoldOutAndRestocked() {
+        // when
+        soldOutConcerts.apply(AvailabilityEvent.parse("SOLD_OUT:100"));
+
+        // then
+        assertThat(soldOutConcerts.reject(100L)).isTrue();
+        assertThat(soldOutConcerts.reject(200L)).isFalse();
+        assertThat(meterRegistry.get("reservation.sold-out.rejected").counter().count()).isEqualTo(1.0);
+
+        // when
+        soldOutConcerts.apply(AvailabilityEvent.parse("RESTOCKED:100"));
+
+        // then
+        assertThat(soldOutConcerts.isSoldOut(100L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동기화하면 Redis 매진 목록과 같아진다 (놓친 알림 복구)")
+    void resync_ReplacesWithStoredSet() {
+        // given
+        soldOutConcerts.apply(AvailabilityEvent.soldOut(100L));
+        given(redissonClient.<String>getSet(AvailabilityEvent.SOLD_OUT_SET, StringCodec.INSTANCE)).willReturn(soldOutSet);
+        given(soldOutSet.readAll()).willReturn(Set.of("200"));
+
+        // when
+        soldOutConcerts.resync();
+
+        // then
+        assertThat(soldOutConcerts.isSoldOut(100L)).isFalse();
+        assertThat(soldOutConcerts.isSoldOut(200L)).isTrue();
+    }
+}
@@ -0,0 +1,155 @@
+package com.ticket.reservationservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.reservationservice.domain.ReservationStatus;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationListCacheTest {
+
+    private static final String USER = "test@example.com";
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RScript script;
+    @Mock
+    private RMap<String, String> remoteList;
+    @Mock
+    private RTopic topic;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationListCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(redissonClient.getTopic(anyString(), any(Codec.class))).willReturn(topic);
+        cache = new ReservationListCache(redissonClient, objectMapper, meterRegistry,
+                Duration.ofSeconds(30), Duration.ofMinutes(10), 100);
+        cache.subscribe();
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽어 채운 뒤에는 L1 에서 바로 돌려준다")
+    void fill_ThenLocalHit() {
+        // given
+        given(redissonClient.<String, String>getMap(anyString(), any(Codec.class))).willReturn(remoteList);
+        given(remoteList.readAllMap()).willReturn(Map.of());
+        givenScriptReturns(1L);
+        List<ReservationResponse> reservations = List.of(reservation(1L, ReservationStatus.CONFIRMED));
+
+        // when
+        Optional<List<ReservationResponse>> miss = cache.find(USER);
+        cache.fill(USER, 0L, reservations);
+        Optional<List<ReservationResponse>> hit = cache.find(USER);
+
+        // then
+        assertThat(miss).isEmpty();
+        assertThat(hit).hasValueSatisfying(list -> assertThat(list).hasSize(1));
+        verify(remoteList, times(1)).readAllMap();
+        assertThat(meterRegistry.get(ReservationListCache.METRIC + ".requests")
+                .tags("level", "l1", "result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(ReservationListCache.METRIC + ".entry.bytes").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예매/취소는 목록을 지우지 않고 해당 항목만 바꿔 넣는다")
+    void onSaved_UpdatesInPlace() {
+        // given
+        givenScriptReturns(1L);
+        cache.fill(USER, 0L, List.of(reservation(1L, ReservationStatus.CONFIRMED)));
+
+        // when
+        cache.onSaved(reservation(2L, ReservationStatus.CONFIRMED));
+        cache.onSaved(reservation(1L, ReservationStatus.CANCELLED));
+
+        // then
+        List<ReservationResponse> reservations = cache.find(USER).orElseThrow();
+        assertThat(reservations).extracting(ReservationResponse::getReservationId).containsExactly(1L, 2L);
+        assertThat(reservations.get(0).getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        verify(script, times(2)).eval(eq(RScript.Mode.READ_WRITE), eq(ReservationListCache.UPSERT_SCRIPT),
+                eq(RScript.ReturnType.INTEGER), anyList(), any(Object[].class));
+        verify(topic, times(2)).publish(anyString());
+    }
+
+    @Test
+    @DisplayName("L2 에 있는 목록은 읽어서 L1 에 채운다")
+    void find_RemoteHitFillsLocal() throws Exception {
+        // given
+        given(redissonClient.<String, String>getMap(anyString(), any(Codec.class))).willReturn(remoteList);
+        given(remoteList.readAllMap()).willReturn(Map.of(
+                "_loaded", "1",
+                "1", objectMapper.writeValueAsString(reservation(1L, ReservationStatus.CONFIRMED))));
+
+        // when
+        cache.find(USER);
+        Optional<List<ReservationResponse>> second = cache.find(USER);
+
+        // then
+        assertThat(second).hasValueSatisfying(list ->
+                assertThat(list.get(0).getStatus()).isEqualTo(ReservationStatus.CONFIRMED));
+        verify(remoteList, times(1)).readAllMap();
+    }
+
+    @Test
+    @DisplayName("읽는 사이 쓰기가 있었으면(버전 변경) 채우지 않는다")
+    void fill_SkipsWhenVersionChanged() {
+        // given
+        given(redissonClient.<String, String>getMap(anyString(), any(Codec.class))).willReturn(remoteList);
+        given(remoteList.readAllMap()).willReturn(Map.of());
+        givenScriptReturns(0L);
+
+        // when
+        cache.fill(USER, 3L, List.of(reservation(1L, ReservationStatus.CONFIRMED)));
+
+        // then
+        assertThat(cache.find(USER)).isEmpty();
+    }
+
+    private void givenScriptReturns(Long result) {
+        given(redissonClient.getScript(any(Codec.class))).willReturn(script);
+        given(script.<Long>eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                anyList(), any(Object[].class))).willReturn(result);
+    }
+
+    private ReservationResponse reservation(Long id, ReservationStatus status) {
+        return ReservationResponse.builder()
+                .reservationId(id)
+                .concertId(100L)
+                .userEmail(USER)
+                .quantity(2L)
+                .status(status)
+                .reservedAt(LocalDateTime.of(2025, 5, 1, 12, 0))
+                .cancelledAt(status == ReservationStatus.CANCELLED ? LocalDateTime.of(2025, 5, 2, 12, 0) : null)
+                .build();
+    }
+}
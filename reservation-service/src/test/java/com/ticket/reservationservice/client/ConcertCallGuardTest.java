@@ -0,0 +1,148 @@
+package com.ticket.reservationservice.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.ticket.reservationservice.config.ConcertClientProperties;
+import feign.Feign;
+import feign.Request;
+import feign.RequestLine;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 서버로 concert-service 지연을 흉내 내어 bulkhead 격리와 circuit breaker 동작을 확인한다.
+ */
+class ConcertCallGuardTest {
+
+    interface StubClient {
+        @RequestLine("GET /concerts/1/availability?quantity=1")
+        String read();
+
+        @RequestLine("PUT /concerts/1/reserve?quantity=1")
+        String reserve();
+    }
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private final AtomicInteger readHits = new AtomicInteger();
+    private volatile long readDelayMillis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverThreads = Executors.newFixedThreadPool(8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverThreads);
+        server.createContext("/concerts/1/availability", exchange -> {
+            readHits.incrementAndGet();
+            sleep(readDelayMillis);
+            respond(exchange, "true");
+        });
+        server.createContext("/concerts/1/reserve", exchange -> respond(exchange, "true"));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("조회가 느려 read 슬롯이 차도 예약 호출은 막히지 않는다")
+    void slowReadsDoNotBlockReserve() {
+        // given
+        ConcertClientProperties properties = new ConcertClientProperties();
+        properties.getRead().setMaxConcurrentCalls(1);
+        properties.getRead().setMaxWait(Duration.ZERO);
+        ConcertCallGuard guard = new ConcertCallGuard(properties, new SimpleMeterRegistry());
+        StubClient client = client(guard, 2000);
+        readDelayMillis = 500;
+
+        // when
+        CompletableFuture<String> slowRead = CompletableFuture.supplyAsync(client::read);
+        awaitHits(1);
+
+        // then
+        assertThatThrownBy(client::read).isInstanceOf(BulkheadFullException.class);
+        long start = System.nanoTime();
+        assertThat(client.reserve()).isEqualTo("true");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(300);
+        assertThat(slowRead.join()).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("타임아웃이 이어지면 circuit 이 열리고 이후 호출은 서버에 닿지 않고 실패한다")
+    void timeoutsOpenCircuit() {
+        // given
+        ConcertClientProperties properties = new ConcertClientProperties();
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(2);
+        properties.getCircuitBreaker().setSlidingWindowSize(2);
+        ConcertCallGuard guard = new ConcertCallGuard(properties, new SimpleMeterRegistry());
+        StubClient client = client(guard, 100);
+        readDelayMillis = 400;
+
+        // when
+        assertThatThrownBy(client::read).isInstanceOf(RetryableException.class);
+        assertThatThrownBy(client::read).isInstanceOf(RetryableException.class);
+
+        // then
+        assertThat(guard.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(client::reserve).isInstanceOf(CallNotPermittedException.class);
+        assertThat(readHits.get()).isEqualTo(2);
+    }
+
+    private StubClient client(ConcertCallGuard guard, long readTimeoutMillis) {
+        return Feign.builder()
+                .client(new ApacheHttp5Client())
+                .addCapability(guard)
+                .retryer(Retryer.NEVER_RETRY)
+                .options(new Request.Options(500, TimeUnit.MILLISECONDS, readTimeoutMillis, TimeUnit.MILLISECONDS, true))
+                .target(StubClient.class, "http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    private void awaitHits(int expected) {
+        long until = System.currentTimeMillis() + 2000;
+        while (readHits.get() < expected && System.currentTimeMillis() < until) {
+            sleep(5);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ticket.reservationservice.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConcertLoaderTest {
+
+    @Mock
+    private ConcertServiceClient concertServiceClient;
+
+    private ConcertLoader concertLoader;
+
+    @BeforeEach
+    void setUp() {
+        concertLoader = new ConcertLoader(concertServiceClient, 2);
+    }
+
+    @Test
+    @DisplayName("중복된 공연은 한 번만 묶어서 조회한다")
+    void loadAll_DedupesIntoOneCall() {
+        // given
+        given(concertServiceClient.getConcerts(List.of(1L, 2L))).willReturn(List.of(concert(1L), concert(2L)));
+
+        // when
+        Map<Long, ConcertResponse> concerts = concertLoader.loadAll(List.of(1L, 2L, 1L, 2L));
+
+        // then
+        assertThat(concerts).containsOnlyKeys(1L, 2L);
+        verify(concertServiceClient, times(1)).getConcerts(anyList());
+    }
+
+    @Test
+    @DisplayName("이미 받은 공연은 다시 조회하지 않고 새 공연만 조회한다")
+    void load_ReusesLoadedConcerts() {
+        // given
+        given(concertServiceClient.getConcerts(List.of(1L))).willReturn(List.of(concert(1L)));
+        given(concertServiceClient.getConcerts(List.of(3L))).willReturn(List.of(concert(3L)));
+        concertLoader.loadAll(List.of(1L));
+
+        // when
+        CompletableFuture<ConcertResponse> first = concertLoader.load(1L);
+        CompletableFuture<ConcertResponse> third = concertLoader.load(3L);
+        concertLoader.dispatch();
+
+        // then
+        assertThat(first.join().getConcertId()).isEqualTo(1L);
+        assertThat(third.join().getConcertId()).isEqualTo(3L);
+        verify(concertServiceClient).getConcerts(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("max-batch-size 를 넘으면 나눠서 조회하고, 실패한 묶음은 공연 정보 없이 돌려준다")
+    void loadAll_SplitsBatchesAndToleratesFailure() {
+        // given
+        given(concertServiceClient.getConcerts(List.of(1L, 2L))).willReturn(List.of(concert(1L), concert(2L)));
+        given(concertServiceClient.getConcerts(List.of(3L))).willThrow(new IllegalStateException("연결 실패"));
+
+        // when
+        Map<Long, ConcertResponse> concerts = concertLoader.loadAll(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(concerts).containsOnlyKeys(1L, 2L);
+    }
+
+    private ConcertResponse concert(Long id) {
+        return new ConcertResponse(id, "콘서트 " + id, LocalDateTime.now().plusDays(7), 100L);
+    }
+}
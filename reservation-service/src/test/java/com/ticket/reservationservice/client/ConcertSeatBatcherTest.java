@@ -0,0 +1,79 @@
+package com.ticket.reservationservice.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConcertSeatBatcherTest {
+
+    @Mock
+    private ConcertServiceClient concertServiceClient;
+
+    private ConcertSeatBatcher batcher;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new ConcertSeatBatcher(concertServiceClient, Duration.ofMillis(50), 100, 2);
+        callers = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        batcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("시간 창 안에 들어온 단건 호출을 묶어 보내고 각자 결과를 받는다")
+    void reserveSeats_CoalescesConcurrentCalls() {
+        // given
+        given(concertServiceClient.reserveSeatsBatch(anyList())).willAnswer(invocation -> {
+            List<SeatReservationItem> items = invocation.getArgument(0);
+            return items.stream()
+                    .map(item -> new SeatReservationResult(item.getRequestId(), item.getQuantity() <= 2))
+                    .toList();
+        });
+
+        // when
+        CompletableFuture<Boolean> small = CompletableFuture.supplyAsync(() -> batcher.reserveSeats(1L, 2L), callers);
+        CompletableFuture<Boolean> other = CompletableFuture.supplyAsync(() -> batcher.reserveSeats(2L, 1L), callers);
+        CompletableFuture<Boolean> large = CompletableFuture.supplyAsync(() -> batcher.reserveSeats(1L, 5L), callers);
+
+        // then
+        assertThat(small.join()).isTrue();
+        assertThat(other.join()).isTrue();
+        assertThat(large.join()).isFalse();
+        verify(concertServiceClient, atMost(2)).reserveSeatsBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("묶음 호출이 실패하면 호출자에게 같은 예외를 전달")
+    void rollbackReserveSeats_PropagatesFailure() {
+        // given
+        given(concertServiceClient.rollbackSeatsBatch(anyList())).willThrow(new IllegalStateException("연결 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> batcher.rollbackReserveSeats(1L, 2L, "rollback:1"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("연결 실패");
+    }
+}
@@ -1,9 +1,13 @@
 package com.ticket.reservationservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.reservationservice.client.ConcertLoader;
+import com.ticket.reservationservice.client.ConcertResponse;
 import com.ticket.reservationservice.domain.ReservationStatus;
 import com.ticket.reservationservice.dto.ReservationRequest;
 import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.export.ExportFormat;
+import com.ticket.reservationservice.export.ReservationExporter;
 import com.ticket.reservationservice.service.ReservationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,10 +23,12 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,6 +42,12 @@ class ReservationControllerTest {
     @Mock
     private ReservationService reservationService;
 
+    @Mock
+    private ConcertLoader concertLoader;
+
+    @Mock
+    private ReservationExporter reservationExporter;
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper = new ObjectMapper();
     private ReservationResponse reservationResponse;
@@ -75,8 +87,8 @@ class ReservationControllerTest {
 
         mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.reservationId").value(reservationResponse.getReservationId()))
-                .andExpect(jsonPath("$.concertId").value(reservationResponse.getConcertId()))
+                .andExpect(jsonPath("$.reservationId").value(String.valueOf(reservationResponse.getReservationId())))
+                .andExpect(jsonPath("$.concertId").value(String.valueOf(reservationResponse.getConcertId())))
                 .andExpect(jsonPath("$.userEmail").value(reservationResponse.getUserEmail()))
                 .andExpect(jsonPath("$.quantity").value(reservationResponse.getQuantity()));
     }
@@ -98,11 +110,25 @@ class ReservationControllerTest {
         mockMvc.perform(get("/reservations/user")
                         .header("X-User", "test@test.com"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].reservationId").value(reservationResponse.getReservationId()))
-                .andExpect(jsonPath("$[0].concertId").value(reservationResponse.getConcertId()))
+                .andExpect(jsonPath("$[0].reservationId").value(String.valueOf(reservationResponse.getReservationId())))
+                .andExpect(jsonPath("$[0].concertId").value(String.valueOf(reservationResponse.getConcertId())))
                 .andExpect(jsonPath("$[0].userEmail").value(reservationResponse.getUserEmail()));
     }
 
+    @Test
+    void testGetReservationsByUser_WithConcertInfo() throws Exception {
+        LocalDateTime concertDate = LocalDateTime.of(2025, 5, 10, 18, 30);
+        when(reservationService.findReservationsByUserEmail(anyString())).thenReturn(List.of(reservationResponse));
+        when(concertLoader.loadAll(List.of(1L)))
+                .thenReturn(Map.of(1L, new ConcertResponse(1L, "콘서트 제목", concertDate, 100L)));
+
+        mockMvc.perform(get("/reservations/user")
+                        .header("X-User", "test@test.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].reservationId").value(String.valueOf(reservationResponse.getReservationId())))
+                .andExpect(jsonPath("$[0].concertTitle").value("콘서트 제목"));
+    }
+
     @Test
     void testGetReservationsByConcert() throws Exception {
         List<ReservationResponse> reservations = Arrays.asList(reservationResponse);
@@ -110,8 +136,23 @@ class ReservationControllerTest {
 
         mockMvc.perform(get("/reservations/concert/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].reservationId").value(reservationResponse.getReservationId()))
-                .andExpect(jsonPath("$[0].concertId").value(reservationResponse.getConcertId()))
+                .andExpect(jsonPath("$[0].reservationId").value(String.valueOf(reservationResponse.getReservationId())))
+                .andExpect(jsonPath("$[0].concertId").value(String.valueOf(reservationResponse.getConcertId())))
                 .andExpect(jsonPath("$[0].userEmail").value(reservationResponse.getUserEmail()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testExportReservationsByConcert_Gzip() throws Exception {
+        mockMvc.perform(get("/reservations/concert/1/export")
+                        .param("format", "ndjson")
+                        .header("X-User", "owner@test.com")
+                        .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"reservations-1.ndjson\""))
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+
+        verify(reservationExporter).authorize(1L, "owner@test.com");
+        verify(reservationExporter).export(eq(1L), eq(ExportFormat.NDJSON), any());
+    }
+}
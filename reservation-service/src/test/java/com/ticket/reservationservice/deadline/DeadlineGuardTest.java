@@ -0,0 +1,47 @@
+package com.ticket.reservationservice.deadline;
+
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeadlineGuard deadlineGuard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        deadlineGuard = new DeadlineGuard(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("마감 시각이 없거나 남아 있으면 통과")
+    void check_NotExpired() {
+        assertThatCode(() -> deadlineGuard.check(null, "queue")).doesNotThrowAnyException();
+        assertThatCode(() -> deadlineGuard.check(System.currentTimeMillis() + 10_000, "queue"))
+                .doesNotThrowAnyException();
+        assertThat(meterRegistry.find(DeadlineGuard.DROPPED_METRIC).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("마감 시각이 지나면 예외를 던지고 단계별로 집계")
+    void check_Expired() {
+        Long deadline = System.currentTimeMillis() - 1;
+
+        assertThatThrownBy(() -> deadlineGuard.check(deadline, "queue"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.DEADLINE_EXCEEDED);
+
+        assertThat(meterRegistry.get(DeadlineGuard.DROPPED_METRIC).tag("stage", "queue").counter().count())
+                .isEqualTo(1.0);
+    }
+}
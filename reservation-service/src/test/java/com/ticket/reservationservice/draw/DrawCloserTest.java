@@ -0,0 +1,153 @@
+package com.ticket.reservationservice.draw;
+
+import com.ticket.reservationservice.cache.ReservationListCache;
+import com.ticket.reservationservice.client.ConcertResponse;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.domain.ConcertDraw;
+import com.ticket.reservationservice.domain.Reservation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DrawCloserTest {
+
+    private static final Long CONCERT_ID = 100L;
+
+    @Mock
+    private DrawLedger drawLedger;
+    @Mock
+    private DrawEntryLog entryLog;
+    @Mock
+    private DrawConcerts drawConcerts;
+    @Mock
+    private ConcertServiceClient concertServiceClient;
+    @Mock
+    private ReservationListCache reservationListCache;
+    @Mock
+    private RedissonClient redissonClient;
+
+    private DrawCloser drawCloser;
+    private ConcertDraw draw;
+
+    @BeforeEach
+    void setUp() {
+        drawCloser = new DrawCloser(drawLedger, entryLog, drawConcerts, concertServiceClient, reservationListCache,
+                redissonClient, new SimpleMeterRegistry(), 2, 1, Duration.ofDays(1));
+        draw = new ConcertDraw(CONCERT_ID, "owner@example.com", null, LocalDateTime.now().minusMinutes(1), 42L);
+        given(drawLedger.find(CONCERT_ID)).willReturn(draw);
+        willAnswer(invocation -> {
+            Consumer<List<String>> consumer = invocation.getArgument(2);
+            consumer.accept(List.of("1:a@example.com", "1:b@example.com"));
+            consumer.accept(List.of("1:c@example.com", "1:d@example.com"));
+            consumer.accept(List.of("1:e@example.com"));
+            return null;
+        }).given(entryLog).forEachPage(eq(CONCERT_ID), eq(2), any());
+    }
+
+    @Test
+    @DisplayName("잔여 좌석만큼 당첨자를 뽑아 좌석을 한 번에 잡고 당첨 예매를 나눠 저장한다")
+    void close_AllocatesWinners() {
+        // given
+        given(concertServiceClient.getConcert(CONCERT_ID))
+                .willReturn(new ConcertResponse(CONCERT_ID, "concert", LocalDateTime.now(), 3L));
+        given(drawLedger.startDrawing(CONCERT_ID, 3L)).willAnswer(invocation -> {
+            draw.startDrawing(3L);
+            return draw;
+        });
+        given(concertServiceClient.reserveSeats(CONCERT_ID, 3L)).willReturn(true);
+        given(drawLedger.hold(CONCERT_ID, 3L)).willAnswer(invocation -> {
+            draw.hold(3L);
+            return draw;
+        });
+        given(drawLedger.allocate(eq(CONCERT_ID), anyList(), anyInt()))
+                .willReturn(List.of(Reservation.createReservation(CONCERT_ID, "a@example.com", 1L)));
+
+        // when
+        drawCloser.close(CONCERT_ID);
+
+        // then
+        verify(entryLog).close(CONCERT_ID);
+        verify(drawLedger, times(3)).allocate(eq(CONCERT_ID), anyList(), anyInt());
+        verify(drawLedger).allocate(eq(CONCERT_ID), anyList(), eq(3));
+        verify(entryLog, times(3)).recordWinners(eq(CONCERT_ID), anyList());
+        verify(drawLedger).finish(CONCERT_ID);
+        verify(drawConcerts).finished(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("이미 좌석을 잡은 추첨은 저장된 위치부터 이어서 진행한다")
+    void close_ResumesFromCheckpoint() {
+        // given
+        draw.startDrawing(3L);
+        draw.hold(3L);
+        draw.advance(2);
+        given(drawLedger.allocate(eq(CONCERT_ID), anyList(), anyInt())).willReturn(List.of());
+
+        // when
+        drawCloser.close(CONCERT_ID);
+
+        // then
+        verify(concertServiceClient, never()).reserveSeats(anyLong(), anyLong());
+        verify(drawLedger, times(1)).allocate(eq(CONCERT_ID), anyList(), eq(3));
+        verify(drawLedger).finish(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("당첨 예매를 저장하기 전에 당첨 결과를 먼저 기록한다")
+    void close_RecordsWinnersBeforeAllocating() {
+        // given
+        draw.startDrawing(3L);
+        draw.hold(3L);
+        draw.advance(2);
+        given(drawLedger.allocate(eq(CONCERT_ID), anyList(), anyInt())).willThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        assertThatThrownBy(() -> drawCloser.close(CONCERT_ID))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        InOrder inOrder = inOrder(entryLog, drawLedger);
+        inOrder.verify(entryLog).recordWinners(eq(CONCERT_ID), anyList());
+        inOrder.verify(drawLedger).allocate(eq(CONCERT_ID), anyList(), eq(3));
+        verify(drawLedger, never()).finish(anyLong());
+    }
+
+    @Test
+    @DisplayName("좌석을 잡지 못하면 예매를 만들지 않고 다음 실행에서 다시 시도한다")
+    void close_ReserveFailed() {
+        // given
+        draw.startDrawing(3L);
+        given(concertServiceClient.reserveSeats(CONCERT_ID, 3L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> drawCloser.close(CONCERT_ID))
+                .isInstanceOf(IllegalStateException.class);
+        verify(drawLedger, never()).allocate(anyLong(), anyList(), anyInt());
+        verify(drawLedger, never()).finish(anyLong());
+    }
+}
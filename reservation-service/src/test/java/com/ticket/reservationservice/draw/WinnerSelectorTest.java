@@ -0,0 +1,62 @@
+package com.ticket.reservationservice.draw;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WinnerSelectorTest {
+
+    @Test
+    @DisplayName("같은 seed 면 응모 순서와 관계없이 같은 당첨자가 나온다")
+    void winners_SameSeedSameWinners() {
+        // given
+        WinnerSelector forward = new WinnerSelector(42L, 10);
+        WinnerSelector backward = new WinnerSelector(42L, 10);
+        for (int i = 0; i < 1000; i++) {
+            forward.offer("user" + i + "@example.com", 2);
+            backward.offer("user" + (999 - i) + "@example.com", 2);
+        }
+
+        // when
+        List<WinnerSelector.Candidate> first = forward.winners();
+        List<WinnerSelector.Candidate> second = backward.winners();
+
+        // then
+        assertThat(first).hasSize(5);
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("당첨 수량 합계는 추첨 좌석 수를 넘지 않고, 남은 좌석보다 큰 응모는 건너뛴다")
+    void winners_FitsSeatBudget() {
+        // given
+        WinnerSelector selector = new WinnerSelector(7L, 5);
+        for (int i = 0; i < 100; i++) {
+            selector.offer("user" + i + "@example.com", i % 4 + 1);
+        }
+
+        // when
+        List<WinnerSelector.Candidate> winners = selector.winners();
+
+        // then
+        assertThat(winners.stream().mapToLong(WinnerSelector.Candidate::quantity).sum()).isLessThanOrEqualTo(5);
+        assertThat(winners).isSortedAccordingTo((a, b) -> Long.compare(a.priority(), b.priority()));
+    }
+
+    @Test
+    @DisplayName("좌석이 없거나 추첨 좌석보다 많이 신청한 응모는 당첨되지 않는다")
+    void winners_SkipsOversizedEntries() {
+        // given
+        WinnerSelector empty = new WinnerSelector(1L, 0);
+        empty.offer("a@example.com", 1);
+        WinnerSelector small = new WinnerSelector(1L, 2);
+        small.offer("b@example.com", 3);
+
+        // when & then
+        assertThat(empty.winners()).isEmpty();
+        assertThat(small.winners()).isEmpty();
+    }
+}
@@ -0,0 +1,122 @@
+package com.ticket.reservationservice.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.reservationservice.client.ConcertResponse;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.domain.Reservation;
+import com.ticket.reservationservice.domain.ReservationStatus;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExporterTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ConcertServiceClient concertServiceClient;
+    @Mock
+    private EntityManager entityManager;
+
+    private ReservationExporter reservationExporter;
+    private final LocalDateTime reservedAt = LocalDateTime.of(2025, 5, 10, 18, 30);
+
+    @BeforeEach
+    void setUp() {
+        reservationExporter = new ReservationExporter(reservationRepository, concertServiceClient, entityManager,
+                new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("CSV 로 내보내면 헤더 뒤에 한 행씩 쓰고, 쓴 행은 영속성 컨텍스트에서 떼어 낸다")
+    void export_Csv() throws Exception {
+        // given
+        given(reservationRepository.streamByConcertId(1L)).willReturn(Stream.of(
+                reservation(1L, "a@test.com", ReservationStatus.CONFIRMED),
+                reservation(2L, "b,\"c\"@test.com", ReservationStatus.CANCELLED)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long rows = reservationExporter.export(1L, ExportFormat.CSV, out);
+
+        // then
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                ReservationExporter.CSV_HEADER + "\n"
+                        + "1,1,a@test.com,2,CONFIRMED,2025-05-10T18:30,\n"
+                        + "2,1,\"b,\"\"c\"\"@test.com\",2,CANCELLED,2025-05-10T18:30,\n");
+        verify(entityManager, times(2)).detach(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("NDJSON 으로 내보내면 예매 하나가 한 줄의 JSON 이 된다")
+    void export_Ndjson() throws Exception {
+        // given
+        given(reservationRepository.streamByConcertId(1L)).willReturn(Stream.of(
+                reservation(1L, "a@test.com", ReservationStatus.CONFIRMED),
+                reservation(2L, "b@test.com", ReservationStatus.CONFIRMED)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        reservationExporter.export(1L, ExportFormat.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"reservationId\":\"1\",").contains("\"userEmail\":\"a@test.com\"");
+        assertThat(lines[1]).startsWith("{\"reservationId\":\"2\",");
+    }
+
+    @Test
+    @DisplayName("수식으로 시작하는 값은 앞에 ' 를 붙여 스프레드시트가 실행하지 않게 한다")
+    void csvField_EscapesFormula() {
+        // when & then
+        assertThat(ReservationExporter.csvField("=HYPERLINK(\"http://x\")@test.com"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")@test.com\"");
+        assertThat(ReservationExporter.csvField("+1@test.com")).isEqualTo("'+1@test.com");
+        assertThat(ReservationExporter.csvField("-1@test.com")).isEqualTo("'-1@test.com");
+        assertThat(ReservationExporter.csvField("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(ReservationExporter.csvField("a=b@test.com")).isEqualTo("a=b@test.com");
+    }
+
+    @Test
+    @DisplayName("공연 등록자가 아니면 내보낼 수 없다")
+    void authorize_NotOwner() {
+        // given
+        ConcertResponse concert = new ConcertResponse(1L, "콘서트", reservedAt, 100L);
+        given(concertServiceClient.getConcert(1L)).willReturn(concert);
+
+        // when & then
+        assertThatThrownBy(() -> reservationExporter.authorize(1L, "other@test.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Reservation reservation(Long reservationId, String userEmail, ReservationStatus status) {
+        return Reservation.builder()
+                .reservationId(reservationId)
+                .concertId(1L)
+                .userEmail(userEmail)
+                .quantity(2L)
+                .status(status)
+                .reservedAt(reservedAt)
+                .build();
+    }
+}
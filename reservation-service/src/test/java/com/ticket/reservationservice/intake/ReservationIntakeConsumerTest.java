@@ -0,0 +1,133 @@
+package com.ticket.reservationservice.intake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.reservationservice.domain.Reservation;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.service.ReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationIntakeConsumerTest {
+
+    @Mock
+    private ReservationService reservationService;
+    @Mock
+    private ReservationTicketStore ticketStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ReservationIntakeConsumer consumer;
+    private String payload;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        consumer = new ReservationIntakeConsumer(reservationService, ticketStore, objectMapper);
+        payload = objectMapper.writeValueAsString(new IntakeMessage("1", 100L, "test@example.com", 2L));
+    }
+
+    @Test
+    @DisplayName("접수 메시지 처리 성공 시 티켓 확정")
+    void consume_Success() {
+        // given
+        Reservation reservation = Reservation.builder().reservationId(10L).concertId(100L).quantity(2L).build();
+        given(ticketStore.find("1")).willReturn(Optional.of(ReservationTicket.pending("1", 100L, "test@example.com", 2L)));
+        given(ticketStore.claim("1")).willReturn(true);
+        given(reservationService.createReservation(100L, "test@example.com", 2L))
+                .willReturn(new ReservationResponse(reservation));
+
+        // when
+        consumer.consume(payload);
+
+        // then
+        ArgumentCaptor<ReservationTicket> captor = ArgumentCaptor.forClass(ReservationTicket.class);
+        verify(ticketStore).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(TicketStatus.CONFIRMED);
+        assertThat(captor.getValue().getReservationId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("예매 실패 시 티켓에 실패 사유 기록")
+    void consume_Failure() {
+        // given
+        given(ticketStore.find("1")).willReturn(Optional.of(ReservationTicket.pending("1", 100L, "test@example.com", 2L)));
+        given(ticketStore.claim("1")).willReturn(true);
+        given(reservationService.createReservation(100L, "test@example.com", 2L))
+                .willThrow(new IllegalStateException("좌석 예매에 실패했습니다."));
+
+        // when
+        consumer.consume(payload);
+
+        // then
+        ArgumentCaptor<ReservationTicket> captor = ArgumentCaptor.forClass(ReservationTicket.class);
+        verify(ticketStore).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(TicketStatus.FAILED);
+        assertThat(captor.getValue().getReason()).isEqualTo("좌석 예매에 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("이미 처리된 티켓의 재전달 메시지는 무시")
+    void consume_AlreadyProcessed() {
+        // given
+        ReservationTicket confirmed = ReservationTicket.pending("1", 100L, "test@example.com", 2L).confirmed(10L);
+        given(ticketStore.find("1")).willReturn(Optional.of(confirmed));
+
+        // when
+        consumer.consume(payload);
+
+        // then
+        verify(reservationService, never()).createReservation(anyLong(), anyString(), anyLong());
+        verify(ticketStore, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("예약 후 티켓 저장 전에 재전달된 메시지는 선점에 실패해 다시 예약하지 않음")
+    void consume_RedeliveredAfterClaim() {
+        // given
+        given(ticketStore.find("1")).willReturn(Optional.of(ReservationTicket.pending("1", 100L, "test@example.com", 2L)));
+        given(ticketStore.claim("1")).willReturn(false);
+
+        // when
+        consumer.consume(payload);
+
+        // then
+        verify(reservationService, never()).createReservation(anyLong(), anyString(), anyLong());
+        verify(ticketStore, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("티켓을 선점한 뒤에 좌석을 예약")
+    void consume_ClaimsBeforeReserving() {
+        // given
+        Reservation reservation = Reservation.builder().reservationId(10L).concertId(100L).quantity(2L).build();
+        given(ticketStore.find("1")).willReturn(Optional.of(ReservationTicket.pending("1", 100L, "test@example.com", 2L)));
+        given(ticketStore.claim("1")).willReturn(true);
+        given(reservationService.createReservation(100L, "test@example.com", 2L))
+                .willReturn(new ReservationResponse(reservation));
+
+        // when
+        consumer.consume(payload);
+
+        // then
+        InOrder inOrder = inOrder(ticketStore, reservationService);
+        inOrder.verify(ticketStore).claim("1");
+        inOrder.verify(reservationService).createReservation(100L, "test@example.com", 2L);
+        inOrder.verify(ticketStore).save(any());
+    }
+}
@@ -0,0 +1,163 @@
+package com.ticket.reservationservice.limit;
+
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import com.ticket.reservationservice.domain.ReservationStatus;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBucket;
+import org.redisson.api.RKeys;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PurchaseLimiterTest {
+
+    private static final String USER = "test@example.com";
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RScript script;
+    @Mock
+    private RBucket<String> bucket;
+    @Mock
+    private RKeys keys;
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PurchaseLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new PurchaseLimiter(redissonClient, reservationRepository, meterRegistry,
+                4, Duration.ofDays(30), Duration.ofSeconds(2), 100);
+    }
+
+    @Test
+    @DisplayName("한도 안의 구매는 카운터를 올리고 통과한다")
+    void acquire_WithinLimit() {
+        // given
+        givenAcquireReturns(List.of(1L, 2L));
+
+        // when & then
+        assertThatCode(() -> limiter.acquire(USER, 100L, 2L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Redis 에서 한도 초과로 거절되면 이후 요청은 메모리에서 바로 거절한다")
+    void acquire_RejectedThenRejectedLocally() {
+        // given
+        givenAcquireReturns(List.of(0L, 4L));
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire(USER, 100L, 1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PURCHASE_LIMIT_EXCEEDED);
+        assertThatThrownBy(() -> limiter.acquire(USER, 100L, 1L))
+                .isInstanceOf(BusinessException.class);
+
+        verify(script, times(1)).eval(eq(RScript.Mode.READ_WRITE), eq(PurchaseLimiter.ACQUIRE_SCRIPT),
+                eq(RScript.ReturnType.MULTI), anyList(), any(Object[].class));
+        assertThat(meterRegistry.get(PurchaseLimiter.METRIC + ".rejected").tag("source", "local").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 DB 의 유효 예매 합계로 채운 뒤 다시 확인한다")
+    void acquire_SeedsMissingCounter() {
+        // given
+        given(redissonClient.getScript(any(Codec.class))).willReturn(script);
+        given(script.<List<Long>>eval(eq(RScript.Mode.READ_WRITE), eq(PurchaseLimiter.ACQUIRE_SCRIPT),
+                eq(RScript.ReturnType.MULTI), anyList(), any(Object[].class)))
+                .willReturn(List.of(-1L, 0L), List.of(0L, 3L));
+        given(reservationRepository.sumQuantityByUserAndConcert(USER, 100L, ReservationStatus.CANCELLED)).willReturn(3L);
+        given(redissonClient.<String>getBucket(anyString(), any(Codec.class))).willReturn(bucket);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire(USER, 100L, 2L))
+                .isInstanceOf(BusinessException.class);
+        verify(bucket).setIfAbsent("3", Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("Redis 를 쓸 수 없으면 예매를 막지 않는다")
+    void acquire_BypassesWhenRedisFails() {
+        // given
+        given(redissonClient.getScript(any(Codec.class))).willThrow(new IllegalStateException("연결 실패"));
+
+        // when & then
+        assertThatCode(() -> limiter.acquire(USER, 100L, 2L)).doesNotThrowAnyException();
+        assertThat(meterRegistry.get(PurchaseLimiter.METRIC + ".bypassed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("추첨 응모 확인 - 이미 산 수량과 합쳐 한도를 넘으면 거절하고 카운터는 올리지 않는다")
+    void check_CountsExistingPurchases() {
+        // given
+        given(redissonClient.<String>getBucket(anyString(), any(Codec.class))).willReturn(bucket);
+        given(bucket.get()).willReturn("3");
+
+        // when & then
+        assertThatThrownBy(() -> limiter.check(USER, 100L, 2L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PURCHASE_LIMIT_EXCEEDED);
+        assertThatCode(() -> limiter.check(USER, 100L, 1L)).doesNotThrowAnyException();
+        verify(redissonClient, never()).getScript(any(Codec.class));
+    }
+
+    @Test
+    @DisplayName("추첨 응모 확인 - 카운터가 없으면 DB 의 유효 예매 합계로 확인한다")
+    void check_FallsBackToDatabase() {
+        // given
+        given(redissonClient.<String>getBucket(anyString(), any(Codec.class))).willReturn(bucket);
+        given(reservationRepository.sumQuantityByUserAndConcert(USER, 100L, ReservationStatus.CANCELLED)).willReturn(4L);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.check(USER, 100L, 1L))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("카운터 밖에서 저장된 예매가 있으면 카운터를 지워 다음 확인 때 다시 채운다")
+    void forgetAfterCommit_DeletesCounters() {
+        // given
+        given(redissonClient.getKeys()).willReturn(keys);
+
+        // when
+        limiter.forgetAfterCommit(100L, List.of(USER, "other@example.com"));
+
+        // then
+        verify(keys).delete("reservation:purchased:100:" + USER, "reservation:purchased:100:other@example.com");
+    }
+
+    private void givenAcquireReturns(List<Long> result) {
+        given(redissonClient.getScript(any(Codec.class))).willReturn(script);
+        given(script.<List<Long>>eval(eq(RScript.Mode.READ_WRITE), eq(PurchaseLimiter.ACQUIRE_SCRIPT),
+                eq(RScript.ReturnType.MULTI), anyList(), any(Object[].class))).willReturn(result);
+    }
+}
@@ -0,0 +1,173 @@
+package com.ticket.reservationservice.pipeline;
+
+import com.ticket.common.deadline.RequestDeadline;
+import com.ticket.common.exception.BusinessException;
+import com.ticket.reservationservice.cache.ReservationListCache;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.client.SeatReservationItem;
+import com.ticket.reservationservice.client.SeatReservationResult;
+import com.ticket.reservationservice.deadline.DeadlineGuard;
+import com.ticket.reservationservice.domain.ReservationStatus;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import com.ticket.reservationservice.service.SeatCompensationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationPipelineTest {
+
+    @Mock
+    private ConcertServiceClient concertServiceClient;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private SeatCompensationService seatCompensationService;
+    @Mock
+    private ReservationListCache reservationListCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new ReservationPipeline(concertServiceClient, reservationRepository, seatCompensationService,
+                reservationListCache, new DeadlineGuard(meterRegistry), meterRegistry, 64, "blocking");
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.stop();
+        RequestDeadline.clear();
+    }
+
+    @Test
+    @DisplayName("좌석 예약 후 일괄 저장하고 확정된 예매를 반환")
+    void submit_Success() throws Exception {
+        // given
+        given(concertServiceClient.reserveSeatsBatch(anyList())).willAnswer(invocation -> results(invocation.getArgument(0), true));
+        given(reservationRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        CompletableFuture<ReservationResponse> future = pipeline.submit(100L, "test@example.com", 2L);
+
+        // then
+        ReservationResponse response = future.get(5, TimeUnit.SECONDS);
+        assertThat(response.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(response.getConcertId()).isEqualTo(100L);
+        assertThat(meterRegistry.get(StageTimer.METRIC).tag("stage", "persist").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좌석 예약 실패 시 저장하지 않고 실패")
+    void submit_FailToReserveSeats() {
+        // given
+        given(concertServiceClient.reserveSeatsBatch(anyList())).willAnswer(invocation -> results(invocation.getArgument(0), false));
+
+        // when
+        CompletableFuture<ReservationResponse> future = pipeline.submit(100L, "test@example.com", 2L);
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("좌석 예매에 실패했습니다");
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 잡아 둔 좌석을 되돌리고, 되돌리지 못하면 보상 큐에 남긴다")
+    void submit_SaveFailureRollsBackSeats() {
+        // given
+        given(concertServiceClient.reserveSeatsBatch(anyList())).willAnswer(invocation -> results(invocation.getArgument(0), true));
+        given(reservationRepository.saveAll(anyList())).willThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        CompletableFuture<ReservationResponse> future = pipeline.submit(100L, "test@example.com", 2L);
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        // 롤백 호출에 실은 키로 보상을 남긴다.
+        ArgumentCaptor<List<SeatReservationItem>> items = ArgumentCaptor.forClass(List.class);
+        verify(concertServiceClient, timeout(1000)).rollbackSeatsBatch(items.capture());
+        String compensationKey = items.getValue().get(0).getCompensationKey();
+        assertThat(compensationKey).startsWith("rollback:");
+        verify(seatCompensationService, timeout(1000)).enqueueDetached(compensationKey, 100L, 2L);
+    }
+
+    @Test
+    @DisplayName("예열 요청은 probe 로 좌석 예약을 호출하고 저장하지 않는다")
+    void submitProbe_ReservesWithoutSaving() throws Exception {
+        // given
+        given(concertServiceClient.reserveSeatsBatch(anyList())).willAnswer(invocation -> {
+            List<SeatReservationItem> items = invocation.getArgument(0);
+            assertThat(items).allMatch(SeatReservationItem::isProbe);
+            return results(items, true);
+        });
+
+        // when
+        CompletableFuture<ReservationResponse> future = pipeline.submitProbe(100L, "on-sale-warmup", 1L);
+
+        // then
+        ReservationResponse response = future.get(5, TimeUnit.SECONDS);
+        assertThat(response.getConcertId()).isEqualTo(100L);
+        verify(reservationRepository, never()).saveAll(anyList());
+        verify(concertServiceClient, never()).rollbackSeatsBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("마감 시각이 지난 요청은 좌석 예약 전에 폐기")
+    void submit_DeadlineExpired() {
+        // given
+        RequestDeadline.set(System.currentTimeMillis() - 1);
+
+        // when
+        CompletableFuture<ReservationResponse> future = pipeline.submit(100L, "test@example.com", 2L);
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(BusinessException.class);
+        assertThat(meterRegistry.get(DeadlineGuard.DROPPED_METRIC).tag("stage", "queue").counter().count())
+                .isEqualTo(1.0);
+        verify(concertServiceClient, never()).reserveSeatsBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("잘못된 수량은 검증 단계에서 실패")
+    void submit_InvalidQuantity() {
+        // when
+        CompletableFuture<ReservationResponse> future = pipeline.submit(100L, "test@example.com", 0L);
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        verify(concertServiceClient, never()).reserveSeatsBatch(anyList());
+    }
+
+    private static List<SeatReservationResult> results(List<SeatReservationItem> items, boolean success) {
+        return items.stream()
+                .map(item -> new SeatReservationResult(item.getRequestId(), success))
+                .toList();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ticket.reservationservice.pipeline;
+
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.client.SeatReservationItem;
+import com.ticket.reservationservice.client.SeatReservationResult;
+import com.ticket.reservationservice.deadline.DeadlineGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReserveStageTest {
+
+    @Mock
+    private ConcertServiceClient concertServiceClient;
+
+    private ReserveStage stage;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        stage = new ReserveStage(concertServiceClient, new DeadlineGuard(meterRegistry),
+                new StageTimer(meterRegistry, "reserve"));
+    }
+
+    @Test
+    @DisplayName("한 번에 꺼낸 이벤트는 공연이 달라도 묶음 호출 한 번으로 보낸다")
+    @SuppressWarnings("unchecked")
+    void onEvent_SendsOneBatch() {
+        // given
+        ReservationEvent first = event(100L, 1L);
+        ReservationEvent second = event(200L, 2L);
+        given(concertServiceClient.reserveSeatsBatch(anyList())).willReturn(List.of(
+                new SeatReservationResult("0", true),
+                new SeatReservationResult("1", true)));
+
+        // when
+        stage.onEvent(first, 0, false);
+        stage.onEvent(second, 1, true);
+
+        // then
+        ArgumentCaptor<List<SeatReservationItem>> captor = ArgumentCaptor.forClass(List.class);
+        verify(concertServiceClient, times(1)).reserveSeatsBatch(captor.capture());
+        assertThat(captor.getValue()).extracting(SeatReservationItem::getConcertId).containsExactly(100L, 200L);
+        assertThat(first.seatsReserved).isTrue();
+        assertThat(second.seatsReserved).isTrue();
+    }
+
+    @Test
+    @DisplayName("항목별 결과에 따라 일부만 배정")
+    void onEvent_PartialOutcome() {
+        // given
+        ReservationEvent first = event(100L, 1L);
+        ReservationEvent second = event(100L, 2L);
+        given(concertServiceClient.reserveSeatsBatch(anyList())).willReturn(List.of(
+                new SeatReservationResult("0", true),
+                new SeatReservationResult("1", false)));
+
+        // when
+        stage.onEvent(first, 0, false);
+        stage.onEvent(second, 1, true);
+
+        // then
+        assertThat(first.seatsReserved).isTrue();
+        assertThat(first.isFailed()).isFalse();
+        assertThat(second.seatsReserved).isFalse();
+        assertThat(second.failure).isInstanceOf(IllegalStateException.class);
+    }
+
+    private ReservationEvent event(Long concertId, Long quantity) {
+        ReservationEvent event = new ReservationEvent();
+        event.concertId = concertId;
+        event.userEmail = "test@example.com";
+        event.quantity = quantity;
+        event.stageStartNanos = System.nanoTime();
+        return event;
+    }
+}
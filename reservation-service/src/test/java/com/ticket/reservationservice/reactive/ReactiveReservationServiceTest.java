@@ -0,0 +1,175 @@
+package com.ticket.reservationservice.reactive;
+
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import com.ticket.reservationservice.availability.SoldOutConcerts;
+import com.ticket.reservationservice.deadline.DeadlineGuard;
+import com.ticket.reservationservice.domain.ReservationStatus;
+import com.ticket.reservationservice.draw.DrawConcerts;
+import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.limit.PurchaseLimiter;
+import com.ticket.reservationservice.service.SeatCompensationService;
+import com.ticket.reservationservice.waitlist.SeatWaitlist;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveReservationServiceTest {
+
+    @InjectMocks
+    private ReactiveReservationService reservationService;
+
+    @Mock
+    private ReactiveReservationRepository reservationRepository;
+    @Mock
+    private R2dbcEntityTemplate entityTemplate;
+    @Mock
+    private ReactiveConcertClient concertClient;
+    @Mock
+    private SeatCompensationService seatCompensationService;
+    @Mock
+    private SeatWaitlist seatWaitlist;
+    @Mock
+    private SoldOutConcerts soldOutConcerts;
+    @Mock
+    private DrawConcerts drawConcerts;
+    @Mock
+    private PurchaseLimiter purchaseLimiter;
+    @Mock
+    private DeadlineGuard deadlineGuard;
+
+    @Test
+    @DisplayName("예매 생성 성공 - 좌석 예약 후 확정 상태로 저장")
+    void createReservation_Success() {
+        // given
+        given(concertClient.reserveSeats(100L, 2L, null)).willReturn(Mono.just(true));
+        given(entityTemplate.insert(any(ReservationRow.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // when
+        ReservationResponse response = reservationService.createReservation(100L, "test@example.com", 2L, null).block();
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getReservationId()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        verify(concertClient, never()).rollbackReserveSeats(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("예매 생성 실패 - 좌석 예약 실패 시 저장하지 않는다")
+    void createReservation_FailToReserveSeats() {
+        // given
+        given(concertClient.reserveSeats(100L, 2L, null)).willReturn(Mono.just(false));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservation(100L, "test@example.com", 2L, null).block())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("좌석 예매에 실패했습니다.");
+        verify(entityTemplate, never()).insert(any(ReservationRow.class));
+        verify(purchaseLimiter).release("test@example.com", 100L, 2L);
+    }
+
+    @Test
+    @DisplayName("예매 생성 실패 - 저장 실패 후 롤백도 실패하면 보상 큐에 남긴다")
+    void createReservation_SaveFailureIsCompensated() {
+        // given
+        given(concertClient.reserveSeats(100L, 2L, null)).willReturn(Mono.just(true));
+        given(entityTemplate.insert(any(ReservationRow.class)))
+                .willReturn(Mono.error(new IllegalStateException("DB 오류")));
+        given(concertClient.rollbackReserveSeats(eq(100L), eq(2L), anyString()))
+                .willReturn(Mono.error(new IllegalStateException("연결 실패")));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservation(100L, "test@example.com", 2L, null).block())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("DB 오류");
+        ArgumentCaptor<String> compensationKey = ArgumentCaptor.forClass(String.class);
+        verify(concertClient).rollbackReserveSeats(eq(100L), eq(2L), compensationKey.capture());
+        verify(seatCompensationService).enqueueDetached(compensationKey.getValue(), 100L, 2L);
+        verify(purchaseLimiter).release("test@example.com", 100L, 2L);
+    }
+
+    @Test
+    @DisplayName("예매 생성 실패 - 구매 한도를 넘으면 concert-service 를 호출하지 않는다")
+    void createReservation_PurchaseLimitExceeded() {
+        // given
+        willThrow(new BusinessException(ErrorCode.PURCHASE_LIMIT_EXCEEDED))
+                .given(purchaseLimiter).acquire("test@example.com", 100L, 2L);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservation(100L, "test@example.com", 2L, null).block())
+                .isInstanceOf(BusinessException.class);
+        verify(concertClient, never()).reserveSeats(anyLong(), anyLong(), any());
+        verify(purchaseLimiter, never()).release(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("예매 생성 실패 - 매진 공연은 concert-service 를 호출하지 않는다")
+    void createReservation_SoldOut() {
+        // given
+        given(soldOutConcerts.reject(100L)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservation(100L, "test@example.com", 2L, null).block())
+                .isInstanceOf(BusinessException.class);
+        verify(concertClient, never()).reserveSeats(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("예매 취소 성공 - 취소 저장 후 좌석 반환을 보상 큐에 남긴다")
+    void cancelReservation_Success() {
+        // given
+        ReservationRow row = new ReservationRow(1L, 100L, "test@example.com", 2L,
+                ReservationStatus.CONFIRMED, LocalDateTime.now(), null);
+        given(reservationRepository.findById(1L)).willReturn(Mono.just(row));
+        given(reservationRepository.save(row)).willReturn(Mono.just(row));
+
+        // when
+        reservationService.cancelReservation(1L, "test@example.com").block();
+
+        // then
+        assertThat(row.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        verify(seatCompensationService).enqueue("cancel:1", 100L, 2L);
+        verify(purchaseLimiter).releaseAfterCommit("test@example.com", 100L, 2L);
+    }
+
+    @Test
+    @DisplayName("예매 취소 - 취소 대기자가 있으면 좌석을 풀에 돌려주지 않고 잡아 둔다")
+    void cancelReservation_HoldsSeatsForWaitlist() {
+        // given
+        ReservationRow row = new ReservationRow(1L, 100L, "test@example.com", 2L,
+                ReservationStatus.CONFIRMED, LocalDateTime.now(), null);
+        given(reservationRepository.findById(1L)).willReturn(Mono.just(row));
+        given(reservationRepository.save(row)).willReturn(Mono.just(row));
+        given(seatWaitlist.hasWaiters(100L)).willReturn(true);
+
+        // when
+        reservationService.cancelReservation(1L, "test@example.com").block();
+
+        // then
+        verify(seatCompensationService).hold("cancel:1", 100L, 2L);
+        verify(seatCompensationService, never()).enqueue(anyString(), anyLong(), anyLong());
+        verify(purchaseLimiter).releaseAfterCommit("test@example.com", 100L, 2L);
+    }
+}
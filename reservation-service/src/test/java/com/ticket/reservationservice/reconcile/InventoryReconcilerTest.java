@@ -0,0 +1,123 @@
+package com.ticket.reservationservice.reconcile;
+
+import com.ticket.reservationservice.client.ConcertInventory;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.domain.CompensationStatus;
+import com.ticket.reservationservice.repository.SeatCompensationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryReconcilerTest {
+
+    @Mock
+    private ReservationScanner scanner;
+    @Mock
+    private ReconciliationLedger ledger;
+    @Mock
+    private SeatCompensationRepository compensationRepository;
+    @Mock
+    private ConcertServiceClient concertServiceClient;
+    @Mock
+    private RedissonClient redissonClient;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("처음 관측된 차이는 보정하지 않고 표시만 한다")
+    void run_FlagsFirstDrift() {
+        // given
+        InventoryReconciler reconciler = reconciler(true);
+        givenCaughtUpWindowWithDrift(1);
+
+        // when
+        reconciler.run();
+
+        // then
+        verify(ledger).advance(any(LocalDateTime.class), eq(Map.of(1L, 5L)));
+        verify(concertServiceClient, never()).adjustSeats(anyLong(), anyLong());
+        assertThat(meterRegistry.get("reservation.reconciliation.drift").tag("action", "flagged").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("reservation.reconciliation.scanned-rows").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("같은 차이가 연속으로 보이면 잔여 좌석을 보정한다")
+    void run_RepairsPersistentDrift() {
+        // given
+        InventoryReconciler reconciler = reconciler(true);
+        givenCaughtUpWindowWithDrift(2);
+        given(concertServiceClient.adjustSeats(1L, -2L)).willReturn(true);
+
+        // when
+        reconciler.run();
+
+        // then
+        verify(ledger).markRepaired(1L);
+        assertThat(meterRegistry.get("reservation.reconciliation.drift").tag("action", "repaired").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("체크포인트가 많이 뒤처져 있으면 구간만 반영하고 대조는 하지 않는다")
+    void run_CatchingUpSkipsCompare() {
+        // given
+        InventoryReconciler reconciler = reconciler(true);
+        LocalDateTime watermark = LocalDateTime.now().minusDays(1);
+        given(ledger.watermark()).willReturn(watermark);
+        given(scanner.scan(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(new ReservationScanner.ScanResult(Map.of(1L, 5L), 3));
+
+        // when
+        reconciler.run();
+
+        // then
+        verify(ledger).advance(watermark.plusHours(6), Map.of(1L, 5L));
+        verify(concertServiceClient, never()).getInventories(anyList());
+    }
+
+    // 전체 100석, 예매 누계 5석, 잔여 97석 -> 잔여가 2석 많다.
+    private void givenCaughtUpWindowWithDrift(int runs) {
+        given(ledger.watermark()).willReturn(LocalDateTime.now().minusMinutes(10));
+        given(scanner.scan(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(new ReservationScanner.ScanResult(Map.of(1L, 5L), 3),
+                        new ReservationScanner.ScanResult(Map.of(), 0));
+        given(ledger.driftedConcertIds()).willReturn(List.of());
+        given(ledger.reservedTotals(anyList())).willReturn(Map.of(1L, 5L));
+        given(compensationRepository.sumByConcert(eq(CompensationStatus.PENDING), anyList())).willReturn(List.of());
+        given(concertServiceClient.getInventories(anyList())).willReturn(List.of(new ConcertInventory(1L, 100L, 97L)));
+        given(ledger.recordDrifts(anyMap())).willReturn(Map.of(1L, runs));
+    }
+
+    private InventoryReconciler reconciler(boolean autoRepair) {
+        return new InventoryReconciler(scanner, ledger, compensationRepository, concertServiceClient, redissonClient,
+                meterRegistry, Duration.ofSeconds(30), Duration.ofHours(6), autoRepair);
+    }
+}
@@ -0,0 +1,65 @@
+package com.ticket.reservationservice.repository;
+
+import com.ticket.reservationservice.domain.Reservation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "reservation.export.fetch-size=2")
+class ReservationRepositoryTest {
+
+    // Feign 클라이언트 등 애플리케이션 설정은 빼고 JPA 만 올린다.
+    @Configuration
+    @EntityScan(basePackageClasses = Reservation.class)
+    @EnableJpaRepositories(basePackageClasses = ReservationRepository.class)
+    static class JpaConfig {
+    }
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationStreamRepositoryImpl streamRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("공연별 예매를 id 순서로 fetch size 보다 많이 스트리밍한다")
+    void streamByConcertId_StreamsInOrder() {
+        // given
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Reservation reservation = Reservation.createReservation(1L, "user" + i + "@test.com", 1L);
+            expected.add(reservationRepository.save(reservation).getReservationId());
+        }
+        reservationRepository.save(Reservation.createReservation(2L, "other@test.com", 1L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> streamed;
+        try (Stream<Reservation> reservations = reservationRepository.streamByConcertId(1L)) {
+            streamed = reservations.map(Reservation::getReservationId).toList();
+        }
+
+        // then
+        assertThat(streamed).containsExactlyElementsOf(expected.stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("MySQL 이 아니면 음수(스트리밍 모드) 대신 설정한 fetch size 를 쓴다")
+    void streamingFetchSize_NonMySql() {
+        // when & then
+        assertThat(streamRepository.streamingFetchSize()).isEqualTo(2);
+    }
+}
@@ -1,14 +1,25 @@
 package com.ticket.reservationservice.service;
 
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import com.ticket.reservationservice.availability.SoldOutConcerts;
+import com.ticket.reservationservice.cache.ReservationListCache;
+import com.ticket.reservationservice.client.ConcertSeatBatcher;
 import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.deadline.DeadlineGuard;
 import com.ticket.reservationservice.domain.Reservation;
 import com.ticket.reservationservice.domain.ReservationStatus;
+import com.ticket.reservationservice.draw.DrawConcerts;
+import com.ticket.reservationservice.limit.PurchaseLimiter;
 import com.ticket.reservationservice.dto.ReservationResponse;
+import com.ticket.reservationservice.pipeline.ReservationPipeline;
 import com.ticket.reservationservice.repository.ReservationRepository;
+import com.ticket.reservationservice.waitlist.SeatWaitlist;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,7 +37,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -38,6 +52,24 @@ class ReservationServiceTest {
     private ReservationRepository reservationRepository;
     @Mock
     private ConcertServiceClient concertServiceClient;
+    @Mock
+    private DeadlineGuard deadlineGuard;
+    @Mock
+    private ReservationPipeline reservationPipeline;
+    @Mock
+    private ConcertSeatBatcher seatBatcher;
+    @Mock
+    private SeatCompensationService seatCompensationService;
+    @Mock
+    private SoldOutConcerts soldOutConcerts;
+    @Mock
+    private ReservationListCache reservationListCache;
+    @Mock
+    private PurchaseLimiter purchaseLimiter;
+    @Mock
+    private DrawConcerts drawConcerts;
+    @Mock
+    private SeatWaitlist seatWaitlist;
 
     @InjectMocks
     private ReservationService reservationService;
@@ -56,17 +88,16 @@ class ReservationServiceTest {
     }
 
     @Test
-    @DisplayName("비동기 예매 생성 성공")
+    @DisplayName("비동기 예매 생성 성공 - 파이프라인 결과를 그대로 반환")
     void createReservationAsync_Success() {
         // given
         Long concertId = 100L;
         String userEmail = "test@example.com";
         Long quantity = 2L;
 
-
-        given(concertServiceClient.reserveSeats(concertId, quantity)).willReturn(true);
         sampleReservation.confirmReservation();
-        given(reservationRepository.save(any(Reservation.class))).willReturn(sampleReservation);
+        given(reservationPipeline.submit(concertId, userEmail, quantity))
+                .willReturn(CompletableFuture.completedFuture(new ReservationResponse(sampleReservation)));
 
         // when
         CompletableFuture<ReservationResponse> future =
@@ -77,18 +108,55 @@ class ReservationServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getReservationId()).isEqualTo(1L);
         assertThat(response.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
-        verify(reservationRepository).save(any(Reservation.class));
+        verify(reservationPipeline).submit(concertId, userEmail, quantity);
     }
 
     @Test
-    @DisplayName("비동기 예매 생성 실패 - 좌석 예약 실패")
+    @DisplayName("비동기 예매 생성 실패 - 매진 공연은 파이프라인에 넣지 않는다")
+    void createReservationAsync_SoldOut() {
+        // given
+        Long concertId = 100L;
+        given(soldOutConcerts.reject(concertId)).willReturn(true);
+
+        // when
+        CompletableFuture<ReservationResponse> future =
+                reservationService.createReservationAsync(concertId, "test@example.com", 2L);
+
+        // then
+        assertThatThrownBy(future::join)
+                .hasCauseInstanceOf(BusinessException.class);
+        verify(reservationPipeline, never()).submit(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("추첨 공연은 선착순 예매를 받지 않는다")
+    void createReservationAsync_DrawOnly() {
+        // given
+        Long concertId = 100L;
+        given(drawConcerts.reject(concertId)).willReturn(true);
+
+        // when
+        CompletableFuture<ReservationResponse> future =
+                reservationService.createReservationAsync(concertId, "test@example.com", 2L);
+
+        // then
+        assertThatThrownBy(future::join)
+                .hasCauseInstanceOf(BusinessException.class)
+                .cause().extracting("errorCode").isEqualTo(ErrorCode.DRAW_ONLY);
+        verify(purchaseLimiter, never()).acquire(anyString(), anyLong(), anyLong());
+        verify(reservationPipeline, never()).submit(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("비동기 예매 생성 실패 - 파이프라인 실패 전달")
     void createReservationAsync_Failure() {
         // given
         Long concertId = 100L;
         String userEmail = "test@example.com";
         Long quantity = 2L;
 
-        given(concertServiceClient.reserveSeats(concertId, quantity)).willReturn(false);
+        given(reservationPipeline.submit(concertId, userEmail, quantity))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("좌석 예매에 실패했습니다.")));
 
         // when
         CompletableFuture<ReservationResponse> future =
@@ -99,6 +167,26 @@ class ReservationServiceTest {
                 .hasCauseInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("좌석 예매에 실패했습니다");
         verify(reservationRepository, never()).save(any(Reservation.class));
+        verify(purchaseLimiter).release(userEmail, concertId, quantity);
+    }
+
+    @Test
+    @DisplayName("비동기 예매 생성 실패 - 구매 한도를 넘으면 파이프라인에 넣지 않는다")
+    void createReservationAsync_PurchaseLimitExceeded() {
+        // given
+        Long concertId = 100L;
+        String userEmail = "test@example.com";
+        doThrow(new BusinessException(ErrorCode.PURCHASE_LIMIT_EXCEEDED))
+                .when(purchaseLimiter).acquire(userEmail, concertId, 5L);
+
+        // when
+        CompletableFuture<ReservationResponse> future =
+                reservationService.createReservationAsync(concertId, userEmail, 5L);
+
+        // then
+        assertThatThrownBy(future::join)
+                .hasCauseInstanceOf(BusinessException.class);
+        verify(reservationPipeline, never()).submit(anyLong(), anyString(), anyLong());
     }
 
     @Test
@@ -109,9 +197,9 @@ class ReservationServiceTest {
         String userEmail = "test@example.com";
         Long quantity = 2L;
 
-        given(concertServiceClient.reserveSeats(concertId, quantity)).willReturn(true);
+        given(seatBatcher.reserveSeats(concertId, quantity)).willReturn(true);
         sampleReservation.confirmReservation();
-        given(reservationRepository.save(any(Reservation.class))).willReturn(sampleReservation);
+        given(reservationRepository.saveAndFlush(any(Reservation.class))).willReturn(sampleReservation);
 
         // when
         ReservationResponse response = reservationService.createReservation(concertId, userEmail, quantity);
@@ -120,7 +208,7 @@ class ReservationServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getReservationId()).isEqualTo(1L);
         assertThat(response.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
-        verify(reservationRepository).save(any(Reservation.class));
+        verify(reservationRepository).saveAndFlush(any(Reservation.class));
     }
 
     @Test
@@ -131,7 +219,7 @@ class ReservationServiceTest {
         String userEmail = "test@example.com";
         Long quantity = 2L;
 
-        given(concertServiceClient.reserveSeats(concertId, quantity)).willReturn(false);
+        given(seatBatcher.reserveSeats(concertId, quantity)).willReturn(false);
 
         // when & then
         assertThatThrownBy(() ->
@@ -140,7 +228,78 @@ class ReservationServiceTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("좌석 예매에 실패했습니다.");
 
-        verify(reservationRepository, never()).save(any(Reservation.class));
+        verify(reservationRepository, never()).saveAndFlush(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("예매 생성 실패 - 저장 전에 마감 시각이 지나면 좌석을 되돌린다")
+    void createReservation_DeadlineExpiredBeforeSave() {
+        // given
+        Long concertId = 100L;
+        String userEmail = "test@example.com";
+        Long quantity = 2L;
+
+        given(seatBatcher.reserveSeats(concertId, quantity)).willReturn(true);
+        doThrow(new BusinessException(ErrorCode.DEADLINE_EXCEEDED)).when(deadlineGuard).check("db-write");
+
+        // when & then
+        assertThatThrownBy(() ->
+                reservationService.createReservation(concertId, userEmail, quantity)
+        )
+                .isInstanceOf(BusinessException.class);
+
+        verify(seatBatcher).rollbackReserveSeats(eq(concertId), eq(quantity), startsWith("rollback:"));
+        verify(reservationRepository, never()).saveAndFlush(any(Reservation.class));
+    }
+
+    @Test
+    @DisplayName("예매 생성 실패 - 좌석을 바로 되돌리지 못하면 보상 큐에 남긴다")
+    void createReservation_RollbackFailureIsCompensated() {
+        // given
+        Long concertId = 100L;
+        String userEmail = "test@example.com";
+        Long quantity = 2L;
+
+        given(seatBatcher.reserveSeats(concertId, quantity)).willReturn(true);
+        given(reservationRepository.saveAndFlush(any(Reservation.class))).willThrow(new IllegalStateException("DB 오류"));
+        given(seatBatcher.rollbackReserveSeats(eq(concertId), eq(quantity), anyString())).willThrow(new IllegalStateException("연결 실패"));
+
+        // when & then
+        assertThatThrownBy(() ->
+                reservationService.createReservation(concertId, userEmail, quantity)
+        )
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("DB 오류");
+
+        // 바로 보낸 롤백과 같은 키로 보상을 남긴다.
+        ArgumentCaptor<String> compensationKey = ArgumentCaptor.forClass(String.class);
+        verify(seatBatcher).rollbackReserveSeats(eq(concertId), eq(quantity), compensationKey.capture());
+        verify(seatCompensationService).enqueueDetached(compensationKey.getValue(), concertId, quantity);
+    }
+
+    @Test
+    @DisplayName("예매 생성 실패 - 저장(flush) 실패 시 좌석과 구매 한도를 되돌린다")
+    void createReservation_FlushFailureReleasesSeatsAndLimit() {
+        // given
+        Long concertId = 100L;
+        String userEmail = "test@example.com";
+        Long quantity = 2L;
+
+        given(seatBatcher.reserveSeats(concertId, quantity)).willReturn(true);
+        given(reservationRepository.saveAndFlush(any(Reservation.class))).willThrow(new IllegalStateException("DB 오류"));
+        given(seatBatcher.rollbackReserveSeats(eq(concertId), eq(quantity), anyString())).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() ->
+                reservationService.createReservation(concertId, userEmail, quantity)
+        )
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("DB 오류");
+
+        verify(seatBatcher).rollbackReserveSeats(eq(concertId), eq(quantity), anyString());
+        verify(seatCompensationService, never()).enqueueDetached(anyString(), anyLong(), anyLong());
+        verify(purchaseLimiter).release(userEmail, concertId, quantity);
+        verify(reservationListCache, never()).onSaved(any(ReservationResponse.class));
     }
 
     @Test
@@ -151,7 +310,6 @@ class ReservationServiceTest {
         String userEmail = "test@example.com";
 
         given(reservationRepository.findById(reservationId)).willReturn(Optional.of(sampleReservation));
-        given(concertServiceClient.rollbackReserveSeats(anyLong(), anyLong())).willReturn(true);
 
         // when
         reservationService.cancelReservation(reservationId, userEmail);
@@ -159,6 +317,28 @@ class ReservationServiceTest {
         // then
         verify(reservationRepository).save(any(Reservation.class));
         assertThat(sampleReservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        verify(seatCompensationService).enqueue("cancel:1", 100L, 2L);
+        verify(seatBatcher, never()).rollbackReserveSeats(anyLong(), anyLong(), any());
+        verify(reservationListCache).onSaved(any(ReservationResponse.class));
+        verify(purchaseLimiter).releaseAfterCommit(userEmail, 100L, 2L);
+    }
+
+    @Test
+    @DisplayName("예매 취소 - 취소 대기자가 있으면 좌석을 풀에 돌려주지 않고 잡아 둔다")
+    void cancelReservation_HoldsSeatsForWaitlist() {
+        // given
+        Long reservationId = 1L;
+        String userEmail = "test@example.com";
+
+        given(reservationRepository.findById(reservationId)).willReturn(Optional.of(sampleReservation));
+        given(seatWaitlist.hasWaiters(100L)).willReturn(true);
+
+        // when
+        reservationService.cancelReservation(reservationId, userEmail);
+
+        // then
+        verify(seatCompensationService).hold("cancel:1", 100L, 2L);
+        verify(seatCompensationService, never()).enqueue(anyString(), anyLong(), anyLong());
     }
 
     @Test
@@ -228,6 +408,23 @@ class ReservationServiceTest {
         // then
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).getReservationId()).isEqualTo(sampleReservation.getReservationId());
+        verify(reservationListCache).fill(userEmail, 0L, responses);
+    }
+
+    @Test
+    @DisplayName("사용자 예매 목록이 캐시에 있으면 DB 를 조회하지 않는다")
+    void findReservationsByUserEmail_CacheHit() {
+        // given
+        String userEmail = "test@example.com";
+        List<ReservationResponse> cached = List.of(new ReservationResponse(sampleReservation));
+        given(reservationListCache.find(userEmail)).willReturn(Optional.of(cached));
+
+        // when
+        List<ReservationResponse> responses = reservationService.findReservationsByUserEmail(userEmail);
+
+        // then
+        assertThat(responses).isSameAs(cached);
+        verify(reservationRepository, never()).findByUserEmail(anyString());
     }
 
     @Test
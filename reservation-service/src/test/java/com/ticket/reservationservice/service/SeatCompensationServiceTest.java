@@ -0,0 +1,149 @@
+package com.ticket.reservationservice.service;
+
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.client.SeatReservationItem;
+import com.ticket.reservationservice.client.SeatReservationResult;
+import com.ticket.reservationservice.domain.CompensationStatus;
+import com.ticket.reservationservice.domain.SeatCompensation;
+import com.ticket.reservationservice.repository.SeatCompensationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SeatCompensationServiceTest {
+
+    @Mock
+    private SeatCompensationRepository compensationRepository;
+    @Mock
+    private ConcertServiceClient concertServiceClient;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry meterRegistry;
+    private SeatCompensationService compensationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        compensationService = new SeatCompensationService(compensationRepository, concertServiceClient, transactionManager,
+                meterRegistry, 100, 3, Duration.ofSeconds(1), Duration.ofMinutes(5), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("같은 키의 보상은 한 번만 쌓인다")
+    void enqueue_SkipsDuplicateKey() {
+        // given
+        given(compensationRepository.existsByCompensationKey("cancel:1")).willReturn(true);
+
+        // when
+        compensationService.enqueue("cancel:1", 100L, 2L);
+
+        // then
+        verify(compensationRepository, never()).save(any(SeatCompensation.class));
+    }
+
+    @Test
+    @DisplayName("묶음 롤백 결과에 따라 성공한 보상은 완료, 실패한 보상은 백오프 후 재시도한다")
+    void processDue_CompletesOrBacksOff() {
+        // given
+        SeatCompensation done = compensation(1L, "cancel:1");
+        SeatCompensation failed = compensation(2L, "cancel:2");
+        given(compensationRepository.findDueForUpdate(eq(CompensationStatus.PENDING), any(LocalDateTime.class), any()))
+                .willReturn(List.of(done, failed));
+        given(concertServiceClient.rollbackSeatsBatch(anyList())).willAnswer(invocation -> {
+            List<SeatReservationItem> items = invocation.getArgument(0);
+            return items.stream()
+                    .map(item -> new SeatReservationResult(item.getRequestId(), item.getRequestId().equals("1")))
+                    .toList();
+        });
+        given(compensationRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(done, failed));
+        given(compensationRepository.countByStatus(CompensationStatus.PENDING)).willReturn(1L);
+
+        // when
+        compensationService.processDue();
+
+        // then
+        assertThat(done.getStatus()).isEqualTo(CompensationStatus.DONE);
+        assertThat(failed.getStatus()).isEqualTo(CompensationStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(meterRegistry.get(SeatCompensationService.BACKLOG_METRIC).gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 GAVE_UP 으로 남긴다")
+    void processDue_GivesUpAfterMaxAttempts() {
+        // given
+        SeatCompensation compensation = compensation(1L, "cancel:1");
+        compensation.retryAfter(Duration.ZERO, "timeout");
+        compensation.retryAfter(Duration.ZERO, "timeout");
+        given(compensationRepository.findDueForUpdate(eq(CompensationStatus.PENDING), any(LocalDateTime.class), any()))
+                .willReturn(List.of(compensation));
+        given(concertServiceClient.rollbackSeatsBatch(anyList())).willThrow(new IllegalStateException("연결 실패"));
+        given(compensationRepository.findAllById(List.of(1L))).willReturn(List.of(compensation));
+
+        // when
+        compensationService.processDue();
+
+        // then
+        assertThat(compensation.getStatus()).isEqualTo(CompensationStatus.GAVE_UP);
+        assertThat(compensation.getAttempts()).isEqualTo(3);
+        assertThat(compensation.getLastError()).isEqualTo("연결 실패");
+        assertThat(meterRegistry.get("reservation.compensation.gave-up").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("보상은 lease 를 걸어 커밋한 뒤 트랜잭션 밖에서 보상 키와 함께 롤백을 호출한다")
+    void processDue_CallsOutsideTransactionWithKey() {
+        // given
+        SeatCompensation compensation = compensation(1L, "cancel:1");
+        given(compensationRepository.findDueForUpdate(eq(CompensationStatus.PENDING), any(LocalDateTime.class), any()))
+                .willReturn(List.of(compensation));
+        given(concertServiceClient.rollbackSeatsBatch(anyList())).willAnswer(invocation -> {
+            // 호출 중에는 lease 로 다음 조회에서 빠져 있다.
+            assertThat(compensation.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+            List<SeatReservationItem> items = invocation.getArgument(0);
+            assertThat(items.get(0).getCompensationKey()).isEqualTo("cancel:1");
+            return List.of(new SeatReservationResult("1", true));
+        });
+        given(compensationRepository.findAllById(List.of(1L))).willReturn(List.of(compensation));
+
+        // when
+        compensationService.processDue();
+
+        // then
+        assertThat(compensation.getStatus()).isEqualTo(CompensationStatus.DONE);
+        InOrder inOrder = inOrder(transactionManager, concertServiceClient);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(concertServiceClient).rollbackSeatsBatch(anyList());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    private SeatCompensation compensation(Long id, String key) {
+        SeatCompensation compensation = new SeatCompensation(key, 100L, 2L);
+        ReflectionTestUtils.setField(compensation, "compensationId", id);
+        return compensation;
+    }
+}
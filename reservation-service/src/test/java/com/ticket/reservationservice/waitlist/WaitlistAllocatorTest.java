@@ -0,0 +1,128 @@
+package com.ticket.reservationservice.waitlist;
+
+import com.ticket.common.exception.BusinessException;
+import com.ticket.common.exception.ErrorCode;
+import com.ticket.reservationservice.cache.ReservationListCache;
+import com.ticket.reservationservice.domain.CompensationStatus;
+import com.ticket.reservationservice.domain.Reservation;
+import com.ticket.reservationservice.domain.SeatCompensation;
+import com.ticket.reservationservice.limit.PurchaseLimiter;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import com.ticket.reservationservice.repository.SeatCompensationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistAllocatorTest {
+
+    private static final Long CONCERT_ID = 100L;
+
+    @Mock
+    private SeatCompensationRepository compensationRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private SeatWaitlist seatWaitlist;
+    @Mock
+    private PurchaseLimiter purchaseLimiter;
+    @Mock
+    private ReservationListCache reservationListCache;
+
+    private WaitlistAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new WaitlistAllocator(compensationRepository, reservationRepository, seatWaitlist,
+                purchaseLimiter, reservationListCache, 200);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("모인 취소 좌석을 대기열 앞에서부터 배정하고, 남은 좌석보다 많이 원하는 대기자는 건너뛴다")
+    void allocate_AssignsHeadOfWaitlist() {
+        // given
+        SeatCompensation first = SeatCompensation.held("cancel:1", CONCERT_ID, 2L);
+        SeatCompensation second = SeatCompensation.held("cancel:2", CONCERT_ID, 1L);
+        given(compensationRepository.findByConcertForUpdate(CONCERT_ID, CompensationStatus.HELD))
+                .willReturn(List.of(first, second));
+        given(seatWaitlist.head(CONCERT_ID, 200)).willReturn(List.of(
+                new SeatWaitlist.Waiter("a@example.com", 1, 2),
+                new SeatWaitlist.Waiter("b@example.com", 2, 2),
+                new SeatWaitlist.Waiter("c@example.com", 3, 1)));
+        given(reservationRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        WaitlistAllocator.Allocation allocation = allocator.allocate(CONCERT_ID);
+
+        // then
+        assertThat(allocation.winners()).isEqualTo(2);
+        assertThat(allocation.allocatedSeats()).isEqualTo(3);
+        verify(seatWaitlist).remove(CONCERT_ID, List.of("a@example.com", "c@example.com"));
+        assertThat(first.getStatus()).isEqualTo(CompensationStatus.REALLOCATED);
+        assertThat(second.getStatus()).isEqualTo(CompensationStatus.REALLOCATED);
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 대기자는 대기열에서 빼고, 배정하지 못한 좌석은 보상 큐로 풀에 돌려준다")
+    void allocate_ReturnsLeftoverSeats() {
+        // given
+        given(compensationRepository.findByConcertForUpdate(CONCERT_ID, CompensationStatus.HELD))
+                .willReturn(List.of(SeatCompensation.held("cancel:1", CONCERT_ID, 2L)));
+        given(seatWaitlist.head(CONCERT_ID, 200)).willReturn(List.of(new SeatWaitlist.Waiter("a@example.com", 1, 2)));
+        willThrow(new BusinessException(ErrorCode.PURCHASE_LIMIT_EXCEEDED))
+                .given(purchaseLimiter).acquire("a@example.com", CONCERT_ID, 2);
+        given(reservationRepository.saveAll(anyList())).willReturn(List.<Reservation>of());
+
+        // when
+        WaitlistAllocator.Allocation allocation = allocator.allocate(CONCERT_ID);
+
+        // then
+        assertThat(allocation.winners()).isZero();
+        verify(seatWaitlist).remove(CONCERT_ID, List.of("a@example.com"));
+        ArgumentCaptor<SeatCompensation> captor = ArgumentCaptor.forClass(SeatCompensation.class);
+        verify(compensationRepository).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(CompensationStatus.PENDING);
+        assertThat(captor.getValue().getQuantity()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 대기자를 원래 순번으로 되돌리고 구매 수량을 반환한다")
+    void allocate_RestoresOnRollback() {
+        // given
+        given(compensationRepository.findByConcertForUpdate(CONCERT_ID, CompensationStatus.HELD))
+                .willReturn(List.of(SeatCompensation.held("cancel:1", CONCERT_ID, 1L)));
+        SeatWaitlist.Waiter waiter = new SeatWaitlist.Waiter("a@example.com", 7, 1);
+        given(seatWaitlist.head(CONCERT_ID, 200)).willReturn(List.of(waiter));
+        given(reservationRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+        allocator.allocate(CONCERT_ID);
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(seatWaitlist).restore(CONCERT_ID, List.of(waiter));
+        verify(purchaseLimiter).release("a@example.com", CONCERT_ID, 1);
+    }
+}
@@ -0,0 +1,163 @@
+package com.ticket.reservationservice.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticket.common.availability.OnSaleSchedule;
+import com.ticket.reservationservice.availability.SoldOutConcerts;
+import com.ticket.reservationservice.client.ConcertServiceClient;
+import com.ticket.reservationservice.draw.DrawConcerts;
+import com.ticket.reservationservice.repository.ReservationRepository;
+import com.ticket.reservationservice.service.ReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OnSaleWarmupTest {
+
+    @Mock
+    private ConcertServiceClient concertServiceClient;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ReservationService reservationService;
+    @Mock
+    private SoldOutConcerts soldOutConcerts;
+    @Mock
+    private DrawConcerts drawConcerts;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RScoredSortedSet<String> schedule;
+
+    private OnSaleWarmup onSaleWarmup;
+
+    @BeforeEach
+    void setUp() {
+        onSaleWarmup = new OnSaleWarmup(concertServiceClient, reservationRepository, reservationService, soldOutConcerts,
+                drawConcerts, redissonClient, new ObjectMapper().findAndRegisterModules(), Duration.ofMinutes(5), 10, 3,
+                2, Duration.ZERO, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("기동 예열은 예매 처리 경로를 돌리고 곧 판매가 시작되는 공연에 예열 예매까지 보낸 뒤 warm 이 된다")
+    void warmUp_RunsSyntheticAndPrewarmsUpcoming() {
+        // given
+        givenUpcoming(List.of("100"));
+        givenProbe(100L);
+
+        // when
+        assertThat(onSaleWarmup.isWarm()).isFalse();
+        onSaleWarmup.warmUp();
+
+        // then
+        assertThat(onSaleWarmup.isWarm()).isTrue();
+        verify(soldOutConcerts).resync();
+        verify(soldOutConcerts, times(10)).isSoldOut(0L);
+        verify(concertServiceClient).getConcert(100L);
+        verify(concertServiceClient, times(3)).checkAvailability(100L, 1L);
+        verify(reservationService, times(3)).probeReservation(100L, OnSaleWarmup.PROBE_USER);
+        assertThat(onSaleWarmup.warmedConcerts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예열이 실패하면 정해진 횟수만 다시 시도하고, 끝내 실패하면 warm 이 되지 않는다")
+    void warmUp_FailureNotWarm() {
+        // given
+        willThrow(new IllegalStateException("db down")).given(reservationRepository).findById(0L);
+
+        // when
+        onSaleWarmup.warmUp();
+
+        // then
+        assertThat(onSaleWarmup.isWarm()).isFalse();
+        verify(reservationRepository, times(2)).findById(0L);
+        verify(concertServiceClient, never()).getConcert(anyLong());
+    }
+
+    @Test
+    @DisplayName("기동 예열이 끝내 실패했으면 주기마다 다시 시도해 성공하면 warm 이 된다")
+    void refresh_RetriesUntilWarm() {
+        // given
+        willThrow(new IllegalStateException("db down"))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(Optional.empty())
+                .given(reservationRepository).findById(0L);
+        givenUpcoming(List.of());
+        onSaleWarmup.warmUp();
+
+        // when
+        onSaleWarmup.refresh();
+
+        // then
+        assertThat(onSaleWarmup.isWarm()).isTrue();
+        verify(reservationRepository, times(3)).findById(0L);
+    }
+
+    @Test
+    @DisplayName("판매 예정 공연의 예열 예매가 실패하면 warm 이 되지 않는다")
+    void warmUp_ProbeFailureNotWarm() {
+        // given
+        givenUpcoming(List.of("100"));
+        given(reservationService.probeReservation(100L, OnSaleWarmup.PROBE_USER))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("concert-service down")));
+
+        // when
+        onSaleWarmup.warmUp();
+
+        // then
+        assertThat(onSaleWarmup.isWarm()).isFalse();
+        assertThat(onSaleWarmup.warmedConcerts()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 데운 공연은 다시 호출하지 않고, 실패한 공연은 다음 주기에 다시 데운다")
+    void prewarmUpcoming_OncePerConcertAndRetryOnFailure() {
+        // given
+        givenUpcoming(List.of("100", "200"));
+        willThrow(new IllegalStateException("timeout")).willReturn(null).given(concertServiceClient).getConcert(200L);
+        givenProbe(100L);
+        givenProbe(200L);
+
+        // when
+        onSaleWarmup.prewarmUpcoming();
+        onSaleWarmup.prewarmUpcoming();
+
+        // then
+        verify(concertServiceClient, times(1)).getConcert(100L);
+        verify(concertServiceClient, times(2)).getConcert(200L);
+        verify(concertServiceClient, times(3)).checkAvailability(eq(200L), eq(1L));
+        verify(reservationService, times(3)).probeReservation(200L, OnSaleWarmup.PROBE_USER);
+        assertThat(onSaleWarmup.warmedConcerts()).isEqualTo(2);
+    }
+
+    private void givenProbe(Long concertId) {
+        given(reservationService.probeReservation(concertId, OnSaleWarmup.PROBE_USER))
+                .willReturn(CompletableFuture.completedFuture(null));
+    }
+
+    private void givenUpcoming(List<String> concertIds) {
+        given(redissonClient.<String>getScoredSortedSet(OnSaleSchedule.KEY, StringCodec.INSTANCE)).willReturn(schedule);
+        given(schedule.valueRange(anyDouble(), eq(true), anyDouble(), eq(true))).willReturn(concertIds);
+    }
+}
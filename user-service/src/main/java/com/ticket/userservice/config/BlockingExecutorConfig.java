@@ -0,0 +1,27 @@
+package com.ticket.userservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class BlockingExecutorConfig {
+
+    // 해싱 이후의 DB/Redis 쓰기용 풀. 커넥션 풀 크기에 맞추고, 큐가 차면 해싱 풀과 같이 즉시 거절한다.
+    @Bean(name = "userBlockingExecutor")
+    public ThreadPoolTaskExecutor userBlockingExecutor(
+            @Value("${user.blocking.pool-size:10}") int poolSize,
+            @Value("${user.blocking.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("user-blocking-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
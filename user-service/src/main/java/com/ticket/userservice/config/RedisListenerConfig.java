@@ -0,0 +1,22 @@
+package com.ticket.userservice.config;
+
+import com.ticket.userservice.security.jwt.TokenRevocationStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisListenerConfig {
+
+    // 다른 인스턴스에서 로그아웃한 토큰을 로컬 폐기 필터에 반영한다.
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TokenRevocationStore tokenRevocationStore) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenRevocationStore, ChannelTopic.of(TokenRevocationStore.REVOCATION_CHANNEL));
+        return container;
+    }
+}
@@ -2,36 +2,66 @@ package com.ticket.userservice.controller;
 
 import com.ticket.userservice.dto.LoginRequest;
 import com.ticket.userservice.dto.LoginResponse;
+import com.ticket.userservice.dto.RefreshTokenRequest;
 import com.ticket.userservice.dto.SignupRequest;
+import com.ticket.userservice.dto.UserImportResponse;
+import com.ticket.userservice.service.UserImportService;
 import com.ticket.userservice.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/users")
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
+    private final UserImportService userImportService;
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
-        String token = userService.login(request.getEmail(), request.getPassword());
-        return ResponseEntity.ok(new LoginResponse(token));
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@RequestBody LoginRequest request) {
+        return userService.login(request.getEmail(), request.getPassword())
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(userService.refresh(request.getRefreshToken()));
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String token,
+                                       @RequestBody(required = false) RefreshTokenRequest request) {
         // "Bearer " 제거
         token = token.substring(7);
-        userService.logout(token);
+        userService.logout(token, request != null ? request.getRefreshToken() : null);
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/signup")
-    public ResponseEntity<Void> signup(@RequestBody SignupRequest request) {
-        userService.signup(request.getEmail(), request.getPassword(), request.getName());
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+    public CompletableFuture<ResponseEntity<Void>> signup(@RequestBody SignupRequest request) {
+        return userService.signup(request.getEmail(), request.getPassword(), request.getName())
+                .thenApply(saved -> ResponseEntity.status(HttpStatus.CREATED).<Void>build());
+    }
+
+    // 본문은 한 줄에 가입 요청 하나인 NDJSON 스트림. 잘못된 줄이 있어도 나머지는 계속 처리한다.
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<UserImportResponse> importUsers(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(request.getInputStream()));
+    }
+
+    // 해싱 풀이 포화되면 요청 스레드를 붙잡지 않고 바로 거절한다.
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Void> handleHashingOverload() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
     }
 }
\ No newline at end of file
@@ -7,4 +7,5 @@ import lombok.Getter;
 @AllArgsConstructor
 public class LoginResponse {
     private String token;
-}
\ No newline at end of file
+    private String refreshToken;
+}
@@ -0,0 +1,17 @@
+package com.ticket.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class UserImportResponse {
+    private int imported;
+    private int failed;
+    private List<Failure> failures;
+
+    public record Failure(long line, String email, String reason) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.ticket.userservice.repository;
+
+import com.ticket.userservice.domain.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 대량 가입용 JDBC 배치 insert.
+ * User 는 IDENTITY 전략이라 JPA 로는 배치가 되지 않으므로 직접 batchUpdate 를 쓴다.
+ * (MySQL 에서는 rewriteBatchedStatements=true 로 multi-row insert 로 합쳐진다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBulkInsertRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO user (email, password, name, role) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<NewUser> users) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, users, users.size(), (ps, user) -> {
+            ps.setString(1, user.email());
+            ps.setString(2, user.encodedPassword());
+            ps.setString(3, user.name());
+            ps.setString(4, UserRole.USER.name());
+        });
+    }
+
+    public void insert(NewUser user) {
+        jdbcTemplate.update(INSERT_SQL, user.email(), user.encodedPassword(), user.name(), UserRole.USER.name());
+    }
+
+    public record NewUser(String email, String encodedPassword, String name) {
+    }
+}
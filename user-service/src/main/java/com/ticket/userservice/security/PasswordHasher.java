@@ -0,0 +1,79 @@
+package com.ticket.userservice.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱을 요청 스레드가 아닌 전용 풀에서 수행한다.
+ * 풀과 큐가 모두 차 있으면 TaskRejectedException 으로 즉시 거절해 다른 엔드포인트가 굶지 않게 한다.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final int strength;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor executor,
+                          MeterRegistry meterRegistry,
+                          @Value("${password.bcrypt.strength:10}") int strength) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.strength = strength;
+        this.matchesTimer = Timer.builder("user.password.hash.time")
+                .tag("operation", "matches")
+                .tag("cost", String.valueOf(strength))
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("user.password.hash.time")
+                .tag("operation", "encode")
+                .tag("cost", String.valueOf(strength))
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    // 저장된 해시의 cost 가 현재 설정과 다르면 다시 해싱한다. ($2a$10$... 형식)
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        String[] parts = encodedPassword.split("\\$", 4);
+        if (parts.length < 4) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(parts[2]) != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (TaskRejectedException e) {
+            meterRegistry.counter("user.password.hash.rejected").increment();
+            throw e;
+        }
+    }
+}
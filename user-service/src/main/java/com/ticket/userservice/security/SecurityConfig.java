@@ -5,6 +5,7 @@ import com.ticket.userservice.security.jwt.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -23,6 +24,8 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 대량 가입은 관리자만 (게이트웨이는 토큰 유무만 확인한다)
+                .requestMatchers(HttpMethod.POST, "/users/import").hasRole("ADMIN")
                 .requestMatchers("**").permitAll()
                 .anyRequest().authenticated()
             )
@@ -0,0 +1,20 @@
+package com.ticket.userservice.security.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+// 서명 검증을 마친 토큰에서 꺼낸 불변 인증 정보. 권한 목록도 한 번만 만들어 재사용한다.
+public record JwtPrincipal(String email, String role, String tokenId, long expiresAtMillis,
+                           List<GrantedAuthority> authorities) {
+
+    public static JwtPrincipal of(String email, String role, String tokenId, long expiresAtMillis) {
+        String grantedRole = "ROLE_" + (role != null ? role : "USER");
+        return new JwtPrincipal(email, role, tokenId, expiresAtMillis, List.of(new SimpleGrantedAuthority(grantedRole)));
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
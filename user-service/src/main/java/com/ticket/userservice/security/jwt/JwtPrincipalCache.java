@@ -0,0 +1,68 @@
+package com.ticket.userservice.security.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 다이제스트 -> 검증된 인증 정보 캐시.
+ * 항목은 토큰 만료 시각까지만 유효하고, 최대 개수를 넘으면 만료 항목부터 비운다.
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final Map<String, JwtPrincipal> principals = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    public JwtPrincipalCache(@Value("${jwt.principal-cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public JwtPrincipal get(String token) {
+        String key = digest(token);
+        JwtPrincipal principal = principals.get(key);
+        if (principal == null) {
+            return null;
+        }
+        if (principal.isExpired(System.currentTimeMillis())) {
+            principals.remove(key, principal);
+            return null;
+        }
+        return principal;
+    }
+
+    public void put(String token, JwtPrincipal principal) {
+        if (principals.size() >= maxEntries) {
+            evictExpired();
+            if (principals.size() >= maxEntries) {
+                // 살아있는 토큰만으로 가득 찼다면 전부 비운다. 다음 요청에서 한 번씩 다시 검증된다.
+                principals.clear();
+            }
+        }
+        principals.put(digest(token), principal);
+    }
+
+    public void evict(String token) {
+        principals.remove(digest(token));
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        principals.values().removeIf(principal -> principal.isExpired(now));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
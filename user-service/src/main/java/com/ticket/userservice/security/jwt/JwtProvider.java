@@ -9,21 +9,27 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtProvider {
     private final SecretKey key;
+    private final JwtParser parser;
     private final long validityInMilliseconds;
-    private final Set<String> blacklist = ConcurrentHashMap.newKeySet();
+    private final TokenRevocationStore tokenRevocationStore;
+    private final JwtPrincipalCache principalCache;
 
     public JwtProvider(
             @Value("${jwt.secret}") String secretKey,
-            @Value("${jwt.expire-length}") long validityInMilliseconds) {
+            @Value("${jwt.expire-length}") long validityInMilliseconds,
+            TokenRevocationStore tokenRevocationStore,
+            JwtPrincipalCache principalCache) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.validityInMilliseconds = validityInMilliseconds;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.principalCache = principalCache;
     }
 
     public String createToken(String email, UserRole role) {
@@ -37,6 +43,7 @@ public class JwtProvider {
 
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(key)
@@ -44,32 +51,65 @@ public class JwtProvider {
     }
 
     public String getEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parser.parseSignedClaims(token).getPayload().getSubject();
     }
 
     public boolean validateToken(String token) {
-        try {
-            if (blacklist.contains(token)) {
-                return false;
+        return authenticate(token) != null;
+    }
+
+    /**
+     * 서명을 검증하고 인증 정보를 돌려준다. 유효하지 않거나 폐기된 토큰이면 null.
+     * 같은 토큰은 만료 전까지 캐시된 결과를 쓰므로 서명 검증은 토큰당 한 번만 일어난다.
+     */
+    public JwtPrincipal authenticate(String token) {
+        JwtPrincipal principal = principalCache.get(token);
+        if (principal == null) {
+            try {
+                Claims claims = parser.parseSignedClaims(token).getPayload();
+                principal = JwtPrincipal.of(claims.getSubject(), claims.get("role", String.class),
+                        tokenId(claims, token), claims.getExpiration().getTime());
+            } catch (JwtException | IllegalArgumentException e) {
+                log.error("Invalid JWT token: {}", e.getMessage());
+                return null;
             }
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            principalCache.put(token, principal);
         }
+
+        // 다른 인스턴스에서 로그아웃된 토큰일 수 있으므로 폐기 여부는 매번 확인한다.
+        // 로컬 폐기 필터(폐기 채널로 갱신)에 걸린 토큰만 Redis 까지 간다.
+        if (tokenRevocationStore.isRevoked(principal.tokenId())) {
+            principalCache.evict(token);
+            return null;
+        }
+        return principal;
     }
 
     public void invalidateToken(String token) {
-        blacklist.add(token);
+        principalCache.evict(token);
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            tokenRevocationStore.revoke(tokenId(claims, token), claims.getExpiration());
+        } catch (JwtException | IllegalArgumentException e) {
+            // 위조되었거나 만료된 토큰은 어차피 사용할 수 없다.
+            log.warn("Ignoring logout with invalid JWT token: {}", e.getMessage());
+        }
     }
 
     public boolean isTokenBlacklisted(String token) {
-        return blacklist.contains(token);
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            return tokenRevocationStore.isRevoked(tokenId(claims, token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // jti 가 없는 이전 토큰은 서명 부분을 식별자로 쓴다. (게이트웨이와 같은 규칙)
+    static String tokenId(Claims claims, String token) {
+        if (claims.getId() != null) {
+            return claims.getId();
+        }
+        return token.substring(token.lastIndexOf('.') + 1);
     }
-}
\ No newline at end of file
+}
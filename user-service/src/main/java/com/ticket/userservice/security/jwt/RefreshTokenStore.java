@@ -0,0 +1,71 @@
+package com.ticket.userservice.security.jwt;
+
+import com.ticket.userservice.domain.UserRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 불투명(opaque) 리프레시 토큰 저장소.
+ * 원문 대신 SHA-256 다이제스트를 키로 저장하고, 사용할 때마다 꺼내면서 삭제(GETDEL)해 한 번만 쓸 수 있게 한다.
+ */
+@Component
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "token:refresh:";
+    private static final int TOKEN_BYTES = 32;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration validity;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             @Value("${jwt.refresh-expire-length}") long validityInMilliseconds) {
+        this.redisTemplate = redisTemplate;
+        this.validity = Duration.ofMillis(validityInMilliseconds);
+    }
+
+    public String issue(String email, UserRole role) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        redisTemplate.opsForValue().set(keyOf(refreshToken), role.name() + "|" + email, validity);
+        return refreshToken;
+    }
+
+    // 토큰을 소비한다. 같은 토큰으로 두 번째 요청이 오면 비어 있는 결과를 돌려준다.
+    public Optional<RefreshSession> consume(String refreshToken) {
+        String value = redisTemplate.opsForValue().getAndDelete(keyOf(refreshToken));
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        int separator = value.indexOf('|');
+        return Optional.of(new RefreshSession(value.substring(separator + 1), UserRole.valueOf(value.substring(0, separator))));
+    }
+
+    public void revoke(String refreshToken) {
+        redisTemplate.delete(keyOf(refreshToken));
+    }
+
+    private static String keyOf(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record RefreshSession(String email, UserRole role) {
+    }
+}
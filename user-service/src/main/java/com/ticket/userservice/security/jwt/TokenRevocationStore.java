@@ -0,0 +1,108 @@
+package com.ticket.userservice.security.jwt;
+
+import com.ticket.common.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * 폐기된 토큰을 jti 기준으로 Redis 에 남은 수명만큼만 보관하고, 게이트웨이와 다른 인스턴스에 폐기 사실을 알린다.
+ * 요청 경로에서는 로컬 Bloom filter 만 확인하고, 필터에 걸린 경우에만 Redis 에 정확히 조회한다. (게이트웨이 TokenRevocationChecker 와 같은 방식)
+ * 필터는 폐기 채널로 갱신하고, 주기적으로 Redis 의 살아있는 폐기 키로 새로 만들어 놓친 폐기를 복구한다.
+ * 키 이름과 채널은 게이트웨이의 TokenRevocationChecker 와 맞춰야 한다.
+ */
+@Component
+@Slf4j
+public class TokenRevocationStore implements MessageListener {
+
+    public static final String REVOKED_KEY_PREFIX = "token:revoked:";
+    public static final String REVOCATION_CHANNEL = "token:revocations";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+    // 첫 재구성 전에는 필터가 비어 있으므로 Redis 로 확인한다.
+    private volatile boolean loaded;
+
+    public TokenRevocationStore(StringRedisTemplate redisTemplate,
+                                @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                                @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = newFilter();
+    }
+
+    public void revoke(String tokenId, Date expiration) {
+        long ttlMillis = expiration.getTime() - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            // 이미 만료된 토큰은 기록할 필요가 없다.
+            return;
+        }
+
+        redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + tokenId, "1", Duration.ofMillis(ttlMillis));
+        remember(tokenId);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (loaded && !current.mightContain(tokenId)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + tokenId));
+        } catch (RuntimeException e) {
+            // 필터에 걸렸는데 확인할 수 없으면 통과시키지 않는다.
+            log.warn("토큰 폐기 확인 실패 - 폐기로 처리: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        remember(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 기동 직후 한 번, 이후 주기적으로 Redis 기준으로 필터를 다시 만든다.
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:PT10M}")
+    public void rebuild() {
+        BloomFilter next = newFilter();
+        building = next;
+
+        ScanOptions options = ScanOptions.scanOptions().match(REVOKED_KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            keys.forEachRemaining(key -> next.put(key.substring(REVOKED_KEY_PREFIX.length())));
+            current = next;
+            loaded = true;
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 필터 재구성 실패 - 기존 필터 유지: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    void remember(String tokenId) {
+        current.put(tokenId);
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(tokenId);
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+}
@@ -0,0 +1,65 @@
+package com.ticket.userservice.service;
+
+import com.ticket.common.util.BloomFilter;
+import com.ticket.userservice.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 가입된 이메일의 Bloom filter. 가입 시 mightContain 이 false 면 DB 존재 확인을 건너뛴다.
+ * 필터에 없던 중복(다른 인스턴스에서 가입 등)은 email 유니크 인덱스가 막는다.
+ * 기동 후 적재가 끝나기 전에는 항상 true 를 돌려 DB 로 확인하게 한다.
+ */
+@Component
+@Slf4j
+public class KnownEmailFilter {
+
+    private final UserRepository userRepository;
+    private final BloomFilter filter;
+    private final int loadPageSize;
+    private volatile boolean loaded;
+
+    public KnownEmailFilter(UserRepository userRepository,
+                            @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${user.email-filter.load-page-size:5000}") int loadPageSize) {
+        this.userRepository = userRepository;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.loadPageSize = loadPageSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        long count = 0;
+        try {
+            List<UserRepository.EmailView> page;
+            do {
+                page = userRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(loadPageSize));
+                for (UserRepository.EmailView view : page) {
+                    filter.put(view.getEmail());
+                    lastId = view.getId();
+                }
+                count += page.size();
+            } while (page.size() == loadPageSize);
+            loaded = true;
+            log.info("가입 이메일 필터 적재 완료 - {}건", count);
+        } catch (RuntimeException e) {
+            log.warn("가입 이메일 필터 적재 실패 - DB 확인으로 동작: {}", e.getMessage());
+        }
+    }
+
+    public boolean mightContain(String email) {
+        return !loaded || filter.mightContain(email);
+    }
+
+    public void put(String email) {
+        filter.put(email);
+    }
+}
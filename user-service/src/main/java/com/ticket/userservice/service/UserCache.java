@@ -0,0 +1,61 @@
+package com.ticket.userservice.service;
+
+import com.ticket.userservice.domain.User;
+import com.ticket.userservice.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이메일 -> User 조회 캐시. 로그인과 UserDetailsService 가 같은 사용자를 반복해서 읽는 것을 줄인다.
+ * 캐시된 User 는 준영속 상태이므로 읽기 전용으로만 쓰고, 변경은 리포지토리로 직접 한 뒤 invalidate 한다.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Map<String, Entry> users = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${user.cache.ttl:5m}") Duration ttl,
+                     @Value("${user.cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    public Optional<User> findByEmail(String email) {
+        long now = System.currentTimeMillis();
+        Entry entry = users.get(email);
+        if (entry != null && now < entry.expiresAt()) {
+            return Optional.of(entry.user());
+        }
+
+        Optional<User> user = userRepository.findByEmail(email);
+        user.ifPresentOrElse(u -> put(u, now), () -> users.remove(email));
+        return user;
+    }
+
+    public void invalidate(String email) {
+        users.remove(email);
+    }
+
+    private void put(User user, long now) {
+        if (users.size() >= maxEntries) {
+            users.values().removeIf(entry -> now >= entry.expiresAt());
+            if (users.size() >= maxEntries) {
+                users.clear();
+            }
+        }
+        users.put(user.getEmail(), new Entry(user, now + ttlMillis));
+    }
+
+    private record Entry(User user, long expiresAt) {
+    }
+}
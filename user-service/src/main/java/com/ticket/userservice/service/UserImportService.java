@@ -0,0 +1,235 @@
+package com.ticket.userservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ticket.userservice.dto.SignupRequest;
+import com.ticket.userservice.dto.UserImportResponse;
+import com.ticket.userservice.repository.UserBulkInsertRepository;
+import com.ticket.userservice.repository.UserBulkInsertRepository.NewUser;
+import com.ticket.userservice.repository.UserRepository;
+import com.ticket.userservice.security.PasswordHasher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * NDJSON(한 줄에 SignupRequest 하나) 대량 가입.
+ * 줄 단위로 읽어 batch-size 만큼 모은 뒤 이메일 중복을 한 번에 조회하고,
+ * 비밀번호는 해싱 풀에서 병렬로 만들어 JDBC 배치로 넣는다. 실패한 줄은 기록만 하고 계속 진행한다.
+ */
+@Service
+@Slf4j
+public class UserImportService {
+
+    private final UserRepository userRepository;
+    private final UserBulkInsertRepository bulkInsertRepository;
+    private final PasswordHasher passwordHasher;
+    private final KnownEmailFilter knownEmailFilter;
+    private final ObjectReader signupReader;
+    private final int batchSize;
+    private final int hashConcurrency;
+    private final int maxReportedFailures;
+
+    public UserImportService(UserRepository userRepository,
+                             UserBulkInsertRepository bulkInsertRepository,
+                             PasswordHasher passwordHasher,
+                             KnownEmailFilter knownEmailFilter,
+                             ObjectMapper objectMapper,
+                             @Value("${user.import.batch-size:500}") int batchSize,
+                             @Value("${user.import.hash-concurrency:32}") int hashConcurrency,
+                             @Value("${user.import.max-reported-failures:1000}") int maxReportedFailures) {
+        this.userRepository = userRepository;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.passwordHasher = passwordHasher;
+        this.knownEmailFilter = knownEmailFilter;
+        this.signupReader = objectMapper.readerFor(SignupRequest.class);
+        this.batchSize = batchSize;
+        this.hashConcurrency = hashConcurrency;
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    public UserImportResponse importUsers(InputStream body) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        List<Row> chunk = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                Row row = parse(lineNumber, line, progress);
+                if (row == null) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() >= batchSize) {
+                    importChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, progress);
+        }
+
+        log.info("대량 가입 완료 - imported: {}, failed: {}", progress.imported, progress.failed);
+        return new UserImportResponse(progress.imported, progress.failed, progress.failures);
+    }
+
+    private Row parse(long lineNumber, String line, ImportProgress progress) {
+        SignupRequest request;
+        try {
+            request = signupReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            progress.fail(lineNumber, null, "Malformed JSON");
+            return null;
+        }
+
+        if (isBlank(request.getEmail()) || isBlank(request.getPassword()) || isBlank(request.getName())) {
+            progress.fail(lineNumber, request.getEmail(), "Missing required field");
+            return null;
+        }
+        return new Row(lineNumber, request);
+    }
+
+    private void importChunk(List<Row> chunk, ImportProgress progress) {
+        // 같은 배치 안의 중복은 첫 줄만 남긴다.
+        Map<String, Row> unique = new LinkedHashMap<>();
+        for (Row row : chunk) {
+            if (unique.putIfAbsent(row.request().getEmail(), row) != null) {
+                progress.fail(row.line(), row.request().getEmail(), "Duplicate email in import");
+            }
+        }
+
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(unique.keySet()));
+        List<Row> candidates = new ArrayList<>(unique.size());
+        for (Row row : unique.values()) {
+            if (existing.contains(row.request().getEmail())) {
+                progress.fail(row.line(), row.request().getEmail(), "Email already exists");
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<HashedRow> hashed = hashAll(candidates, progress);
+        if (hashed.isEmpty()) {
+            return;
+        }
+
+        try {
+            bulkInsertRepository.insertAll(hashed.stream().map(HashedRow::user).toList());
+            progress.imported += hashed.size();
+            hashed.forEach(row -> knownEmailFilter.put(row.user().email()));
+        } catch (DataAccessException e) {
+            // 조회 이후 다른 요청이 먼저 가입했을 수 있다. 어느 줄이 문제인지 가리기 위해 한 줄씩 다시 넣는다.
+            log.warn("배치 insert 실패 - 한 건씩 재시도: {}", e.getMessage());
+            insertOneByOne(hashed, progress);
+        }
+    }
+
+    // 해싱 풀은 로그인과 같이 쓰므로 동시에 맡기는 작업 수를 hash-concurrency 로 제한한다.
+    private List<HashedRow> hashAll(List<Row> rows, ImportProgress progress) {
+        Semaphore permits = new Semaphore(hashConcurrency);
+        List<CompletableFuture<String>> futures = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            permits.acquireUninterruptibly();
+            CompletableFuture<String> future = submitEncode(row.request().getPassword());
+            future.whenComplete((encoded, e) -> permits.release());
+            futures.add(future);
+        }
+
+        List<HashedRow> hashed = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            try {
+                String encoded = futures.get(i).join();
+                hashed.add(new HashedRow(row.line(), new NewUser(row.request().getEmail(), encoded, row.request().getName())));
+            } catch (CompletionException e) {
+                progress.fail(row.line(), row.request().getEmail(), "Password hashing failed");
+            }
+        }
+        return hashed;
+    }
+
+    private CompletableFuture<String> submitEncode(String rawPassword) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return passwordHasher.encode(rawPassword);
+            } catch (TaskRejectedException e) {
+                if (attempt >= 5) {
+                    return CompletableFuture.failedFuture(e);
+                }
+                try {
+                    Thread.sleep(50L << attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return CompletableFuture.failedFuture(ie);
+                }
+            }
+        }
+    }
+
+    private void insertOneByOne(List<HashedRow> rows, ImportProgress progress) {
+        for (HashedRow row : rows) {
+            try {
+                bulkInsertRepository.insert(row.user());
+                progress.imported++;
+                knownEmailFilter.put(row.user().email());
+            } catch (DuplicateKeyException e) {
+                progress.fail(row.line(), row.user().email(), "Email already exists");
+            } catch (DataAccessException e) {
+                progress.fail(row.line(), row.user().email(), "Insert failed");
+            }
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record Row(long line, SignupRequest request) {
+    }
+
+    private record HashedRow(long line, NewUser user) {
+    }
+
+    private class ImportProgress {
+        private int imported;
+        private int failed;
+        private final List<UserImportResponse.Failure> failures = new ArrayList<>();
+
+        // 실패 건수는 모두 세지만 응답에 담는 상세 내역은 max-reported-failures 까지만.
+        void fail(long line, String email, String reason) {
+            failed++;
+            if (failures.size() < maxReportedFailures) {
+                failures.add(new UserImportResponse.Failure(line, email, reason));
+            }
+        }
+    }
+}
@@ -1,51 +1,131 @@
 package com.ticket.userservice.service;
 
 import com.ticket.userservice.domain.User;
+import com.ticket.userservice.domain.UserRole;
+import com.ticket.userservice.dto.LoginResponse;
 import com.ticket.userservice.repository.UserRepository;
+import com.ticket.userservice.security.PasswordHasher;
 import com.ticket.userservice.security.jwt.JwtProvider;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.ticket.userservice.security.jwt.RefreshTokenStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtProvider jwtProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserCache userCache;
+    private final KnownEmailFilter knownEmailFilter;
+    private final ThreadPoolTaskExecutor blockingExecutor;
+
+    public UserService(UserRepository userRepository,
+                       PasswordHasher passwordHasher,
+                       JwtProvider jwtProvider,
+                       RefreshTokenStore refreshTokenStore,
+                       UserCache userCache,
+                       KnownEmailFilter knownEmailFilter,
+                       @Qualifier("userBlockingExecutor") ThreadPoolTaskExecutor blockingExecutor) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.jwtProvider = jwtProvider;
+        this.refreshTokenStore = refreshTokenStore;
+        this.userCache = userCache;
+        this.knownEmailFilter = knownEmailFilter;
+        this.blockingExecutor = blockingExecutor;
+    }
 
-    @Transactional(readOnly = true)
-    public String login(String email, String password) {
-        User user = userRepository.findByEmail(email)
+    // 비밀번호 검증은 해싱 전용 풀에서 수행하고, 토큰 발급(Redis)은 블로킹 풀로 넘긴다. 요청 스레드는 바로 반환된다.
+    public CompletableFuture<LoginResponse> login(String email, String password) {
+        User user = userCache.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new IllegalArgumentException("Invalid password");
-        }
+        return passwordHasher.matches(password, user.getPassword())
+                .thenApplyAsync(matched -> {
+                    if (!matched) {
+                        throw new IllegalArgumentException("Invalid password");
+                    }
+                    rehashIfNeeded(user, password);
+                    return issueTokens(user.getEmail(), user.getRole());
+                }, blockingExecutor);
+    }
 
-        return jwtProvider.createToken(user.getEmail(), user.getRole());
+    // 리프레시 토큰은 한 번 쓰면 폐기되고 새 토큰으로 교체된다. 비밀번호 해시는 보지 않는다.
+    public LoginResponse refresh(String refreshToken) {
+        // 본문에 토큰이 없거나 비어 있으면 저장소를 조회하지 않고 잘못된 토큰과 같은 오류로 끝낸다.
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        RefreshTokenStore.RefreshSession session = refreshTokenStore.consume(refreshToken)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+        return issueTokens(session.email(), session.role());
     }
 
     @Transactional
-    public void logout(String token) {
+    public void logout(String token, String refreshToken) {
         // JWT 토큰을 블랙리스트에 추가
         jwtProvider.invalidateToken(token);
+        if (refreshToken != null) {
+            refreshTokenStore.revoke(refreshToken);
+        }
     }
 
-    @Transactional
-    public void signup(String email, String password, String name) {
-        if (userRepository.findByEmail(email).isPresent()) {
+    // 필터에 없는 이메일은 DB 확인 없이 바로 insert 하고, 놓친 중복은 유니크 인덱스로 거른다.
+    // 해싱 풀에서는 해싱만 하고 save 는 블로킹 풀에서 한다. 해싱을 기다리는 동안 커넥션을 잡지 않도록 트랜잭션은 save 한 번으로 끝낸다.
+    public CompletableFuture<Void> signup(String email, String password, String name) {
+        if (knownEmailFilter.mightContain(email) && userRepository.existsByEmail(email)) {
             throw new IllegalArgumentException("Email already exists");
         }
 
-        User user = User.builder()
-                .email(email)
-                .password(passwordEncoder.encode(password))
-                .name(name)
-                .build();
+        return passwordHasher.encode(password)
+                .thenAcceptAsync(encoded -> {
+                    User user = User.builder()
+                            .email(email)
+                            .password(encoded)
+                            .name(name)
+                            .build();
+                    try {
+                        userRepository.save(user);
+                    } catch (DataIntegrityViolationException e) {
+                        throw new IllegalArgumentException("Email already exists");
+                    }
+                    knownEmailFilter.put(email);
+                }, blockingExecutor);
+    }
+
+    private LoginResponse issueTokens(String email, UserRole role) {
+        return new LoginResponse(jwtProvider.createToken(email, role), refreshTokenStore.issue(email, role));
+    }
 
-        userRepository.save(user);
+    // 저장된 해시의 cost 가 설정과 다르면 로그인 성공 시점에 조용히 다시 해싱한다.
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+
+        try {
+            passwordHasher.encode(rawPassword)
+                    .thenAcceptAsync(encoded -> {
+                        // 캐시된 User 는 여러 요청이 공유하므로 직접 바꾸지 않고 DB 만 갱신한다.
+                        userRepository.updatePassword(user.getId(), encoded);
+                        userCache.invalidate(user.getEmail());
+                    }, blockingExecutor)
+                    .exceptionally(e -> {
+                        log.warn("Password rehash failed - userId: {}", user.getId(), e);
+                        return null;
+                    });
+        } catch (TaskRejectedException e) {
+            // 해싱 풀이 바쁘면 다음 로그인 때 다시 시도한다.
+            log.debug("Password rehash skipped - userId: {}", user.getId());
+        }
     }
-}
\ No newline at end of file
+}